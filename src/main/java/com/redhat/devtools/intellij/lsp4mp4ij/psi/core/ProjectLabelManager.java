@@ -17,8 +17,11 @@ import com.intellij.openapi.module.ModuleManager;
 import com.intellij.openapi.project.DumbService;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.project.ProjectManager;
+import com.intellij.openapi.roots.ProjectRootManager;
 import com.intellij.openapi.util.Computable;
 import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaProjectLabelsParams;
@@ -26,6 +29,7 @@ import org.eclipse.lsp4mp.commons.ProjectLabelInfoEntry;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -113,16 +117,9 @@ public class ProjectLabelManager {
 	 * @return the project labels for the given project.
 	 */
 	private List<String> getProjectLabels(Module project, List<String> types, IPsiUtils utils) {
-		// Update labels by using the
-		// "com.redhat.microprofile.jdt.core.projectLabelProviders" extension point (ex
-		// : "maven", "gradle", "quarkus", "microprofile").
-		List<String> projectLabels = new ArrayList<>();
-		List<IProjectLabelProvider> definitions = IProjectLabelProvider.EP_NAME.getExtensionList();
-		for (IProjectLabelProvider definition : definitions) {
-			projectLabels.addAll(definition.getProjectLabels(project));
-		}
+		List<String> projectLabels = new ArrayList<>(getModuleLabels(project));
 		// Update labels by checking if some Java types are in the classpath of the Java
-		// project.
+		// project (the class lookups are cached by PsiClassLookupCache).
 		if (types != null) {
 			for (String type : types) {
 				if (utils.findClass(project, type) != null) {
@@ -134,4 +131,29 @@ public class ProjectLabelManager {
 		return projectLabels;
 	}
 
+	/**
+	 * Returns the labels of the project label providers for the given module,
+	 * computed once until the project roots (modules, classpath) change.
+	 *
+	 * @param project the Eclipse project.
+	 * @return the labels of the given module.
+	 */
+	private static List<String> getModuleLabels(Module project) {
+		return CachedValuesManager.getManager(project.getProject()).getCachedValue(project,
+				() -> CachedValueProvider.Result.create(computeProjectLabels(project),
+						ProjectRootManager.getInstance(project.getProject())));
+	}
+
+	private static List<String> computeProjectLabels(Module project) {
+		// Update labels by using the
+		// "com.redhat.microprofile.jdt.core.projectLabelProviders" extension point (ex
+		// : "maven", "gradle", "quarkus", "microprofile").
+		List<String> projectLabels = new ArrayList<>();
+		List<IProjectLabelProvider> definitions = IProjectLabelProvider.EP_NAME.getExtensionList();
+		for (IProjectLabelProvider definition : definitions) {
+			projectLabels.addAll(definition.getProjectLabels(project));
+		}
+		return Collections.unmodifiableList(projectLabels);
+	}
+
 }
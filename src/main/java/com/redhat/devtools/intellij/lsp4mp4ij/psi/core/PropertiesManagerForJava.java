@@ -15,9 +15,7 @@ import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.progress.ProgressIndicator;
-import com.intellij.openapi.project.DumbService;
 import com.intellij.openapi.util.Computable;
-import com.intellij.openapi.util.ThrowableComputable;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiDocumentManager;
 import com.intellij.psi.PsiElement;
@@ -34,6 +32,7 @@ import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.completion.JavaCompl
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.definition.IJavaDefinitionParticipant;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.definition.JavaDefinitionContext;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.MultiDocumentExecutor;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.diagnostics.IJavaDiagnosticsParticipant;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsContext;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.hover.IJavaHoverParticipant;
@@ -280,55 +279,56 @@ public class PropertiesManagerForJava {
     /**
      * Returns diagnostics for the given uris list.
      *
-     * @param params the diagnostics parameters
-     * @param utils  the utilities class
+     * @param params  the diagnostics parameters
+     * @param utils   the utilities class
+     * @param monitor the progress monitor
      * @return diagnostics for the given uris list.
      */
-    public List<PublishDiagnosticsParams> diagnostics(MicroProfileJavaDiagnosticsParams params, IPsiUtils utils) {
+    public List<PublishDiagnosticsParams> diagnostics(MicroProfileJavaDiagnosticsParams params, IPsiUtils utils,
+                                                      ProgressIndicator monitor) {
         List<String> uris = params.getUris();
         if (uris == null) {
             return Collections.emptyList();
         }
         DocumentFormat documentFormat = params.getDocumentFormat();
-        List<PublishDiagnosticsParams> publishDiagnostics = new ArrayList<PublishDiagnosticsParams>();
-        for (String uri : uris) {
+        // The diagnostics of each Java file are collected in parallel
+        return MultiDocumentExecutor.getInstance().computeAll(utils.getProject(), uris, uri -> {
             List<Diagnostic> diagnostics = new ArrayList<>();
-            PublishDiagnosticsParams publishDiagnostic = new PublishDiagnosticsParams(uri, diagnostics);
-            publishDiagnostics.add(publishDiagnostic);
             collectDiagnostics(uri, utils, documentFormat, params.getSettings(), diagnostics);
-        }
-        return publishDiagnostics;
+            return new PublishDiagnosticsParams(uri, diagnostics);
+        }, monitor);
     }
 
     private void collectDiagnostics(String uri, IPsiUtils utils, DocumentFormat documentFormat,
                                     MicroProfileJavaDiagnosticsSettings settings, List<Diagnostic> diagnostics) {
-        PsiFile typeRoot = ApplicationManager.getApplication().runReadAction((Computable<PsiFile>) () -> resolveTypeRoot(uri, utils));
+        PsiFile typeRoot = resolveTypeRoot(uri, utils);
         if (typeRoot == null) {
             return;
         }
 
         try {
-            Module module = ApplicationManager.getApplication().runReadAction((ThrowableComputable<Module, IOException>) () -> utils.getModule(uri));
-            DumbService.getInstance(module.getProject()).runReadActionInSmartMode(() -> {
-                // Collect all adapted diagnostics participant
-                JavaDiagnosticsContext context = new JavaDiagnosticsContext(uri, typeRoot, utils, module, documentFormat, settings);
-                List<IJavaDiagnosticsParticipant> definitions = IJavaDiagnosticsParticipant.EP_NAME.extensions()
-                        .filter(definition -> definition.isAdaptedForDiagnostics(context))
-                        .collect(Collectors.toList());
-                if (definitions.isEmpty()) {
-                    return;
-                }
+            Module module = utils.getModule(uri);
+            if (module == null) {
+                return;
+            }
+            // Collect all adapted diagnostics participant
+            JavaDiagnosticsContext context = new JavaDiagnosticsContext(uri, typeRoot, utils, module, documentFormat, settings);
+            List<IJavaDiagnosticsParticipant> definitions = IJavaDiagnosticsParticipant.EP_NAME.extensions()
+                    .filter(definition -> definition.isAdaptedForDiagnostics(context))
+                    .collect(Collectors.toList());
+            if (definitions.isEmpty()) {
+                return;
+            }
 
-                // Begin, collect, end participants
-                definitions.forEach(definition -> definition.beginDiagnostics(context));
-                definitions.forEach(definition -> {
-                    List<Diagnostic> collectedDiagnostics = definition.collectDiagnostics(context);
-                    if (collectedDiagnostics != null && !collectedDiagnostics.isEmpty()) {
-                        diagnostics.addAll(collectedDiagnostics);
-                    }
-                });
-                definitions.forEach(definition -> definition.endDiagnostics(context));
+            // Begin, collect, end participants
+            definitions.forEach(definition -> definition.beginDiagnostics(context));
+            definitions.forEach(definition -> {
+                List<Diagnostic> collectedDiagnostics = definition.collectDiagnostics(context);
+                if (collectedDiagnostics != null && !collectedDiagnostics.isEmpty()) {
+                    diagnostics.addAll(collectedDiagnostics);
+                }
             });
+            definitions.forEach(definition -> definition.endDiagnostics(context));
         } catch (IOException e) {
             LOGGER.warn(e.getLocalizedMessage(), e);
         }
@@ -15,6 +15,7 @@ package com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.validators;
 
 import com.intellij.openapi.extensions.ExtensionPointName;
 import com.intellij.psi.JavaRecursiveElementVisitor;
+import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.diagnostics.IJavaErrorCode;
@@ -48,6 +49,15 @@ import java.util.logging.Logger;
  * </code></li>
  * </ul>
  * 
+ * <p>
+ * By default, a validator is given the top-level classes of the compilation
+ * unit and visits their children itself (ex: with the default recursive visit
+ * or <code>acceptChildren(this)</code>). A validator which returns false from
+ * {@link #visitsChildren()} must not visit the children: it is given each
+ * member class, method and annotation of a single traversal shared with the
+ * other validators, and {@link #endVisitClass(PsiClass)} is called when the
+ * children of a class have been visited.
+ * </p>
  * 
  * @author Angelo ZERR
  *
@@ -98,6 +108,29 @@ public class JavaASTValidator extends JavaRecursiveElementVisitor implements Clo
 		return true;
 	}
 
+	/**
+	 * Returns true if this validator visits the children of the top-level
+	 * classes itself and false if it relies on the shared traversal of the AST.
+	 *
+	 * <p>
+	 * True by default, for the validators which visit the children themselves.
+	 * </p>
+	 *
+	 * @return true if this validator visits the children of the top-level classes
+	 *         itself and false otherwise.
+	 */
+	public boolean visitsChildren() {
+		return true;
+	}
+
+	/**
+	 * Called when the given class and its children have been visited.
+	 *
+	 * @param node the visited class.
+	 */
+	public void endVisitClass(PsiClass node) {
+	}
+
 	public Diagnostic addDiagnostic(String message, String source, PsiElement node, IJavaErrorCode code,
 									DiagnosticSeverity severity) {
 		return addDiagnostic(message, source, node.getTextOffset(), node.getTextLength(), code, severity);
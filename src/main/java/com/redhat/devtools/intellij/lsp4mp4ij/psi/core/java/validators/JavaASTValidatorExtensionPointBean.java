@@ -16,6 +16,7 @@ import com.intellij.openapi.extensions.PluginDescriptor;
 import com.intellij.util.xmlb.annotations.Attribute;
 import org.jetbrains.annotations.NotNull;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 
 public class JavaASTValidatorExtensionPointBean implements PluginAware {
@@ -24,12 +25,20 @@ public class JavaASTValidatorExtensionPointBean implements PluginAware {
     @Attribute
     public String implementation;
 
+    private volatile Constructor<? extends JavaASTValidator> constructor;
+
     @Override
     public void setPluginDescriptor(@NotNull PluginDescriptor pluginDescriptor) {
         this.pluginDescriptor = pluginDescriptor;
     }
 
     public JavaASTValidator createValidator() throws ClassNotFoundException, NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
-        return (JavaASTValidator) pluginDescriptor.getPluginClassLoader().loadClass(implementation).getConstructor(new Class[0]).newInstance(new Object[0]);
+        // The class is loaded one time, only the (stateful) validator is created for each validation
+        Constructor<? extends JavaASTValidator> constructor = this.constructor;
+        if (constructor == null) {
+            constructor = pluginDescriptor.getPluginClassLoader().loadClass(implementation).asSubclass(JavaASTValidator.class).getConstructor();
+            this.constructor = constructor;
+        }
+        return constructor.newInstance();
     }
 }
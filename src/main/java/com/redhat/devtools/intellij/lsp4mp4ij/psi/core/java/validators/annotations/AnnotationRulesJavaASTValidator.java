@@ -47,6 +47,11 @@ public class AnnotationRulesJavaASTValidator extends JavaASTValidator {
 		this.rules = rules;
 	}
 
+	@Override
+	public boolean visitsChildren() {
+		return false;
+	}
+
 	@Override
 	public void visitAnnotation(PsiAnnotation annotation) {
 		// Loop for rules
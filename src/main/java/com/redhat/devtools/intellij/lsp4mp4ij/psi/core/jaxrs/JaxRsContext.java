@@ -13,18 +13,7 @@
 *******************************************************************************/
 package com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs;
 
-import com.intellij.psi.PsiClass;
-import com.intellij.psi.search.searches.AnnotatedElementsSearch;
-import com.intellij.util.Query;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.codelens.JavaCodeLensContext;
-import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.AnnotationUtils;
-import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils;
-
-import java.util.concurrent.atomic.AtomicReference;
-import java.util.function.Consumer;
-
-import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsUtils.getJaxRsApplicationPathValue;
-import static com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.jaxrs.JaxRsConstants.JAVAX_WS_RS_APPLICATIONPATH_ANNOTATION;
 
 /**
  * JAX-RS context.
@@ -80,15 +69,13 @@ public class JaxRsContext {
 	}
 
 	/**
-	 * Get the @ApplicationPath annotation value
+	 * Get the @ApplicationPath annotation value from the JAX-RS endpoint index
 	 *
 	 * @return the @ApplicationPath annotation value
 	 */
 	public String getApplicationPath() {
 		if (applicationPath == null) {
-			PsiClass applicationPathType = PsiTypeUtils.findType(javaCodeLensContext.getJavaProject(),
-					JAVAX_WS_RS_APPLICATIONPATH_ANNOTATION);
-			applicationPath = findApplicationPath(applicationPathType, javaCodeLensContext);
+			applicationPath = JaxRsEndpoints.getApplicationPath(javaCodeLensContext.getJavaProject());
 		}
 		return applicationPath;
 	}
@@ -130,27 +117,4 @@ public class JaxRsContext {
 		}
 		return localBaseURL.toString();
 	}
-
-	/**
-	 * Use the java search engine to search the java project for the location and
-	 * value of the @ApplicationPath annotation, or null if not found
-	 *
-	 * @param annotationType the type representing the @ApplicationPath annotation
-	 * @param context        the java code lens context
-	 * @return the value of the @ApplicationPath annotation, or null if not found
-	 */
-	private static String findApplicationPath(PsiClass annotationType, JavaCodeLensContext context) {
-		AtomicReference<String> applicationPathRef = new AtomicReference<String>();
-
-		Query<PsiClass> pattern = AnnotatedElementsSearch.searchElements(annotationType, context.getJavaProject().getModuleWithDependenciesScope(),
-				PsiClass.class);
-		pattern.forEach((Consumer<? super PsiClass>) match -> collectApplicationPath(match, applicationPathRef));
-		return applicationPathRef.get();
-	}
-
-	private static void collectApplicationPath(PsiClass type, AtomicReference<String> applicationPathRef) {
-		if (AnnotationUtils.hasAnnotation(type, JAVAX_WS_RS_APPLICATIONPATH_ANNOTATION)) {
-			applicationPathRef.set(getJaxRsApplicationPathValue(type));
-		}
-	}
 }
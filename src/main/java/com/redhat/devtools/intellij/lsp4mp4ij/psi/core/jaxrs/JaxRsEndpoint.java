@@ -0,0 +1,198 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * JAX-RS resource method as stored in the JAX-RS endpoint index.
+ */
+public class JaxRsEndpoint {
+
+	private final String httpMethod;
+
+	private final String resourcePath;
+
+	private final String methodPath;
+
+	private final List<String> produces;
+
+	private final List<String> consumes;
+
+	private final String declaringClass;
+
+	private final String methodName;
+
+	private final int anchorOffset;
+
+	private final int anchorLength;
+
+	private transient Pattern pattern;
+
+	public JaxRsEndpoint(String httpMethod, String resourcePath, String methodPath, List<String> produces,
+			List<String> consumes, String declaringClass, String methodName, int anchorOffset, int anchorLength) {
+		this.httpMethod = httpMethod;
+		this.resourcePath = resourcePath;
+		this.methodPath = methodPath;
+		this.produces = produces != null ? produces : Collections.emptyList();
+		this.consumes = consumes != null ? consumes : Collections.emptyList();
+		this.declaringClass = declaringClass;
+		this.methodName = methodName;
+		this.anchorOffset = anchorOffset;
+		this.anchorLength = anchorLength;
+	}
+
+	/**
+	 * Returns the HTTP method (GET, POST, ...) of the resource method.
+	 *
+	 * @return the HTTP method of the resource method.
+	 */
+	public String getHttpMethod() {
+		return httpMethod;
+	}
+
+	/**
+	 * Returns the value of the class @Path annotation.
+	 *
+	 * @return the value of the class @Path annotation.
+	 */
+	public String getResourcePath() {
+		return resourcePath;
+	}
+
+	/**
+	 * Returns the value of the method @Path annotation and null otherwise.
+	 *
+	 * @return the value of the method @Path annotation and null otherwise.
+	 */
+	public String getMethodPath() {
+		return methodPath;
+	}
+
+	/**
+	 * Returns the path template of the resource method (class and method @Path
+	 * values) without the application path.
+	 *
+	 * @return the path template of the resource method.
+	 */
+	public String getPathTemplate() {
+		String path = JaxRsUtils.buildURL(resourcePath, methodPath);
+		return path.startsWith("/") ? path : "/" + path;
+	}
+
+	public List<String> getProduces() {
+		return produces;
+	}
+
+	public List<String> getConsumes() {
+		return consumes;
+	}
+
+	public String getDeclaringClass() {
+		return declaringClass;
+	}
+
+	public String getMethodName() {
+		return methodName;
+	}
+
+	/**
+	 * Returns the offset of the last annotation of the resource method, used to
+	 * place the URL code lens.
+	 *
+	 * @return the offset of the last annotation of the resource method.
+	 */
+	public int getAnchorOffset() {
+		return anchorOffset;
+	}
+
+	public int getAnchorLength() {
+		return anchorLength;
+	}
+
+	/**
+	 * Returns true if the URL code lens of this resource method can be opened in
+	 * a browser (@GET method) and false otherwise.
+	 *
+	 * @return true if the URL code lens of this resource method can be opened in
+	 *         a browser and false otherwise.
+	 */
+	public boolean isClickable() {
+		return "GET".equals(httpMethod);
+	}
+
+	/**
+	 * Returns true if the given path (without the application path) matches the
+	 * path template of this resource method and false otherwise.
+	 *
+	 * @param path the path to match
+	 * @return true if the given path matches the path template of this resource
+	 *         method and false otherwise.
+	 */
+	public boolean matches(String path) {
+		if (pattern == null) {
+			pattern = createPattern(getPathTemplate());
+		}
+		return pattern.matcher(path.startsWith("/") ? path : "/" + path).matches();
+	}
+
+	private static Pattern createPattern(String template) {
+		StringBuilder regex = new StringBuilder();
+		int start = 0;
+		int open = template.indexOf('{');
+		while (open != -1) {
+			int close = template.indexOf('}', open);
+			if (close == -1) {
+				break;
+			}
+			regex.append(Pattern.quote(template.substring(start, open)));
+			regex.append("[^/]+");
+			start = close + 1;
+			open = template.indexOf('{', start);
+		}
+		regex.append(Pattern.quote(template.substring(start)));
+		regex.append("/?");
+		return Pattern.compile(regex.toString());
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		JaxRsEndpoint that = (JaxRsEndpoint) o;
+		return anchorOffset == that.anchorOffset && anchorLength == that.anchorLength
+				&& Objects.equals(httpMethod, that.httpMethod) && Objects.equals(resourcePath, that.resourcePath)
+				&& Objects.equals(methodPath, that.methodPath) && produces.equals(that.produces)
+				&& consumes.equals(that.consumes) && Objects.equals(declaringClass, that.declaringClass)
+				&& Objects.equals(methodName, that.methodName);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(httpMethod, resourcePath, methodPath, produces, consumes, declaringClass, methodName,
+				anchorOffset, anchorLength);
+	}
+
+	@Override
+	public String toString() {
+		return httpMethod + " " + getPathTemplate() + " -> " + declaringClass + "#" + methodName;
+	}
+}
@@ -0,0 +1,158 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.jaxrs.JaxRsEndpointIndex;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Queries of the JAX-RS endpoint index.
+ */
+public class JaxRsEndpoints {
+
+	private JaxRsEndpoints() {
+
+	}
+
+	/**
+	 * Returns the JAX-RS resource methods declared in the given file, sorted by
+	 * offset.
+	 *
+	 * @param file    the Java file.
+	 * @param project the project.
+	 * @return the JAX-RS resource methods declared in the given file.
+	 */
+	public static List<JaxRsEndpoint> getEndpoints(VirtualFile file, Project project) {
+		List<JaxRsEndpoint> endpoints = new ArrayList<>();
+		Map<String, List<JaxRsEndpoint>> data = FileBasedIndex.getInstance().getFileData(JaxRsEndpointIndex.NAME, file,
+				project);
+		for (Map.Entry<String, List<JaxRsEndpoint>> entry : data.entrySet()) {
+			if (!JaxRsEndpointIndex.APPLICATION_PATH_KEY.equals(entry.getKey())) {
+				endpoints.addAll(entry.getValue());
+			}
+		}
+		endpoints.sort(Comparator.comparingInt(JaxRsEndpoint::getAnchorOffset));
+		return endpoints;
+	}
+
+	/**
+	 * Returns the value of the @ApplicationPath annotation visible from the given
+	 * module and null otherwise.
+	 *
+	 * @param module the module.
+	 * @return the value of the @ApplicationPath annotation and null otherwise.
+	 */
+	public static String getApplicationPath(Module module) {
+		List<List<JaxRsEndpoint>> values = FileBasedIndex.getInstance().getValues(JaxRsEndpointIndex.NAME,
+				JaxRsEndpointIndex.APPLICATION_PATH_KEY, module.getModuleWithDependenciesScope());
+		for (List<JaxRsEndpoint> applicationPaths : values) {
+			for (JaxRsEndpoint applicationPath : applicationPaths) {
+				return applicationPath.getResourcePath();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the JAX-RS resource methods of the given scope matching the given
+	 * path. The path must not contain the root path and the application path (see
+	 * {@link #toResourcePath(String, String, String)}).
+	 *
+	 * @param path    the path (ex : /hello/greeting/world).
+	 * @param project the project.
+	 * @param scope   the search scope.
+	 * @return the JAX-RS resource methods matching the given path.
+	 */
+	public static List<JaxRsEndpoint> findEndpoints(String path, Project project, GlobalSearchScope scope) {
+		List<JaxRsEndpoint> endpoints = new ArrayList<>();
+		FileBasedIndex index = FileBasedIndex.getInstance();
+		for (String template : index.getAllKeys(JaxRsEndpointIndex.NAME, project)) {
+			if (JaxRsEndpointIndex.APPLICATION_PATH_KEY.equals(template)) {
+				continue;
+			}
+			index.processValues(JaxRsEndpointIndex.NAME, template, null, (file, values) -> {
+				for (JaxRsEndpoint endpoint : values) {
+					if (endpoint.matches(path)) {
+						endpoints.add(endpoint);
+					}
+				}
+				return true;
+			}, scope);
+		}
+		return endpoints;
+	}
+
+	/**
+	 * Returns the resource methods of the given scope which declare the same HTTP
+	 * method for the same path template, grouped by "HTTP method + path template".
+	 *
+	 * @param project the project.
+	 * @param scope   the search scope.
+	 * @return the conflicting resource methods.
+	 */
+	public static Map<String, List<JaxRsEndpoint>> findConflicts(Project project, GlobalSearchScope scope) {
+		Map<String, List<JaxRsEndpoint>> conflicts = new HashMap<>();
+		FileBasedIndex index = FileBasedIndex.getInstance();
+		for (String template : index.getAllKeys(JaxRsEndpointIndex.NAME, project)) {
+			if (JaxRsEndpointIndex.APPLICATION_PATH_KEY.equals(template)) {
+				continue;
+			}
+			Map<String, List<JaxRsEndpoint>> byHttpMethod = new HashMap<>();
+			for (List<JaxRsEndpoint> values : index.getValues(JaxRsEndpointIndex.NAME, template, scope)) {
+				for (JaxRsEndpoint endpoint : values) {
+					byHttpMethod.computeIfAbsent(endpoint.getHttpMethod() + " " + template, k -> new ArrayList<>())
+							.add(endpoint);
+				}
+			}
+			byHttpMethod.values().removeIf(endpoints -> endpoints.size() < 2);
+			conflicts.putAll(byHttpMethod);
+		}
+		return conflicts;
+	}
+
+	/**
+	 * Removes the root path (quarkus.http.root-path) and the application path
+	 * from the given URL path.
+	 *
+	 * @param urlPath         the path of the URL (ex : /api/hello).
+	 * @param rootPath        the root path and null otherwise.
+	 * @param applicationPath the @ApplicationPath value and null otherwise.
+	 * @return the path relative to the JAX-RS application.
+	 */
+	public static String toResourcePath(String urlPath, String rootPath, String applicationPath) {
+		String path = urlPath;
+		for (String prefix : new String[] { rootPath, applicationPath }) {
+			if (prefix == null || prefix.isEmpty()) {
+				continue;
+			}
+			String normalized = "/" + JaxRsUtils.buildURL(prefix).replaceAll("^/+|/+$", "");
+			if (path.equals(normalized)) {
+				path = "/";
+			} else if (path.startsWith(normalized + "/")) {
+				path = path.substring(normalized.length());
+			}
+		}
+		return path;
+	}
+}
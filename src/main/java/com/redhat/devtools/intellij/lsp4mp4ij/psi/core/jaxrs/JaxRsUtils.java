@@ -16,6 +16,7 @@ package com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs;
 import com.intellij.openapi.util.TextRange;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiMethod;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import org.eclipse.lsp4j.CodeLens;
@@ -127,15 +128,37 @@ public class JaxRsUtils {
 		return lens;
 	}
 
+	/**
+	 * Create URL CodeLens from an entry of the JAX-RS endpoint index.
+	 *
+	 * @param baseURL          the base URL.
+	 * @param openURICommandId the open URI command and null otherwise.
+	 * @param endpoint         the indexed resource method.
+	 * @param file             the file which declares the resource method.
+	 * @param utils            the JDT utilities.
+	 * @return the code lens.
+	 */
+	public static CodeLens createURLCodeLens(String baseURL, String openURICommandId, JaxRsEndpoint endpoint,
+			PsiFile file, IPsiUtils utils) {
+		CodeLens lens = createURLCodeLens(
+				utils.toRange(file, endpoint.getAnchorOffset(), endpoint.getAnchorLength()));
+		String url = buildURL(baseURL, endpoint.getResourcePath(), endpoint.getMethodPath());
+		lens.setCommand(
+				new Command(url, openURICommandId != null ? openURICommandId : "", Collections.singletonList(url)));
+		return lens;
+	}
+
 	private static CodeLens createURLCodeLens(PsiMethod method, IPsiUtils utils) {
 		PsiAnnotation[] annotations = method.getAnnotations();
 		if (annotations == null) {
 			return null;
 		}
 		TextRange r = annotations[annotations.length - 1].getTextRange();
+		return createURLCodeLens(utils.toRange(method, r.getStartOffset(), r.getLength()));
+	}
 
+	private static CodeLens createURLCodeLens(Range range) {
 		CodeLens lens = new CodeLens();
-		final Range range = utils.toRange(method, r.getStartOffset(), r.getLength());
 		// Increment line number for code lens to appear on the line right after the last annotation
 		Position codeLensPosition = new Position(range.getEnd().getLine() + 1, range.getEnd().getCharacter());
 		range.setStart(codeLensPosition);
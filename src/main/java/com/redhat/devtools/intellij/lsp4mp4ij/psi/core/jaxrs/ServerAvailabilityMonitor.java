@@ -0,0 +1,213 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs;
+
+import com.intellij.openapi.Disposable;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Monitor of the availability of local servers (ex : the Quarkus dev server
+ * used by the JAX-RS URL code lenses).
+ *
+ * <p>
+ * {@link #isAvailable(String, int)} never blocks: it returns the last known
+ * state of the (host, port), false while it is unknown, and starts probing it
+ * in the background if needed. The first probe runs immediately, then every
+ * <code>upDelay</code> ms while the server is up, and with an exponential
+ * backoff from <code>minDownDelay</code> to <code>maxDownDelay</code> ms while
+ * it is down. Probing stops when the state has not been asked for
+ * <code>idleTimeout</code> ms or when the monitor is disposed. Listeners are
+ * notified when the returned state changes, including when a server whose
+ * state was unknown is found up.
+ * </p>
+ *
+ */
+public class ServerAvailabilityMonitor implements Disposable {
+
+	private static final Logger LOGGER = Logger.getLogger(ServerAvailabilityMonitor.class.getName());
+
+	/**
+	 * Listener of the availability changes of a server.
+	 */
+	public interface Listener {
+
+		void availabilityChanged(String host, int port, boolean available);
+	}
+
+	private class Probe implements Runnable {
+
+		private final String host;
+
+		private final int port;
+
+		// A probe is scheduled or running
+		private final AtomicBoolean scheduled = new AtomicBoolean();
+
+		private volatile boolean available;
+
+		private volatile long lastRequest;
+
+		private int failures;
+
+		Probe(String host, int port) {
+			this.host = host;
+			this.port = port;
+		}
+
+		boolean isAvailable() {
+			lastRequest = now();
+			ensureScheduled();
+			return available;
+		}
+
+		void ensureScheduled() {
+			if (!disposed && scheduled.compareAndSet(false, true)) {
+				// The state may be unknown or outdated, probe it right now
+				executor.execute(this);
+			}
+		}
+
+		private long getDelay() {
+			return available ? upDelay
+					: Math.min(maxDownDelay, minDownDelay << Math.min(Math.max(failures - 1, 0), 16));
+		}
+
+		@Override
+		public void run() {
+			if (disposed) {
+				return;
+			}
+			boolean oldAvailable = available;
+			boolean newAvailable = connect(host, port, timeout);
+			available = newAvailable;
+			failures = newAvailable ? 0 : failures + 1;
+			if (oldAvailable != newAvailable) {
+				for (Listener listener : listeners) {
+					try {
+						listener.availabilityChanged(host, port, newAvailable);
+					} catch (Exception e) {
+						LOGGER.log(Level.WARNING, "Error while notifying server availability change", e);
+					}
+				}
+			}
+			if (!disposed && now() - lastRequest < idleTimeout) {
+				executor.schedule(this, getDelay(), TimeUnit.MILLISECONDS);
+			} else {
+				// The last state is kept, the next request probes it again
+				failures = 0;
+				scheduled.set(false);
+				if (now() - lastRequest < idleTimeout) {
+					// Asked for in the meantime
+					ensureScheduled();
+				}
+			}
+		}
+	}
+
+	private final Map<String, Probe> probes = new ConcurrentHashMap<>();
+
+	private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+	private final ScheduledExecutorService executor;
+
+	private final int timeout;
+
+	private final long upDelay;
+
+	private final long minDownDelay;
+
+	private final long maxDownDelay;
+
+	private final long idleTimeout;
+
+	private volatile boolean disposed;
+
+	/**
+	 * Creates a monitor.
+	 *
+	 * @param executor     the executor used to probe the servers.
+	 * @param timeout      the connect timeout in ms.
+	 * @param upDelay      the delay in ms between two probes while the server is
+	 *                     up.
+	 * @param minDownDelay the initial delay in ms between two probes while the
+	 *                     server is down.
+	 * @param maxDownDelay the maximum delay in ms between two probes while the
+	 *                     server is down.
+	 * @param idleTimeout  the delay in ms after which a server is no longer
+	 *                     probed when its state is not asked for.
+	 */
+	public ServerAvailabilityMonitor(ScheduledExecutorService executor, int timeout, long upDelay, long minDownDelay,
+			long maxDownDelay, long idleTimeout) {
+		this.executor = executor;
+		this.timeout = timeout;
+		this.upDelay = upDelay;
+		this.minDownDelay = minDownDelay;
+		this.maxDownDelay = maxDownDelay;
+		this.idleTimeout = idleTimeout;
+	}
+
+	/**
+	 * Returns the last known availability of the server for the given host and
+	 * port without blocking. The server is probed in the background and the
+	 * listeners are notified when the returned availability changes.
+	 *
+	 * @param host the host.
+	 * @param port the port.
+	 * @return the last known availability of the server and false if it is not
+	 *         known yet.
+	 */
+	public boolean isAvailable(String host, int port) {
+		return probes.computeIfAbsent(host + ":" + port, k -> new Probe(host, port)).isAvailable();
+	}
+
+	public void addListener(Listener listener) {
+		listeners.add(listener);
+	}
+
+	public void removeListener(Listener listener) {
+		listeners.remove(listener);
+	}
+
+	@Override
+	public void dispose() {
+		disposed = true;
+		listeners.clear();
+		probes.clear();
+	}
+
+	private static boolean connect(String host, int port, int timeout) {
+		try (Socket socket = new Socket()) {
+			socket.connect(new InetSocketAddress(host, port), timeout);
+			return true;
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	private static long now() {
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+	}
+}
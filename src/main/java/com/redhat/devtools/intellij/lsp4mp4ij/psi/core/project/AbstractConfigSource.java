@@ -10,6 +10,8 @@
 package com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project;
 
 import com.intellij.openapi.compiler.CompilerPaths;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.roots.ModuleRootManager;
 import com.intellij.openapi.vfs.VfsUtil;
@@ -17,8 +19,10 @@ import com.intellij.openapi.vfs.VirtualFile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
@@ -43,12 +47,86 @@ public abstract class AbstractConfigSource<T> implements IConfigSource {
 	private final int ordinal;
 
 	private final Module javaProject;
-	private VirtualFile outputConfigFile;
-	private VirtualFile sourceConfigFile;
-	private long lastModified = -1L;
-	private T config;
 
-	private Map<String, List<MicroProfileConfigPropertyInformation>> propertyInformations;
+	// The config files located in the module, published as a whole
+	private volatile ConfigFiles configFiles;
+
+	// The loaded config, published as a whole so that the readers never see a
+	// partially loaded state
+	private volatile ConfigState<T> state = ConfigState.empty();
+
+	// Serializes the loading of the config, the incremental loaders keep a model
+	// of the previous content
+	private final Object loadLock = new Object();
+
+	/**
+	 * The source config file (src/main/resources/$configFile) and the output
+	 * config file (target/classes/$configFile) of the module.
+	 */
+	private static class ConfigFiles {
+
+		private final VirtualFile sourceConfigFile;
+
+		private final VirtualFile outputConfigFile;
+
+		private ConfigFiles(VirtualFile sourceConfigFile, VirtualFile outputConfigFile) {
+			this.sourceConfigFile = sourceConfigFile;
+			this.outputConfigFile = outputConfigFile;
+		}
+
+		private boolean exists() {
+			return (sourceConfigFile == null || sourceConfigFile.exists())
+					&& (outputConfigFile == null || outputConfigFile.exists());
+		}
+
+		/**
+		 * Returns the output config file to get the filtered values, or the source
+		 * config file when it has been saved after the last build.
+		 */
+		private VirtualFile getConfigFile() {
+			if (outputConfigFile == null) {
+				return sourceConfigFile;
+			}
+			if (sourceConfigFile == null || outputConfigFile.getTimeStamp() >= sourceConfigFile.getTimeStamp()) {
+				return outputConfigFile;
+			}
+			return sourceConfigFile;
+		}
+	}
+
+	/**
+	 * The config loaded from a file or a document.
+	 */
+	private static class ConfigState<T> {
+
+		private static final ConfigState<?> EMPTY = new ConfigState<>(null, -1L, null);
+
+		// The file or the document from which the config has been loaded
+		private final Object loadedFrom;
+
+		private final long lastModified;
+
+		private final T config;
+
+		// Computed once per loaded config, recomputing it concurrently gives the same
+		// result
+		private volatile Map<String, List<MicroProfileConfigPropertyInformation>> propertyInformations;
+
+		private ConfigState(Object loadedFrom, long lastModified, T config) {
+			this.loadedFrom = loadedFrom;
+			this.lastModified = lastModified;
+			this.config = config;
+		}
+
+		@SuppressWarnings("unchecked")
+		private static <T> ConfigState<T> empty() {
+			return (ConfigState<T>) EMPTY;
+		}
+
+		private boolean isLoadedFrom(Object from, long modified) {
+			return loadedFrom == from && lastModified == modified;
+		}
+	}
 
 	public AbstractConfigSource(String configFileName, int ordinal, Module javaProject) {
 		this(configFileName, null, ordinal, javaProject);
@@ -67,59 +145,49 @@ public abstract class AbstractConfigSource<T> implements IConfigSource {
 		this.profile = profile;
 		this.ordinal = ordinal;
 		this.javaProject = javaProject;
-		// load config file to udpate some fields like lastModified, config instance
-		// which must be updated when the config source is created. It's important that
-		// those fields are initialized here (and not in lazy mode) to prevent from
-		// multi
-		// thread
-		// context.
-		init();
-	}
-
-	private void init() {
-		T config = getConfig();
-		if (config != null && propertyInformations == null) {
-			propertyInformations = loadPropertyInformations();
-		}
+		// load config file to udpate the config state which must be updated when the
+		// config source is created.
+		getConfig();
 	}
 
 	/**
-	 * Returns the target/classes/$configFile and null otherwise.
+	 * Returns the source and output config files of the module and null if the
+	 * module has no config file.
 	 * 
 	 * <p>
-	 * Using this file instead of using src/main/resources/$configFile gives the
-	 * capability to get the filtered value.
+	 * Using target/classes/$configFile instead of using
+	 * src/main/resources/$configFile gives the capability to get the filtered
+	 * value.
 	 * </p>
 	 * 
-	 * @return the target/classes/$configFile and null otherwise.
+	 * @return the source and output config files and null otherwise.
 	 */
-	private VirtualFile getOutputConfigFile() {
-		if (outputConfigFile != null && outputConfigFile.exists()) {
-			return outputConfigFile;
-		}
-		sourceConfigFile = null;
-		outputConfigFile = null;
-		if (javaProject.isLoaded()) {
-			VirtualFile[] sourceRoots = ModuleRootManager.getInstance(javaProject).getSourceRoots(false);
-			for (VirtualFile sourceRoot : sourceRoots) {
-				VirtualFile file = sourceRoot.findFileByRelativePath(configFileName);
-				if (file != null && file.exists()) {
-					sourceConfigFile = file;
-					outputConfigFile = file;
-				}
-			}
-			VirtualFile output = CompilerPaths.getModuleOutputDirectory(javaProject, false);
-			if (output != null) {
-				output = output.findFileByRelativePath(configFileName);
-				if (output != null) {
-					if (sourceConfigFile == null || output.getModificationStamp() >= sourceConfigFile.getModificationStamp()) {
-						outputConfigFile = output;
-					}
-				}
+	private ConfigFiles getConfigFiles() {
+		ConfigFiles files = configFiles;
+		if (files != null && files.exists()) {
+			return files;
+		}
+		if (!javaProject.isLoaded()) {
+			return null;
+		}
+		VirtualFile sourceConfigFile = null;
+		VirtualFile[] sourceRoots = ModuleRootManager.getInstance(javaProject).getSourceRoots(false);
+		for (VirtualFile sourceRoot : sourceRoots) {
+			VirtualFile file = sourceRoot.findFileByRelativePath(configFileName);
+			if (file != null && file.exists()) {
+				sourceConfigFile = file;
 			}
-			return outputConfigFile;
 		}
-		return null;
+		VirtualFile outputConfigFile = null;
+		VirtualFile output = CompilerPaths.getModuleOutputDirectory(javaProject, false);
+		if (output != null) {
+			outputConfigFile = output.findFileByRelativePath(configFileName);
+		}
+		files = sourceConfigFile != null || outputConfigFile != null
+				? new ConfigFiles(sourceConfigFile, outputConfigFile)
+				: null;
+		configFiles = files;
+		return files;
 	}
 
 	@Override
@@ -139,9 +207,9 @@ public abstract class AbstractConfigSource<T> implements IConfigSource {
 
 	@Override
 	public String getSourceConfigFileURI() {
-		getOutputConfigFile();
-		if (sourceConfigFile != null) {
-			String uri = sourceConfigFile.getUrl();
+		ConfigFiles files = getConfigFiles();
+		if (files != null && files.sourceConfigFile != null) {
+			String uri = files.sourceConfigFile.getUrl();
 			return fixURI(uri);
 		}
 		return null;
@@ -153,31 +221,77 @@ public abstract class AbstractConfigSource<T> implements IConfigSource {
 
 	/**
 	 * Returns the loaded config and null otherwise.
+	 *
+	 * <p>
+	 * When the source config file is opened in an editor with unsaved changes (or
+	 * when it is read instead of the target/classes copy), the config is loaded
+	 * from the document to take care of the changes which are not saved yet.
+	 * </p>
 	 * 
 	 * @return the loaded config and null otherwise
 	 */
 	protected final T getConfig() {
-		VirtualFile configFile = getOutputConfigFile();
+		return getState().config;
+	}
+
+	private ConfigState<T> getState() {
+		ConfigFiles files = getConfigFiles();
+		VirtualFile configFile = files != null ? files.getConfigFile() : null;
 		if (configFile == null) {
-			reset();
-			return null;
+			state = ConfigState.empty();
+			return state;
 		}
+		Document document = getSourceConfigDocument(files, configFile);
+		Object from = document != null ? document : configFile;
+		long currentLastModified;
 		try {
-			long currentLastModified = configFile.getModificationStamp();
-			if (currentLastModified != lastModified) {
-				reset();
+			currentLastModified = document != null ? document.getModificationStamp()
+					: configFile.getModificationStamp();
+		} catch (RuntimeException e) {
+			LOGGER.error("Error while getting last modified time for '" + configFile + "'.", e);
+			return state;
+		}
+		ConfigState<T> current = state;
+		if (current.isLoadedFrom(from, currentLastModified)) {
+			return current;
+		}
+		synchronized (loadLock) {
+			current = state;
+			if (current.isLoadedFrom(from, currentLastModified)) {
+				return current;
+			}
+			T config = null;
+			if (document != null) {
+				T previousConfig = current.loadedFrom == document ? current.config : null;
+				try {
+					config = loadConfig(document.getImmutableCharSequence(), previousConfig);
+				} catch (IOException e) {
+					LOGGER.error("Error while loading properties from '" + files.sourceConfigFile + "' document.", e);
+				}
+			} else {
 				try (InputStream input = configFile.getInputStream()) {
 					config = loadConfig(input);
-					lastModified = configFile.getModificationStamp();
 				} catch (IOException e) {
-					reset();
 					LOGGER.error("Error while loading properties from '" + configFile + "'.", e);
 				}
 			}
-		} catch (RuntimeException e1) {
-			LOGGER.error("Error while getting last modified time for '" + configFile + "'.", e1);
+			current = config != null ? new ConfigState<>(from, currentLastModified, config) : ConfigState.empty();
+			state = current;
+			return current;
 		}
-		return config;
+	}
+
+	private static Document getSourceConfigDocument(ConfigFiles files, VirtualFile configFile) {
+		if (files.sourceConfigFile == null) {
+			return null;
+		}
+		FileDocumentManager documentManager = FileDocumentManager.getInstance();
+		Document document = documentManager.getCachedDocument(files.sourceConfigFile);
+		if (document != null
+				&& (configFile.equals(files.sourceConfigFile) || documentManager.isDocumentUnsaved(document))) {
+			return document;
+		}
+		return null;
 	}
 
 	@Override
@@ -194,15 +308,18 @@ public abstract class AbstractConfigSource<T> implements IConfigSource {
 		return null;
 	}
 
-	private void reset() {
-		config = null;
-		propertyInformations = null;
-	}
-
 	@Override
 	public List<MicroProfileConfigPropertyInformation> getPropertyInformations(String propertyKey) {
-		init();
-		return propertyInformations != null ? propertyInformations.get(propertyKey) : null;
+		ConfigState<T> current = getState();
+		if (current.config == null) {
+			return null;
+		}
+		Map<String, List<MicroProfileConfigPropertyInformation>> propertyInformations = current.propertyInformations;
+		if (propertyInformations == null) {
+			propertyInformations = loadPropertyInformations(current.config);
+			current.propertyInformations = propertyInformations;
+		}
+		return propertyInformations.get(propertyKey);
 	}
 
 	/**
@@ -215,9 +332,23 @@ public abstract class AbstractConfigSource<T> implements IConfigSource {
 	protected abstract T loadConfig(InputStream input) throws IOException;
 
 	/**
-	 * Load the property informations.
+	 * Load the config model from the given content of the config file document.
+	 *
+	 * @param content        the content of the document.
+	 * @param previousConfig the config model loaded from the previous content of
+	 *                       the same document and null otherwise.
+	 * @return the config model from the given content.
+	 * @throws IOException
+	 */
+	protected T loadConfig(CharSequence content, T previousConfig) throws IOException {
+		return loadConfig(new ByteArrayInputStream(content.toString().getBytes(StandardCharsets.UTF_8)));
+	}
+
+	/**
+	 * Load the property informations of the given config.
 	 *
+	 * @param config the loaded config.
 	 * @return the property information.
 	 */
-	protected abstract Map<String /* property key without profile */, List<MicroProfileConfigPropertyInformation>> loadPropertyInformations();
+	protected abstract Map<String /* property key without profile */, List<MicroProfileConfigPropertyInformation>> loadPropertyInformations(T config);
 }
@@ -0,0 +1,108 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* https://www.eclipse.org/legal/epl-v20.html
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Immutable view of the properties declared in the config sources of a
+ * project, merged by using the ordinal of the config sources.
+ *
+ * <p>
+ * The snapshot is built once per config change, lookups are then map hits.
+ * </p>
+ */
+class ConfigSourcesSnapshot {
+
+	private final Map<String /* property key without profile */, List<MicroProfileConfigPropertyInformation>> propertyInformations;
+
+	private final Map<String, List<MicroProfileConfigPropertyInformation>> resolvedPropertyInformations = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates the snapshot of the given config sources.
+	 *
+	 * @param configSources the config sources sorted by descending ordinal.
+	 */
+	ConfigSourcesSnapshot(List<IConfigSource> configSources) {
+		Map<String, Map<String, MicroProfileConfigPropertyInformation>> merged = new HashMap<>();
+		// Go backwards so that application.properties replaces
+		// microprofile-config.properties, etc.
+		for (int i = configSources.size() - 1; i >= 0; i--) {
+			IConfigSource configSource = configSources.get(i);
+			Set<String> propertyKeys = new HashSet<>();
+			for (String propertyKeyWithProfile : configSource.getAllKeys()) {
+				propertyKeys.add(MicroProfileConfigPropertyInformation
+						.getPropertyNameWithoutProfile(propertyKeyWithProfile));
+			}
+			for (String propertyKey : propertyKeys) {
+				List<MicroProfileConfigPropertyInformation> infos = configSource.getPropertyInformations(propertyKey);
+				if (infos != null) {
+					Map<String, MicroProfileConfigPropertyInformation> infosByName = merged
+							.computeIfAbsent(propertyKey, k -> new HashMap<>());
+					for (MicroProfileConfigPropertyInformation info : infos) {
+						infosByName.put(info.getPropertyNameWithProfile(), info);
+					}
+				}
+			}
+		}
+		Map<String, List<MicroProfileConfigPropertyInformation>> propertyInformations = new HashMap<>(merged.size());
+		for (Map.Entry<String, Map<String, MicroProfileConfigPropertyInformation>> entry : merged.entrySet()) {
+			List<MicroProfileConfigPropertyInformation> infos = new ArrayList<>(entry.getValue().values());
+			infos.sort(Comparator.comparing(MicroProfileConfigPropertyInformation::getPropertyNameWithProfile));
+			propertyInformations.put(entry.getKey(), Collections.unmodifiableList(infos));
+		}
+		this.propertyInformations = propertyInformations;
+	}
+
+	/**
+	 * Returns true if the given property (without profile) has a value declared
+	 * for any profile and false otherwise.
+	 *
+	 * @param propertyKey the property key without profile.
+	 * @return true if the given property has a value declared for any profile.
+	 */
+	public boolean hasProperty(String propertyKey) {
+		return propertyInformations.containsKey(propertyKey);
+	}
+
+	/**
+	 * Returns the merged property informations of the given property key, sorted
+	 * by property name with profile, and an empty list otherwise.
+	 *
+	 * @param propertyKey the property key without profile.
+	 * @return the merged property informations of the given property key.
+	 */
+	public List<MicroProfileConfigPropertyInformation> getPropertyInformations(String propertyKey) {
+		return propertyInformations.getOrDefault(propertyKey, Collections.emptyList());
+	}
+
+	/**
+	 * Returns the merged property informations of the given property key with
+	 * values resolved by the given resolver. The result is cached in the snapshot.
+	 *
+	 * @param propertyKey the property key without profile.
+	 * @param resolver    the resolver of the property informations.
+	 * @return the merged property informations with resolved values.
+	 */
+	public List<MicroProfileConfigPropertyInformation> getResolvedPropertyInformations(String propertyKey,
+			Function<List<MicroProfileConfigPropertyInformation>, List<MicroProfileConfigPropertyInformation>> resolver) {
+		return resolvedPropertyInformations.computeIfAbsent(propertyKey,
+				key -> Collections.unmodifiableList(resolver.apply(getPropertyInformations(key))));
+	}
+}
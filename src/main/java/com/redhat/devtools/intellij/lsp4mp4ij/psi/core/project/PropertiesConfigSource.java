@@ -14,6 +14,7 @@ import org.eclipse.lsp4mp.commons.utils.PropertyValueExpander;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -34,6 +35,12 @@ public class PropertiesConfigSource extends AbstractConfigSource<Properties> {
 
 	private transient PropertyValueExpander propertyValueExpander = null;
 
+	// Only used while the config is loaded, the loading is serialized
+	private transient PropertiesDocumentModel documentModel = null;
+
+	// The keys of the loaded config
+	private transient volatile Map.Entry<Properties, Set<String>> allKeys = null;
+
 	public PropertiesConfigSource(String configFileName, String profile, int ordinal, Module javaProject) {
 		super(configFileName, profile, ordinal, javaProject);
 	}
@@ -58,8 +65,23 @@ public class PropertiesConfigSource extends AbstractConfigSource<Properties> {
 	@Override
 	protected Properties loadConfig(InputStream input) throws IOException {
 		propertyValueExpander = null;
+		documentModel = null;
 		Properties properties = new Properties();
 		properties.load(input);
+		return adjustForProfile(properties);
+	}
+
+	@Override
+	protected Properties loadConfig(CharSequence content, Properties previousConfig) throws IOException {
+		propertyValueExpander = null;
+		if (previousConfig == null || documentModel == null) {
+			documentModel = new PropertiesDocumentModel();
+		}
+		// Only the changed lines of the document are parsed
+		return adjustForProfile(documentModel.update(content));
+	}
+
+	private Properties adjustForProfile(Properties properties) {
 		String profile = getProfile();
 		if (profile != null) {
 			// Prefix all properties with profile
@@ -77,8 +99,7 @@ public class PropertiesConfigSource extends AbstractConfigSource<Properties> {
 	}
 
 	@Override
-	protected Map<String, List<MicroProfileConfigPropertyInformation>> loadPropertyInformations() {
-		Properties config = super.getConfig();
+	protected Map<String, List<MicroProfileConfigPropertyInformation>> loadPropertyInformations(Properties config) {
 		Map<String /* property key without profile */, List<MicroProfileConfigPropertyInformation>> propertiesMap = new HashMap<>();
 		config.forEach((key, val) -> {
 			if (key != null) {
@@ -105,7 +126,14 @@ public class PropertiesConfigSource extends AbstractConfigSource<Properties> {
 		if (properties == null) {
 			return Collections.emptySet();
 		}
-		return properties.keySet().stream().map(key -> (String) key).collect(Collectors.toSet());
+		Map.Entry<Properties, Set<String>> keys = allKeys;
+		if (keys == null || keys.getKey() != properties) {
+			// Compute the keys once per loaded config
+			keys = new AbstractMap.SimpleImmutableEntry<>(properties, Collections
+					.unmodifiableSet(properties.keySet().stream().map(key -> (String) key).collect(Collectors.toSet())));
+			allKeys = keys;
+		}
+		return keys.getValue();
 	}
 
 }
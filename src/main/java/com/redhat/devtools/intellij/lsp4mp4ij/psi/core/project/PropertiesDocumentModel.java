@@ -0,0 +1,136 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* https://www.eclipse.org/legal/epl-v20.html
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Properties model of a properties document which is updated incrementally.
+ *
+ * <p>
+ * The document is split in logical lines (a line ending with a backslash is
+ * joined with the next line). When the content changes, only the logical lines
+ * between the unchanged head and the unchanged tail of the document are parsed
+ * again, the other entries are reused.
+ * </p>
+ */
+class PropertiesDocumentModel {
+
+	private List<String> lines = Collections.emptyList();
+
+	private List<Map.Entry<Object, Object>> entries = Collections.emptyList();
+
+	/**
+	 * Update the model with the given content and returns the properties.
+	 *
+	 * @param content the content of the properties document.
+	 * @return the properties of the given content.
+	 * @throws IOException
+	 */
+	public Properties update(CharSequence content) throws IOException {
+		List<String> newLines = splitLogicalLines(content);
+		int head = 0;
+		int maxHead = Math.min(lines.size(), newLines.size());
+		while (head < maxHead && lines.get(head).equals(newLines.get(head))) {
+			head++;
+		}
+		int tail = 0;
+		int maxTail = maxHead - head;
+		while (tail < maxTail
+				&& lines.get(lines.size() - 1 - tail).equals(newLines.get(newLines.size() - 1 - tail))) {
+			tail++;
+		}
+		List<Map.Entry<Object, Object>> newEntries = new ArrayList<>(newLines.size());
+		newEntries.addAll(entries.subList(0, head));
+		for (int i = head; i < newLines.size() - tail; i++) {
+			newEntries.add(parse(newLines.get(i)));
+		}
+		newEntries.addAll(entries.subList(entries.size() - tail, entries.size()));
+		lines = newLines;
+		entries = newEntries;
+
+		// Entries are applied in order so that the last declaration of a key wins, like
+		// Properties#load
+		Properties properties = new Properties();
+		for (Map.Entry<Object, Object> entry : entries) {
+			if (entry != null) {
+				properties.put(entry.getKey(), entry.getValue());
+			}
+		}
+		return properties;
+	}
+
+	private static Map.Entry<Object, Object> parse(String line) throws IOException {
+		Properties properties = new Properties();
+		properties.load(new StringReader(line));
+		if (properties.isEmpty()) {
+			// Comment or blank line
+			return null;
+		}
+		return properties.entrySet().iterator().next();
+	}
+
+	private static List<String> splitLogicalLines(CharSequence content) {
+		List<String> result = new ArrayList<>();
+		StringBuilder logicalLine = new StringBuilder();
+		int start = 0;
+		int length = content.length();
+		while (start < length) {
+			int end = start;
+			while (end < length && content.charAt(end) != '\n' && content.charAt(end) != '\r') {
+				end++;
+			}
+			CharSequence line = content.subSequence(start, end);
+			logicalLine.append(line).append('\n');
+			if (isComment(logicalLine) || !endsWithContinuation(line)) {
+				result.add(logicalLine.toString());
+				logicalLine.setLength(0);
+			}
+			start = end;
+			if (start < length && content.charAt(start) == '\r') {
+				start++;
+			}
+			if (start < length && content.charAt(start) == '\n') {
+				start++;
+			}
+		}
+		if (logicalLine.length() > 0) {
+			result.add(logicalLine.toString());
+		}
+		return result;
+	}
+
+	private static boolean isComment(CharSequence logicalLine) {
+		for (int i = 0; i < logicalLine.length(); i++) {
+			char c = logicalLine.charAt(i);
+			if (c == '#' || c == '!') {
+				return true;
+			}
+			if (!Character.isWhitespace(c)) {
+				return false;
+			}
+		}
+		return false;
+	}
+
+	private static boolean endsWithContinuation(CharSequence line) {
+		int backslashes = 0;
+		for (int i = line.length() - 1; i >= 0 && line.charAt(i) == '\\'; i--) {
+			backslashes++;
+		}
+		return backslashes % 2 == 1;
+	}
+}
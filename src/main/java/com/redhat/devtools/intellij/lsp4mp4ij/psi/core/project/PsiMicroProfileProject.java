@@ -19,10 +19,10 @@ import org.eclipse.lsp4mp.commons.utils.PropertyValueExpander;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 /**
@@ -35,12 +35,68 @@ import java.util.stream.Collectors;
 public class PsiMicroProfileProject {
 
 
+	/**
+	 * Config sources loaded for a given version of the config sources cache.
+	 */
+	private static class ConfigSourcesState {
+
+		private final long version;
+
+		private final List<IConfigSource> configSources;
+
+		ConfigSourcesState(long version, List<IConfigSource> configSources) {
+			this.version = version;
+			this.configSources = Collections.unmodifiableList(configSources);
+		}
+	}
+
+	/**
+	 * Information computed from the properties of the config sources for a given
+	 * version of the properties cache.
+	 */
+	private static class PropertiesState {
+
+		private final long version;
+
+		private final List<IConfigSource> configSources;
+
+		private final IConfigSourcePropertiesProvider aggregatedPropertiesProvider;
+
+		private final PropertyValueExpander propertyValueExpander;
+
+		private volatile ConfigSourcesSnapshot snapshot;
+
+		PropertiesState(long version, List<IConfigSource> configSources) {
+			this.version = version;
+			this.configSources = configSources;
+			this.aggregatedPropertiesProvider = createAggregatedPropertiesProvider(configSources);
+			this.propertyValueExpander = new PropertyValueExpander(aggregatedPropertiesProvider);
+		}
+
+		ConfigSourcesSnapshot getSnapshot() {
+			ConfigSourcesSnapshot snapshot = this.snapshot;
+			if (snapshot == null) {
+				synchronized (this) {
+					snapshot = this.snapshot;
+					if (snapshot == null) {
+						snapshot = new ConfigSourcesSnapshot(configSources);
+						this.snapshot = snapshot;
+					}
+				}
+			}
+			return snapshot;
+		}
+	}
+
 	private final Module javaProject;
 
-	private List<IConfigSource> configSources;
+	// Evictions increment the versions and never block readers: a state is used only
+	// if it has been loaded for the current version.
+	private final AtomicLong configSourcesVersion = new AtomicLong();
+	private final AtomicLong propertiesVersion = new AtomicLong();
 
-	private transient IConfigSourcePropertiesProvider aggregatedPropertiesProvider = null;
-	private transient PropertyValueExpander propertyValueExpander = null;
+	private final AtomicReference<ConfigSourcesState> configSources = new AtomicReference<>();
+	private final AtomicReference<PropertiesState> properties = new AtomicReference<>();
 
 	public PsiMicroProfileProject(Module javaProject) {
 		this.javaProject = javaProject;
@@ -61,19 +117,15 @@ public class PsiMicroProfileProject {
 	 *         defined in this project
 	 */
 	public String getProperty(String propertyKey, String defaultValue) {
+		return getProperty(getPropertiesState(), propertyKey, defaultValue);
+	}
 
-		if (aggregatedPropertiesProvider == null) {
-			aggregatedPropertiesProvider = getAggregatedPropertiesProvider();
-		}
-
-		String unresolved = aggregatedPropertiesProvider.getValue(propertyKey);
+	private static String getProperty(PropertiesState properties, String propertyKey, String defaultValue) {
+		String unresolved = properties.aggregatedPropertiesProvider.getValue(propertyKey);
 		if (unresolved == null) {
 			return defaultValue;
 		} else if (unresolved.contains("${")) {
-			if (propertyValueExpander == null) {
-				propertyValueExpander = new PropertyValueExpander(aggregatedPropertiesProvider);
-			}
-			String expandedValue = propertyValueExpander.getValue(propertyKey);
+			String expandedValue = properties.propertyValueExpander.getValue(propertyKey);
 			if (expandedValue == null) {
 				return defaultValue;
 			}
@@ -152,39 +204,64 @@ public class PsiMicroProfileProject {
 	 *         defined in this project.
 	 */
 	public List<MicroProfileConfigPropertyInformation> getPropertyInformations(String propertyKey) {
-		// Use a map to override property values
-		// eg. if application.yaml defines a value for a property it should override the
-		// value defined in application.properties
-		Map<String, MicroProfileConfigPropertyInformation> propertyToInfoMap = new HashMap<>();
-		// Go backwards so that application.properties replaces
-		// microprofile-config.properties, etc.
-		List<IConfigSource> configSources = getConfigSources();
-		for (int i = configSources.size() - 1; i >= 0; i--) {
-			IConfigSource configSource = configSources.get(i);
-			List<MicroProfileConfigPropertyInformation> propertyInformations = configSource
-					.getPropertyInformations(propertyKey);
-			if (propertyInformations != null) {
-				for (MicroProfileConfigPropertyInformation propertyInformation : propertyInformations) {
-					propertyToInfoMap.put(propertyInformation.getPropertyNameWithProfile(), propertyInformation);
-				}
+		// The snapshot merges the config sources by ordinal (eg. if application.yaml
+		// defines a value for a property it overrides the value defined in
+		// application.properties) and caches the resolved values. The values are
+		// resolved with the properties the snapshot has been built from.
+		PropertiesState properties = getPropertiesState();
+		List<MicroProfileConfigPropertyInformation> infos = properties.getSnapshot().getResolvedPropertyInformations(
+				propertyKey, unresolved -> unresolved.stream() //
+						.map(info -> {
+							String resolved = getProperty(properties, info.getPropertyNameWithProfile(), null);
+							return new MicroProfileConfigPropertyInformation(info.getPropertyNameWithProfile(),
+									resolved, info.getSourceConfigFileURI(), info.getConfigFileName());
+						}).collect(Collectors.toList()));
+		// Callers can update the returned list
+		return new ArrayList<>(infos);
+	}
+
+	/**
+	 * Returns the snapshot of the properties declared in the config sources,
+	 * rebuilt once per config change.
+	 *
+	 * @return the snapshot of the properties declared in the config sources.
+	 */
+	private ConfigSourcesSnapshot getSnapshot() {
+		return getPropertiesState().getSnapshot();
+	}
+
+	public List<IConfigSource> getConfigSources() {
+		ConfigSourcesState state = configSources.get();
+		if (state != null && state.version == configSourcesVersion.get()) {
+			return state.configSources;
+		}
+		synchronized (configSources) {
+			// Case when there are several Threads which load config sources, the second
+			// Thread should not reload the config sources again.
+			long version = configSourcesVersion.get();
+			state = configSources.get();
+			if (state == null || state.version != version) {
+				state = new ConfigSourcesState(version, loadConfigSources());
+				configSources.set(state);
 			}
+			return state.configSources;
 		}
-		return propertyToInfoMap.values().stream() //
-				.sorted((a, b) -> {
-					return a.getPropertyNameWithProfile().compareTo(b.getPropertyNameWithProfile());
-				}) //
-				.map(info -> {
-					String resolved = this.getProperty(info.getPropertyNameWithProfile());
-					return new MicroProfileConfigPropertyInformation(info.getPropertyNameWithProfile(), resolved,
-							info.getSourceConfigFileURI(), info.getConfigFileName());
-				}).collect(Collectors.toList());
 	}
 
-	public List<IConfigSource> getConfigSources() {
-		if (configSources == null) {
-			configSources = loadConfigSources(javaProject);
+	private PropertiesState getPropertiesState() {
+		PropertiesState state = properties.get();
+		if (state != null && state.version == propertiesVersion.get()) {
+			return state;
+		}
+		synchronized (properties) {
+			long version = propertiesVersion.get();
+			state = properties.get();
+			if (state == null || state.version != version) {
+				state = new PropertiesState(version, getConfigSources());
+				properties.set(state);
+			}
+			return state;
 		}
-		return configSources;
 	}
 
 	/**
@@ -192,24 +269,37 @@ public class PsiMicroProfileProject {
 	 * of properties, yaml file is saved.
 	 */
 	public void evictConfigSourcesCache() {
-		configSources = null;
-		propertyValueExpander = null;
-		aggregatedPropertiesProvider = null;
+		configSourcesVersion.incrementAndGet();
+		evictPropertiesCache();
 	}
 
 	/**
-	 * Load config sources from the given project and sort it by using
+	 * Evict the cached information computed from the properties when a properties,
+	 * yaml document is changed in an editor. The config sources are kept since
+	 * they reload their content from the document.
+	 */
+	public void evictPropertiesCache() {
+		propertiesVersion.incrementAndGet();
+	}
+
+	/**
+	 * Returns a counter incremented each time the config sources or their
+	 * properties change, to let the callers cache information computed from the
+	 * properties.
+	 *
+	 * @return the modification count of the properties.
+	 */
+	public long getModificationCount() {
+		return propertiesVersion.get();
+	}
+
+	/**
+	 * Load config sources from the Java project and sort it by using
 	 * {@link IConfigSource#getOrdinal()}
 	 *
-	 * @param javaProject the Java project
 	 * @return the loaded config sources.
 	 */
-	private synchronized List<IConfigSource> loadConfigSources(Module javaProject) {
-		if (configSources != null) {
-			// Case when there are several Threads which load config sources, the second
-			// Thread should not reload the config sources again.
-			return configSources;
-		}
+	List<IConfigSource> loadConfigSources() {
 		List<IConfigSource> configSources = new ArrayList<>();
 		VirtualFile outputFile = CompilerPaths.getModuleOutputDirectory(javaProject, false);
 		for (IConfigSourceProvider provider : IConfigSourceProvider.EP_NAME.getExtensions()) {
@@ -219,7 +309,6 @@ public class PsiMicroProfileProject {
 		return configSources;
 	}
 
-
 	/**
 	 * Returns true if the given property has a value declared for any profile, and
 	 * false otherwise.
@@ -229,17 +318,11 @@ public class PsiMicroProfileProject {
 	 *         false otherwise
 	 */
 	public boolean hasProperty(String property) {
-		List<IConfigSource> configSources = getConfigSources();
-		for (IConfigSource configSource : configSources) {
-			if (configSource.getPropertyInformations(property) != null) {
-				return true;
-			}
-		}
-		return false;
+		return getSnapshot().hasProperty(property);
 	}
 
-	private IConfigSourcePropertiesProvider getAggregatedPropertiesProvider() {
-		List<IConfigSource> configSources = getConfigSources();
+	private static IConfigSourcePropertiesProvider createAggregatedPropertiesProvider(
+			List<IConfigSource> configSources) {
 		if (configSources.size() == 0) {
 			// Return an empty IConfigSourcePropertiesProvider
 			return new IConfigSourcePropertiesProvider() {
@@ -13,6 +13,10 @@ import com.intellij.ProjectTopics;
 import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.components.Service;
 import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.editor.EditorFactory;
+import com.intellij.openapi.editor.event.DocumentEvent;
+import com.intellij.openapi.editor.event.DocumentListener;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.project.ModuleListener;
 import com.intellij.openapi.project.Project;
@@ -27,9 +31,9 @@ import com.intellij.util.messages.MessageBusConnection;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * {@link PsiMicroProfileProject} manager.
@@ -50,7 +54,7 @@ public final class PsiMicroProfileProjectManager {
 	private final Map<Module, PsiMicroProfileProject> projects;
 	private MicroProfileProjectListener microprofileProjectListener;
 
-	private class MicroProfileProjectListener implements ModuleListener, BulkFileListener {
+	private class MicroProfileProjectListener implements ModuleListener, BulkFileListener, DocumentListener {
 		@Override
 		public void after(@NotNull List<? extends VFileEvent> events) {
 			for(VFileEvent event : events) {
@@ -58,7 +62,7 @@ public final class PsiMicroProfileProjectManager {
 						event instanceof VFileCreateEvent) && isConfigSource(event.getFile())) {
 					Module javaProject = PsiUtilsLSImpl.getInstance(project).getModule(event.getFile());
 					if (javaProject != null) {
-						PsiMicroProfileProject mpProject = getJDTMicroProfileProject(javaProject);
+						PsiMicroProfileProject mpProject = getJDTMicroProfileProject(javaProject, false);
 						if (mpProject != null) {
 							mpProject.evictConfigSourcesCache();
 						}
@@ -68,6 +72,22 @@ public final class PsiMicroProfileProjectManager {
 			}
 		}
 
+		@Override
+		public void documentChanged(@NotNull DocumentEvent event) {
+			// Config sources read the unsaved content of the document, only the properties
+			// cache must be evicted
+			VirtualFile file = FileDocumentManager.getInstance().getFile(event.getDocument());
+			if (file != null && isConfigSource(file)) {
+				Module javaProject = PsiUtilsLSImpl.getInstance(project).getModule(file);
+				if (javaProject != null) {
+					PsiMicroProfileProject mpProject = getJDTMicroProfileProject(javaProject, false);
+					if (mpProject != null) {
+						mpProject.evictPropertiesCache();
+					}
+				}
+			}
+		}
+
 		@Override
 		public void beforeModuleRemoved(@NotNull Project project, @NotNull Module module) {
 			evict(module);
@@ -83,7 +103,7 @@ public final class PsiMicroProfileProjectManager {
 
 	private PsiMicroProfileProjectManager(Project project) {
 		this.project = project;
-		this.projects = new HashMap<>();
+		this.projects = new ConcurrentHashMap<>();
 		initialize();
 	}
 
@@ -93,15 +113,10 @@ public final class PsiMicroProfileProjectManager {
 
 	private PsiMicroProfileProject getJDTMicroProfileProject(Module project, boolean create) {
 		Module javaProject = project;
-		PsiMicroProfileProject info = projects.get(javaProject);
-		if (info == null) {
-			if (!create) {
-				return null;
-			}
-			info = new PsiMicroProfileProject(javaProject);
-			projects.put(javaProject, info);
+		if (!create) {
+			return projects.get(javaProject);
 		}
-		return info;
+		return projects.computeIfAbsent(javaProject, PsiMicroProfileProject::new);
 	}
 
 	public boolean isConfigSource(VirtualFile file) {
@@ -122,5 +137,6 @@ public final class PsiMicroProfileProjectManager {
 		MessageBusConnection connection = ApplicationManager.getApplication().getMessageBus().connect(project);
 		connection.subscribe(VirtualFileManager.VFS_CHANGES, microprofileProjectListener);
 		project.getMessageBus().connect(project).subscribe(ProjectTopics.MODULES, microprofileProjectListener);
+		EditorFactory.getInstance().getEventMulticaster().addDocumentListener(microprofileProjectListener, project);
 	}
 }
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.util.Computable;
+import com.intellij.openapi.project.Project;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import org.jetbrains.concurrency.CancellablePromise;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Computes a result for each document of a list of documents (ex : the
+ * diagnostics of all the opened Java files) in parallel.
+ *
+ * <p>
+ * Each document is processed in its own non-blocking read action, in smart
+ * mode, with a bounded pool of threads. A read action which is interrupted by
+ * a write action is restarted, only for its document. The pool is shut down
+ * when the application service is disposed.
+ * </p>
+ */
+@Service
+public final class MultiDocumentExecutor implements Disposable {
+
+    private static final int MAX_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+
+    private static final long POLL_MILLIS = 50;
+
+    private final ExecutorService executor = AppExecutorUtil.createBoundedApplicationPoolExecutor("Java documents", MAX_THREADS, this);
+
+    public static MultiDocumentExecutor getInstance() {
+        return ServiceManager.getService(MultiDocumentExecutor.class);
+    }
+
+    @Override
+    public void dispose() {
+        // The executor is shut down with this service
+    }
+
+    /**
+     * Returns the results of the given function for each of the given document
+     * URIs, in the same order as the URIs.
+     *
+     * <p>
+     * When the current thread has read access (ex : the EDT or a read action),
+     * waiting for other read actions is not possible, the documents are then
+     * processed one by one in the current thread.
+     * </p>
+     *
+     * @param project  the project.
+     * @param uris     the document URIs.
+     * @param function the function to compute the result of a document, called in
+     *                 a read action in smart mode.
+     * @param monitor  the progress monitor used to cancel the processing, or null.
+     * @param <T>      the result type.
+     * @return the results for each document URI.
+     * @throws ProcessCanceledException if the monitor is canceled.
+     */
+    public <T> List<T> computeAll(Project project, List<String> uris, Function<String, T> function,
+                                         ProgressIndicator monitor) {
+        List<T> results = new ArrayList<>(uris.size());
+        if (uris.size() < 2 || ApplicationManager.getApplication().isReadAccessAllowed()) {
+            for (String uri : uris) {
+                checkCanceled(monitor);
+                results.add(DumbService.getInstance(project).runReadActionInSmartMode((Computable<T>) () -> function.apply(uri)));
+            }
+            return results;
+        }
+
+        List<CancellablePromise<T>> promises = new ArrayList<>(uris.size());
+        try {
+            for (String uri : uris) {
+                promises.add(ReadAction.nonBlocking(() -> function.apply(uri))
+                        .inSmartMode(project)
+                        .expireWith(project)
+                        .submit(executor));
+            }
+            for (CancellablePromise<T> promise : promises) {
+                results.add(waitFor(promise, monitor));
+            }
+            return results;
+        } finally {
+            // Cancel the documents which are not processed yet when the processing
+            // is canceled or has failed
+            for (CancellablePromise<T> promise : promises) {
+                promise.cancel(false);
+            }
+        }
+    }
+
+    private static <T> T waitFor(CancellablePromise<T> promise, ProgressIndicator monitor) {
+        while (true) {
+            checkCanceled(monitor);
+            try {
+                return promise.get(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // Check the monitor and wait again
+            } catch (CancellationException e) {
+                // The project has been disposed
+                throw new ProcessCanceledException(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ProcessCanceledException(e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new RuntimeException(cause);
+            }
+        }
+    }
+
+    private static void checkCanceled(ProgressIndicator monitor) {
+        if (monitor != null) {
+            monitor.checkCanceled();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.UserDataHolder;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Cache of the classes found by their fully qualified name.
+ *
+ * <p>
+ * Classes are cached per module (search in the module with its dependencies
+ * and libraries) or per project (search in all the project). Misses are cached
+ * too. A cache is dropped when the Java structure of the project changes
+ * (class added, removed or renamed) or when the project roots change
+ * (libraries).
+ * </p>
+ */
+public class PsiClassLookupCache {
+
+    private static class ClassCache {
+
+        // The cache is dropped on Java structure changes, the classes can be held directly
+        private final Map<String, Optional<PsiClass>> classes = new ConcurrentHashMap<>();
+
+        private final Project project;
+
+        private final Supplier<GlobalSearchScope> scope;
+
+        private GlobalSearchScope searchScope;
+
+        ClassCache(Project project, Supplier<GlobalSearchScope> scope) {
+            this.project = project;
+            this.scope = scope;
+        }
+
+        PsiClass findClass(String className) {
+            Optional<PsiClass> cached = classes.get(className);
+            if (cached != null && (!cached.isPresent() || cached.get().isValid())) {
+                return cached.orElse(null);
+            }
+            PsiClass psiClass = JavaPsiFacade.getInstance(project).findClass(className, getSearchScope());
+            classes.put(className, Optional.ofNullable(psiClass));
+            return psiClass;
+        }
+
+        private GlobalSearchScope getSearchScope() {
+            // Racy single-check: computing the scope twice is harmless
+            GlobalSearchScope searchScope = this.searchScope;
+            if (searchScope == null) {
+                searchScope = scope.get();
+                this.searchScope = searchScope;
+            }
+            return searchScope;
+        }
+    }
+
+    private PsiClassLookupCache() {
+    }
+
+    /**
+     * Returns the class with the given fully qualified name visible from the given
+     * module (with its dependencies and libraries) and null otherwise.
+     *
+     * @param module    the module.
+     * @param className the fully qualified name of the class.
+     * @return the class with the given fully qualified name and null otherwise.
+     */
+    public static PsiClass findClass(Module module, String className) {
+        Project project = module.getProject();
+        return getClassCache(project, module,
+                () -> GlobalSearchScope.moduleWithDependenciesAndLibrariesScope(module)).findClass(className);
+    }
+
+    /**
+     * Returns the class with the given fully qualified name from all the project
+     * and null otherwise.
+     *
+     * @param project   the project.
+     * @param className the fully qualified name of the class.
+     * @return the class with the given fully qualified name and null otherwise.
+     */
+    public static PsiClass findClass(Project project, String className) {
+        return getClassCache(project, project, () -> GlobalSearchScope.allScope(project)).findClass(className);
+    }
+
+    private static ClassCache getClassCache(Project project, UserDataHolder holder, Supplier<GlobalSearchScope> scope) {
+        return CachedValuesManager.getManager(project).getCachedValue(holder,
+                () -> CachedValueProvider.Result.create(new ClassCache(project, scope),
+                        PsiModificationTracker.getInstance(project).getJavaStructureModificationTracker(),
+                        ProjectRootManager.getInstance(project)));
+    }
+}
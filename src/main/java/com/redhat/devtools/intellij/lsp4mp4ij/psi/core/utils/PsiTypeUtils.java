@@ -17,7 +17,6 @@ import com.intellij.openapi.util.TextRange;
 import com.intellij.openapi.vfs.LocalFileSystem;
 import com.intellij.openapi.vfs.VfsUtilCore;
 import com.intellij.openapi.vfs.VirtualFile;
-import com.intellij.psi.JavaPsiFacade;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiAnnotationMemberValue;
 import com.intellij.psi.PsiAnnotationMethod;
@@ -37,7 +36,6 @@ import com.intellij.psi.PsiParameter;
 import com.intellij.psi.PsiReference;
 import com.intellij.psi.PsiType;
 import com.intellij.psi.PsiVariable;
-import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.psi.util.ClassUtil;
 import com.intellij.psi.util.PsiTreeUtil;
 import org.slf4j.Logger;
@@ -136,13 +134,11 @@ public class PsiTypeUtils {
 
 
     public static PsiClass findType(PsiManager manager, String name) {
-        JavaPsiFacade facade = JavaPsiFacade.getInstance(manager.getProject());
-        return facade.findClass(name, GlobalSearchScope.allScope(manager.getProject()));
+        return PsiClassLookupCache.findClass(manager.getProject(), name);
     }
 
     public static PsiClass findType(Module module, String name) {
-        JavaPsiFacade facade = JavaPsiFacade.getInstance(module.getProject());
-        return facade.findClass(name, GlobalSearchScope.moduleWithDependenciesAndLibrariesScope(module));
+        return PsiClassLookupCache.findClass(module, name);
     }
 
     public static String getSourceField(PsiMember psiMember) {
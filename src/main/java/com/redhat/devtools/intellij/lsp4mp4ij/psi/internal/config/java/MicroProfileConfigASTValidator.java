@@ -88,6 +88,11 @@ public class MicroProfileConfigASTValidator extends JavaASTValidator {
 		return PsiTypeUtils.findType(javaProject, CONFIG_PROPERTY_ANNOTATION) != null;
 	}
 
+	@Override
+	public boolean visitsChildren() {
+		return false;
+	}
+
 	private static List<String> getPatternsFromContext(JavaDiagnosticsContext context) {
 		return context.getSettings().getPatterns();
 	}
@@ -110,7 +115,10 @@ public class MicroProfileConfigASTValidator extends JavaASTValidator {
 
 			}
 		}
-		typeDeclaration.acceptChildren(this);
+	}
+
+	@Override
+	public void endVisitClass(PsiClass typeDeclaration) {
 		this.currentPrefix = null;
 	}
 
@@ -20,8 +20,8 @@ import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.validators.JavaASTVa
 import org.eclipse.lsp4j.Diagnostic;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * The java diagnostic participant which visit one time a given AST compilation
@@ -44,11 +44,11 @@ public class JavaASTDiagnosticsParticipant implements IJavaDiagnosticsParticipan
 	private static void collectDiagnosticsInFile(JavaDiagnosticsContext context, List<Diagnostic> diagnostics) {
 		// Collect the list of JavaASTValidator which are adapted for the current AST
 		// compilation unit to validate.
-		Collection<JavaASTValidator> validators = JavaASTValidatorRegistry.getInstance().getValidators(context, diagnostics);
+		Map<JavaASTValidator, List<Diagnostic>> validators = JavaASTValidatorRegistry.getInstance().getValidators(context);
 		if (!validators.isEmpty()) {
 			// Visit the AST compilation unit and process each validator.
 			PsiFile ast = context.getASTRoot();
-			ast.accept(new MultiASTVisitor(validators));
+			ast.accept(new MultiASTVisitor(validators, diagnostics));
 		}
 	}
 
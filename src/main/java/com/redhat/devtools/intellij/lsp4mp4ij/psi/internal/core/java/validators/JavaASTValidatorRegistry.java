@@ -13,6 +13,11 @@
 *******************************************************************************/
 package com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.java.validators;
 
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.SimpleModificationTracker;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsContext;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.validators.JavaASTValidator;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.validators.JavaASTValidatorExtensionPointBean;
@@ -28,7 +33,11 @@ import org.eclipse.lsp4j.Diagnostic;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -70,13 +79,17 @@ public class JavaASTValidatorRegistry extends AnnotationValidator {
 	private boolean extensionProvidersLoaded;
 	private boolean registryListenerIntialized;
 
-	private final List<JavaASTValidatorExtensionPointBean> validatorsFromClass;
+	private volatile List<JavaASTValidatorExtensionPointBean> validatorsFromClass;
+
+	// Incremented when the contributed validators change
+	private final SimpleModificationTracker validatorsTracker;
 
 	private JavaASTValidatorRegistry() {
 		super();
 		this.extensionProvidersLoaded = false;
 		this.registryListenerIntialized = false;
-		this.validatorsFromClass = new ArrayList<>();
+		this.validatorsFromClass = Collections.emptyList();
+		this.validatorsTracker = new SimpleModificationTracker();
 	}
 
 	public String getExtensionId() {
@@ -108,11 +121,27 @@ public class JavaASTValidatorRegistry extends AnnotationValidator {
 		addExtensionJavaASTValidators();
 
 		LOGGER.log(Level.INFO, "-<- Done loading ." + getExtensionId() + " extension point -<-");
+
+		addRegistryListenerIfNeeded();
+	}
+
+	private void addRegistryListenerIfNeeded() {
+		if (registryListenerIntialized)
+			return;
+
+		registryListenerIntialized = true;
+		// Plugins contributing validators can be loaded and unloaded dynamically
+		JavaASTValidator.EP_NAME.addChangeListener(this::reloadExtensionValidators, null);
+	}
+
+	private synchronized void reloadExtensionValidators() {
+		validatorsFromClass = new ArrayList<>(JavaASTValidator.EP_NAME.getExtensionList());
+		validatorsTracker.incModificationCount();
 	}
 
 	private void addExtensionJavaASTValidators() {
 		try {
-			validatorsFromClass.addAll(JavaASTValidator.EP_NAME.getExtensionList());
+			validatorsFromClass = new ArrayList<>(JavaASTValidator.EP_NAME.getExtensionList());
 			for(AnnotationRuleExtensionPointBean bean : AnnotationValidator.EP_NAME.getExtensions()) {
 				registerRule(createRule(bean));
 
@@ -132,12 +161,33 @@ public class JavaASTValidatorRegistry extends AnnotationValidator {
 		return rule;
 	}
 
-	public Collection<JavaASTValidator> getValidators(JavaDiagnosticsContext context, List<Diagnostic> diagnostics) {
-		List<JavaASTValidator> validators = new ArrayList<>();
-		addValidator(new AnnotationRulesJavaASTValidator(getRules()), context, diagnostics, validators);
+	/**
+	 * Returns the validators adapted for the given context, in order, with the
+	 * diagnostics list each validator has been initialized with.
+	 *
+	 * @param context the java diagnostics context.
+	 * @return the validators with their diagnostics list.
+	 */
+	public Map<JavaASTValidator, List<Diagnostic>> getValidators(JavaDiagnosticsContext context) {
+		Map<JavaASTValidator, List<Diagnostic>> validators = new LinkedHashMap<>();
+		addValidator(new AnnotationRulesJavaASTValidator(getRules()), context, validators);
+		Map<String, Boolean> adaptedValidators = getAdaptedValidators(context.getJavaProject());
 		for (JavaASTValidatorExtensionPointBean ce : validatorsFromClass) {
+			Boolean adapted = adaptedValidators.get(ce.implementation);
+			if (Boolean.FALSE.equals(adapted)) {
+				continue;
+			}
 			try {
-				addValidator(ce.createValidator(), context, diagnostics, validators);
+				JavaASTValidator validator = ce.createValidator();
+				List<Diagnostic> diagnostics = new ArrayList<>();
+				validator.initialize(context, diagnostics);
+				if (adapted == null) {
+					adapted = validator.isAdaptedForDiagnostics(context);
+					adaptedValidators.put(ce.implementation, adapted);
+				}
+				if (adapted) {
+					validators.put(validator, diagnostics);
+				}
 			} catch (ClassNotFoundException | NoSuchMethodException |
 					 InvocationTargetException | InstantiationException | IllegalAccessException e) {
 				LOGGER.log(Level.WARNING, e.getLocalizedMessage(), e);
@@ -146,11 +196,27 @@ public class JavaASTValidatorRegistry extends AnnotationValidator {
 		return validators;
 	}
 
-	private void addValidator(JavaASTValidator validator, JavaDiagnosticsContext context, List<Diagnostic> diagnostics,
-			List<JavaASTValidator> validators) {
+	/**
+	 * Returns the cache of the {@link JavaASTValidator#isAdaptedForDiagnostics}
+	 * results of the given module, by validator class. The validators check the
+	 * classpath, so the cache is dropped when the project roots or the contributed
+	 * validators change.
+	 *
+	 * @param module the module.
+	 * @return the cache of the isAdaptedForDiagnostics results by validator class.
+	 */
+	private Map<String, Boolean> getAdaptedValidators(Module module) {
+		return CachedValuesManager.getManager(module.getProject()).getCachedValue(module,
+				() -> CachedValueProvider.Result.create(new ConcurrentHashMap<String, Boolean>(),
+						ProjectRootManager.getInstance(module.getProject()), validatorsTracker));
+	}
+
+	private void addValidator(JavaASTValidator validator, JavaDiagnosticsContext context,
+			Map<JavaASTValidator, List<Diagnostic>> validators) {
+		List<Diagnostic> diagnostics = new ArrayList<>();
 		validator.initialize(context, diagnostics);
 		if (validator.isAdaptedForDiagnostics(context)) {
-			validators.add(validator);
+			validators.put(validator, diagnostics);
 		}
 	}
 
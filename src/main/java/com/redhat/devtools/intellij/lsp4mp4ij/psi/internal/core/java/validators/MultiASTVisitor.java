@@ -16,15 +16,34 @@ package com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.java.validators
 import com.intellij.psi.JavaRecursiveElementVisitor;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiMethod;
+import com.intellij.psi.util.PsiUtil;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.validators.JavaASTValidator;
+import org.eclipse.lsp4j.Diagnostic;
 
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * Multiple JDT AST visitor.
+ *
+ * <p>
+ * The validators which visit the children of a class themselves (see
+ * {@link JavaASTValidator#visitsChildren()}) are only given the top-level
+ * classes. The AST is visited one time for the other validators: each member
+ * class, method and annotation is given to the validators which override the
+ * visit method of the node. The anonymous and local classes are not visited.
+ * </p>
+ *
+ * <p>
+ * Each validator reports its diagnostics in its own list, which is appended to
+ * the diagnostics after each top-level node, in the order of the validators.
+ * </p>
  * 
  * @author Angelo ZERR
  *
@@ -32,42 +51,141 @@ import java.util.logging.Logger;
 public class MultiASTVisitor extends JavaRecursiveElementVisitor {
 
 	private static final Logger LOGGER = Logger.getLogger(MultiASTVisitor.class.getName());
-	private final Collection<JavaASTValidator> visitors;
 
-	public MultiASTVisitor(Collection<JavaASTValidator> visitors) {
-		this.visitors = visitors;
+	private final List<JavaASTValidator> visitors;
+
+	private final List<List<Diagnostic>> visitorDiagnostics;
+
+	private final boolean[] visitsChildren;
+
+	private final boolean visitsNodes;
+
+	private final List<Diagnostic> diagnostics;
+
+	private int depth;
+
+	/**
+	 * Creates the visitor.
+	 *
+	 * @param visitors    the validators with the diagnostics list they were
+	 *                    initialized with.
+	 * @param diagnostics the diagnostics to update.
+	 */
+	public MultiASTVisitor(Map<JavaASTValidator, List<Diagnostic>> visitors, List<Diagnostic> diagnostics) {
+		this.visitors = new ArrayList<>(visitors.keySet());
+		this.visitorDiagnostics = new ArrayList<>(visitors.values());
+		this.visitsChildren = new boolean[this.visitors.size()];
+		boolean visitsNodes = false;
+		for (int i = 0; i < visitsChildren.length; i++) {
+			visitsChildren[i] = this.visitors.get(i).visitsChildren();
+			visitsNodes |= !visitsChildren[i];
+		}
+		this.visitsNodes = visitsNodes;
+		this.diagnostics = diagnostics;
+	}
+
+	@Override
+	public void visitFile(PsiFile file) {
+		super.visitFile(file);
+		flushDiagnostics();
 	}
 
 	@Override
 	public void visitAnnotation(PsiAnnotation node) {
-		for (JavaRecursiveElementVisitor visitor : visitors) {
-			try {
-				visitor.visitAnnotation(node);
-			} catch (Exception e) {
-				LOGGER.log(Level.WARNING, "Error while visiting node with " + visitor.getClass().getName(), e);
-			}
-		}
+		// The validators don't visit the annotations declared in an annotation
+		depth++;
+		dispatch(VisitKind.ANNOTATION, visitor -> visitor.visitAnnotation(node));
+		endVisit();
 	}
 
 	@Override
 	public void visitClass(PsiClass node) {
-		for (JavaRecursiveElementVisitor visitor : visitors) {
-			try {
-				visitor.visitClass(node);
-			} catch (Exception e) {
-				LOGGER.log(Level.WARNING, "Error while visiting node with " + visitor.getClass().getName(), e);
-			}
+		if (PsiUtil.isLocalOrAnonymousClass(node)) {
+			return;
 		}
+		depth++;
+		dispatch(VisitKind.CLASS, visitor -> visitor.visitClass(node));
+		if (visitsNodes) {
+			super.visitClass(node);
+		}
+		dispatch(null, visitor -> visitor.endVisitClass(node));
+		endVisit();
 	}
 
 	@Override
 	public void visitMethod(PsiMethod node) {
-		for (JavaRecursiveElementVisitor visitor : visitors) {
+		depth++;
+		dispatch(VisitKind.METHOD, visitor -> visitor.visitMethod(node));
+		super.visitMethod(node);
+		endVisit();
+	}
+
+	/**
+	 * Gives the current node to the validators which visit it.
+	 *
+	 * @param kind  the visit method or null for a method which is given to all
+	 *              the validators (ex: endVisitClass).
+	 * @param visit the visit of the node.
+	 */
+	private void dispatch(VisitKind kind, Consumer<JavaASTValidator> visit) {
+		for (int i = 0; i < visitors.size(); i++) {
+			JavaASTValidator visitor = visitors.get(i);
+			if (visitsChildren[i] ? depth > 1 : kind != null && !kind.isOverriddenBy(visitor)) {
+				continue;
+			}
 			try {
-				visitor.visitMethod(node);
+				visit.accept(visitor);
 			} catch (Exception e) {
 				LOGGER.log(Level.WARNING, "Error while visiting node with " + visitor.getClass().getName(), e);
 			}
 		}
 	}
+
+	private void endVisit() {
+		if (--depth == 0) {
+			flushDiagnostics();
+		}
+	}
+
+	private void flushDiagnostics() {
+		for (List<Diagnostic> reported : visitorDiagnostics) {
+			diagnostics.addAll(reported);
+			reported.clear();
+		}
+	}
+
+	/**
+	 * The visit methods given to the validators.
+	 */
+	private enum VisitKind {
+
+		ANNOTATION("visitAnnotation", PsiAnnotation.class), //
+		CLASS("visitClass", PsiClass.class), //
+		METHOD("visitMethod", PsiMethod.class);
+
+		private final String methodName;
+
+		private final Class<?> parameterType;
+
+		private final ClassValue<Boolean> overridden = new ClassValue<Boolean>() {
+			@Override
+			protected Boolean computeValue(Class<?> type) {
+				try {
+					Class<?> declaringClass = type.getMethod(methodName, parameterType).getDeclaringClass();
+					return !declaringClass.isAssignableFrom(JavaASTValidator.class);
+				} catch (NoSuchMethodException e) {
+					return false;
+				}
+			}
+		};
+
+		VisitKind(String methodName, Class<?> parameterType) {
+			this.methodName = methodName;
+			this.parameterType = parameterType;
+		}
+
+		boolean isOverriddenBy(JavaASTValidator validator) {
+			return overridden.get(validator.getClass());
+		}
+	}
 }
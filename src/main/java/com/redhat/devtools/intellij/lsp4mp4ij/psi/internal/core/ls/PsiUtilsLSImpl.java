@@ -10,6 +10,8 @@
  ******************************************************************************/
 package com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.ls;
 
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.components.ServiceManager;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.project.Project;
@@ -20,7 +22,6 @@ import com.intellij.openapi.util.TextRange;
 import com.intellij.openapi.vfs.VfsUtil;
 import com.intellij.openapi.vfs.VfsUtilCore;
 import com.intellij.openapi.vfs.VirtualFile;
-import com.intellij.psi.JavaPsiFacade;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiDocumentManager;
 import com.intellij.psi.PsiElement;
@@ -29,12 +30,12 @@ import com.intellij.psi.PsiManager;
 import com.intellij.psi.PsiMember;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiNameIdentifierOwner;
-import com.intellij.psi.search.GlobalSearchScope;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.JsonRpcHelpers;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.PsiUtils;
 import com.redhat.devtools.intellij.quarkus.javadoc.JavadocContentAccess;
 import com.redhat.devtools.intellij.quarkus.lsp4ij.LSPIJUtils;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.PsiClassLookupCache;
 import org.eclipse.lsp4j.Location;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4mp.commons.ClasspathKind;
@@ -52,13 +53,14 @@ import java.util.Scanner;
  *
  * @see <a href="https://github.com/redhat-developer/quarkus-ls/blob/master/microprofile.jdt/com.redhat.microprofile.jdt.core/src/main/java/com/redhat/microprofile/jdt/internal/core/ls/JDTUtilsLSImpl.java">https://github.com/redhat-developer/quarkus-ls/blob/master/microprofile.jdt/com.redhat.microprofile.jdt.core/src/main/java/com/redhat/microprofile/jdt/internal/core/ls/JDTUtilsLSImpl.java</a>
  */
-public class PsiUtilsLSImpl implements IPsiUtils {
+@Service
+public final class PsiUtilsLSImpl implements IPsiUtils {
     private static final Logger LOGGER = LoggerFactory.getLogger(PsiUtilsLSImpl.class);
     private final Project project;
     private final Module module;
 
     public static IPsiUtils getInstance(Project project) {
-        return new PsiUtilsLSImpl(project);
+        return ServiceManager.getService(project, PsiUtilsLSImpl.class);
     }
 
     private PsiUtilsLSImpl(Project project, Module module) {
@@ -66,7 +68,7 @@ public class PsiUtilsLSImpl implements IPsiUtils {
         this.module = module;
     }
 
-    private PsiUtilsLSImpl(Project project) {
+    public PsiUtilsLSImpl(Project project) {
         this(project, null);
     }
 
@@ -98,8 +100,7 @@ public class PsiUtilsLSImpl implements IPsiUtils {
 
     @Override
     public PsiClass findClass(Module module, String className) {
-        JavaPsiFacade facade = JavaPsiFacade.getInstance(module.getProject());
-        return facade.findClass(className, GlobalSearchScope.allScope(module.getProject()));
+        return PsiClassLookupCache.findClass(module.getProject(), className);
     }
 
     @Override
@@ -0,0 +1,190 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.faulttolerance.java;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifierListOwner;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.AnnotationUtils;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileConfigConstants.COMPLETION_STAGE_TYPE_UTILITY;
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileConfigConstants.FUTURE_TYPE_UTILITY;
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileConfigConstants.UNI_TYPE_UTILITY;
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.faulttolerance.MicroProfileFaultToleranceConstants.ASYNCHRONOUS_ANNOTATION;
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.faulttolerance.MicroProfileFaultToleranceConstants.FALLBACK_ANNOTATION;
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.faulttolerance.MicroProfileFaultToleranceConstants.FALLBACK_METHOD_FALLBACK_ANNOTATION_MEMBER;
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.faulttolerance.MicroProfileFaultToleranceConstants.RETRY_ANNOTATION;
+
+/**
+ * Fault tolerance model of a Java class: methods grouped by name, <code>@Fallback</code> targets and
+ * return types.
+ *
+ * The model is cached on the class and recomputed when the PSI modification count changes, so it is shared
+ * by the diagnostics, completion and definition participants.
+ */
+public class FaultToleranceModel {
+
+	/**
+	 * Fault tolerance support of a module: whether the fault tolerance annotations are on the classpath
+	 * and the return types allowed for <code>@Asynchronous</code> methods.
+	 */
+	public static class ModuleSupport {
+
+		private final boolean enabled;
+
+		private final Set<String> allowedAsynchronousReturnTypes;
+
+		private ModuleSupport(Module module) {
+			this.enabled = PsiTypeUtils.findType(module, FALLBACK_ANNOTATION) != null
+					|| PsiTypeUtils.findType(module, ASYNCHRONOUS_ANNOTATION) != null
+					|| PsiTypeUtils.findType(module, RETRY_ANNOTATION) != null;
+			Set<String> returnTypes = new HashSet<>(Arrays.asList(FUTURE_TYPE_UTILITY, COMPLETION_STAGE_TYPE_UTILITY));
+			if (enabled && PsiTypeUtils.findType(module, UNI_TYPE_UTILITY) != null) {
+				returnTypes.add(UNI_TYPE_UTILITY);
+			}
+			this.allowedAsynchronousReturnTypes = Collections.unmodifiableSet(returnTypes);
+		}
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public Set<String> getAllowedAsynchronousReturnTypes() {
+			return allowedAsynchronousReturnTypes;
+		}
+
+		public boolean isAllowedAsynchronousReturnType(String returnType) {
+			for (String allowedReturnType : allowedAsynchronousReturnTypes) {
+				if (returnType.startsWith(allowedReturnType)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	private final List<PsiMethod> methods;
+
+	private final Map<String, List<PsiMethod>> methodsByName;
+
+	private final Map<PsiModifierListOwner, String> fallbackTargets;
+
+	private final Map<PsiMethod, String> returnTypes;
+
+	private FaultToleranceModel(PsiClass type) {
+		PsiMethod[] methods = type.getMethods();
+		this.methods = Arrays.asList(methods);
+		this.methodsByName = new HashMap<>(methods.length);
+		this.fallbackTargets = new HashMap<>();
+		this.returnTypes = new HashMap<>(methods.length);
+		addFallbackTarget(type);
+		for (PsiMethod method : methods) {
+			methodsByName.computeIfAbsent(method.getName(), name -> new ArrayList<>(1)).add(method);
+			PsiType returnType = method.getReturnType();
+			if (returnType != null) {
+				returnTypes.put(method, returnType.getCanonicalText());
+			}
+			addFallbackTarget(method);
+		}
+	}
+
+	private void addFallbackTarget(PsiModifierListOwner owner) {
+		PsiAnnotation fallback = AnnotationUtils.getAnnotation(owner, FALLBACK_ANNOTATION);
+		if (fallback != null) {
+			String fallbackMethodName = AnnotationUtils.getAnnotationMemberValue(fallback,
+					FALLBACK_METHOD_FALLBACK_ANNOTATION_MEMBER);
+			if (fallbackMethodName != null) {
+				fallbackTargets.put(owner, fallbackMethodName);
+			}
+		}
+	}
+
+	/**
+	 * Returns the fault tolerance model of the given class.
+	 *
+	 * @param type the Java class
+	 * @return the fault tolerance model of the given class
+	 */
+	public static FaultToleranceModel getModel(PsiClass type) {
+		return CachedValuesManager.getCachedValue(type, () -> CachedValueProvider.Result.create(
+				new FaultToleranceModel(type), PsiModificationTracker.MODIFICATION_COUNT));
+	}
+
+	/**
+	 * Returns the fault tolerance support of the given module, cached until the project roots change.
+	 *
+	 * @param module the module
+	 * @return the fault tolerance support of the given module
+	 */
+	public static ModuleSupport getModuleSupport(Module module) {
+		return CachedValuesManager.getManager(module.getProject()).getCachedValue(module, () -> CachedValueProvider.Result.create(
+				new ModuleSupport(module), ProjectRootManager.getInstance(module.getProject())));
+	}
+
+	public boolean hasMethod(String name) {
+		return methodsByName.containsKey(name);
+	}
+
+	/**
+	 * Returns the methods of the class in declaration order.
+	 *
+	 * @return the methods of the class in declaration order
+	 */
+	public List<PsiMethod> getMethods() {
+		return Collections.unmodifiableList(methods);
+	}
+
+	public List<PsiMethod> getMethods(String name) {
+		List<PsiMethod> methods = methodsByName.get(name);
+		return methods != null ? Collections.unmodifiableList(methods) : Collections.emptyList();
+	}
+
+	/**
+	 * Returns the <code>fallbackMethod</code> referenced by the <code>@Fallback</code> annotation of the given
+	 * method or class, or null if it doesn't reference a fallback method.
+	 *
+	 * @param owner the method or the class
+	 * @return the referenced fallback method name or null
+	 */
+	public String getFallbackTarget(PsiModifierListOwner owner) {
+		return fallbackTargets.get(owner);
+	}
+
+	/**
+	 * Returns the canonical text of the return type of the given method, or null for a constructor.
+	 *
+	 * @param method the method
+	 * @return the canonical text of the return type of the given method
+	 */
+	public String getReturnType(PsiMethod method) {
+		return returnTypes.get(method);
+	}
+}
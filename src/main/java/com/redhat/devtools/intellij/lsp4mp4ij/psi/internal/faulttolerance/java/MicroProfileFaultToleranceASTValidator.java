@@ -13,7 +13,6 @@
  *******************************************************************************/
 package com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.faulttolerance.java;
 
-import com.intellij.openapi.module.Module;
 import com.intellij.psi.JavaPsiFacade;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiAnnotationMemberValue;
@@ -22,29 +21,18 @@ import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiLiteral;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiReferenceExpression;
-import com.intellij.psi.PsiType;
 import com.intellij.psi.util.PsiTreeUtil;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsContext;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.validators.JavaASTValidator;
-import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils;
+import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 
 import java.text.MessageFormat;
 import java.time.temporal.ChronoUnit;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
+import java.util.List;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
-import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileConfigConstants.COMPLETION_STAGE_TYPE_UTILITY;
-import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileConfigConstants.FUTURE_TYPE_UTILITY;
-import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileConfigConstants.UNI_TYPE_UTILITY;
-import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.AnnotationUtils.getAnnotationMemberValue;
 import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.AnnotationUtils.getAnnotationMemberValueExpression;
 import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.AnnotationUtils.isMatchAnnotation;
 import static com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.faulttolerance.MicroProfileFaultToleranceConstants.ASYNCHRONOUS_ANNOTATION;
@@ -74,35 +62,28 @@ public class MicroProfileFaultToleranceASTValidator extends JavaASTValidator {
 
 	private static final String RETRY_WARNING_MESSAGE = "The effective delay may exceed the `maxDuration` member value.";
 
-	private final Map<PsiClass, Set<String>> methodsCache;
-
-	private final Set<String> allowedReturnTypesForAsynchronousAnnotation;
+	private FaultToleranceModel.ModuleSupport moduleSupport;
 
 	private static Logger LOGGER = Logger.getLogger(MicroProfileFaultToleranceASTValidator.class.getName());
 
 	public MicroProfileFaultToleranceASTValidator() {
 		super();
-		this.methodsCache = new HashMap<>();
-		this.allowedReturnTypesForAsynchronousAnnotation = new HashSet<>(
-				Arrays.asList(FUTURE_TYPE_UTILITY, COMPLETION_STAGE_TYPE_UTILITY));
+	}
+
+	@Override
+	public void initialize(JavaDiagnosticsContext context, List<Diagnostic> diagnostics) {
+		super.initialize(context, diagnostics);
+		moduleSupport = FaultToleranceModel.getModuleSupport(context.getJavaProject());
 	}
 
 	@Override
 	public boolean isAdaptedForDiagnostics(JavaDiagnosticsContext context) {
-		Module javaProject = context.getJavaProject();
-		boolean adapted = PsiTypeUtils.findType(javaProject, FALLBACK_ANNOTATION) != null
-				|| PsiTypeUtils.findType(javaProject, ASYNCHRONOUS_ANNOTATION) != null
-				|| PsiTypeUtils.findType(javaProject, RETRY_ANNOTATION) != null;
-		if (adapted) {
-			addAllowedReturnTypeForAsynchronousAnnotation(javaProject, UNI_TYPE_UTILITY);
-		}
-		return adapted;
+		return FaultToleranceModel.getModuleSupport(context.getJavaProject()).isEnabled();
 	}
 
-	private void addAllowedReturnTypeForAsynchronousAnnotation(Module javaProject, String returnType) {
-		if (PsiTypeUtils.findType(javaProject, returnType) != null) {
-			allowedReturnTypesForAsynchronousAnnotation.add(returnType);
-		}
+	@Override
+	public boolean visitsChildren() {
+		return false;
 	}
 
 	@Override
@@ -123,7 +104,6 @@ public class MicroProfileFaultToleranceASTValidator extends JavaASTValidator {
 				validateRetryAnnotation(annotation);
 			}
 		}
-		type.acceptChildren(this);
 	}
 
 	/**
@@ -152,16 +132,18 @@ public class MicroProfileFaultToleranceASTValidator extends JavaASTValidator {
 	 * @param annotation The @Fallback annotation
 	 */
 	private void validateFallbackAnnotation(PsiMethod node, PsiAnnotation annotation) {
-		PsiAnnotationMemberValue fallbackMethodExpr = getAnnotationMemberValueExpression(annotation,
-				FALLBACK_METHOD_FALLBACK_ANNOTATION_MEMBER);
-		if (fallbackMethodExpr != null) {
-			String fallbackMethodName = getAnnotationMemberValue(annotation, FALLBACK_METHOD_FALLBACK_ANNOTATION_MEMBER);
-			//fallbackMethodName = fallbackMethodName.substring(1, fallbackMethodName.length() - 1);
-			if (!getExistingMethods(node).contains(fallbackMethodName)) {
-				String message = MessageFormat.format(FALLBACK_ERROR_MESSAGE, fallbackMethodName);
-				super.addDiagnostic(message, DIAGNOSTIC_SOURCE, fallbackMethodExpr, FALLBACK_METHOD_DOES_NOT_EXIST,
-						DiagnosticSeverity.Error);
-			}
+		PsiClass type = getOwnerType(node);
+		if (type == null) {
+			return;
+		}
+		FaultToleranceModel model = FaultToleranceModel.getModel(type);
+		String fallbackMethodName = model.getFallbackTarget(node);
+		if (fallbackMethodName != null && !model.hasMethod(fallbackMethodName)) {
+			PsiAnnotationMemberValue fallbackMethodExpr = getAnnotationMemberValueExpression(annotation,
+					FALLBACK_METHOD_FALLBACK_ANNOTATION_MEMBER);
+			String message = MessageFormat.format(FALLBACK_ERROR_MESSAGE, fallbackMethodName);
+			super.addDiagnostic(message, DIAGNOSTIC_SOURCE, fallbackMethodExpr, FALLBACK_METHOD_DOES_NOT_EXIST,
+					DiagnosticSeverity.Error);
 		}
 	}
 
@@ -173,15 +155,14 @@ public class MicroProfileFaultToleranceASTValidator extends JavaASTValidator {
 	 * @param annotation The @Asynchronous annotation
 	 */
 	private void validateAsynchronousAnnotation(PsiMethod node, PsiAnnotation annotation) {
-		PsiType methodReturnType = node.getReturnType();
-		String methodReturnTypeString;
-		try {
-			methodReturnTypeString = methodReturnType.getCanonicalText();
-		} catch (Exception e) {
-			throw e;
+		PsiClass type = node.getContainingClass();
+		String methodReturnTypeString = type != null ? FaultToleranceModel.getModel(type).getReturnType(node) : null;
+		if (methodReturnTypeString == null) {
+			// constructor
+			return;
 		}
-		if ((!isAllowedReturnTypeForAsynchronousAnnotation(methodReturnTypeString))) {
-			String allowedTypes = allowedReturnTypesForAsynchronousAnnotation.stream()
+		if ((!moduleSupport.isAllowedAsynchronousReturnType(methodReturnTypeString))) {
+			String allowedTypes = moduleSupport.getAllowedAsynchronousReturnTypes().stream()
 					.collect(Collectors.joining("', '", "'", "'"));
 			String message = MessageFormat.format(ASYNCHRONOUS_ERROR_MESSAGE, node.getName(), allowedTypes);
 			super.addDiagnostic(message, DIAGNOSTIC_SOURCE, node.getReturnTypeElement(), FAULT_TOLERANCE_DEFINITION_EXCEPTION,
@@ -262,32 +243,8 @@ public class MicroProfileFaultToleranceASTValidator extends JavaASTValidator {
 		return (seconds * 1000000000 * unitValue) + (nanos * unitValue);
 	}
 
-	private boolean isAllowedReturnTypeForAsynchronousAnnotation(String returnType) {
-		return allowedReturnTypesForAsynchronousAnnotation.stream().filter(s -> returnType.startsWith(s)).findFirst().isPresent();
-	}
-
-	private Set<String> getExistingMethods(PsiMethod node) {
-		PsiClass type = getOwnerType(node);
-		if (type == null) {
-			return Collections.emptySet();
-		}
-		return getExistingMethods(type);
-	}
-
 	private PsiClass getOwnerType(PsiElement node) {
 		return PsiTreeUtil.getParentOfType(node, PsiClass.class);
 	}
 
-	private Set<String> getExistingMethods(PsiClass type) {
-		Set<String> methods = methodsCache.get(type);
-		if (methods == null) {
-			methods = Stream.of(type.getMethods()) //
-					.map(m -> {
-						return m.getName();
-					}).collect(Collectors.toSet());
-			methodsCache.put(type, methods);
-		}
-		return methods;
-	};
-
 }
@@ -70,8 +70,8 @@ public class MicroProfileFaultToleranceCompletionParticipant implements IJavaCom
 			return null;
 		}
 		List<CompletionItem> completionItems = new ArrayList<>();
-		for (PsiMethod m : method.getContainingClass().getMethods()) {
-			PsiMethod owningMethod = PsiTreeUtil.getParentOfType(fallbackAnnotation, PsiMethod.class);
+		PsiMethod owningMethod = PsiTreeUtil.getParentOfType(fallbackAnnotation, PsiMethod.class);
+		for (PsiMethod m : FaultToleranceModel.getModel(method.getContainingClass()).getMethods()) {
 			if (!m.equals(owningMethod)) {
 				completionItems.add(makeMethodCompletionItem(m.getName(), range));
 			}
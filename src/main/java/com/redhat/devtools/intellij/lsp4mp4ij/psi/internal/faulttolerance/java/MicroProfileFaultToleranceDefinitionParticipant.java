@@ -18,6 +18,8 @@ import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifierListOwner;
+import com.intellij.psi.util.PsiTreeUtil;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.definition.AbstractAnnotationDefinitionParticipant;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.definition.JavaDefinitionContext;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
@@ -55,20 +57,25 @@ public class MicroProfileFaultToleranceDefinitionParticipant extends AbstractAnn
 															  PsiAnnotation annotation, JavaDefinitionContext context) {
 		PsiClass type = getOwnerType(annotation);
 		if (type != null) {
+			// The annotated method or class
+			PsiModifierListOwner owner = PsiTreeUtil.getParentOfType(annotation, PsiModifierListOwner.class);
+			FaultToleranceModel model = FaultToleranceModel.getModel(type);
+			String fallbackMethodName = owner != null ? model.getFallbackTarget(owner) : null;
+			if (fallbackMethodName == null) {
+				return null;
+			}
 			PsiFile typeRoot = context.getTypeRoot();
 			IPsiUtils utils = context.getUtils();
-			for (PsiMethod method : type.getMethods()) {
-				if (annotationValue.equals(method.getName())) {
-					Range methodNameRange = PositionUtils.toNameRange(method, utils);
-					MicroProfileDefinition definition = new MicroProfileDefinition();
-					LocationLink location = new LocationLink();
-					definition.setLocation(location);
-					location.setTargetUri(utils.toUri(typeRoot));
-					location.setTargetRange(methodNameRange);
-					location.setTargetSelectionRange(methodNameRange);
-					location.setOriginSelectionRange(annotationValueRange);
-					return Arrays.asList(definition);
-				}
+			for (PsiMethod method : model.getMethods(fallbackMethodName)) {
+				Range methodNameRange = PositionUtils.toNameRange(method, utils);
+				MicroProfileDefinition definition = new MicroProfileDefinition();
+				LocationLink location = new LocationLink();
+				definition.setLocation(location);
+				location.setTargetUri(utils.toUri(typeRoot));
+				location.setTargetRange(methodNameRange);
+				location.setTargetSelectionRange(methodNameRange);
+				location.setOriginSelectionRange(annotationValueRange);
+				return Arrays.asList(definition);
 			}
 		}
 		return null;
@@ -42,8 +42,14 @@ public class JaxRsConstants {
 
 	public static final String JAVAX_WS_RS_PATCH_ANNOTATION = "javax.ws.rs.PATCH";
 
+	public static final String JAVAX_WS_RS_PRODUCES_ANNOTATION = "javax.ws.rs.Produces";
+
+	public static final String JAVAX_WS_RS_CONSUMES_ANNOTATION = "javax.ws.rs.Consumes";
+
 	public static final String PATH_VALUE = "value";
 
+	public static final String ANNOTATION_VALUE = "value";
+
 	public static final String JAVAX_WS_RS_RESPONSE_TYPE = "javax.ws.rs.core.Response";
 
 }
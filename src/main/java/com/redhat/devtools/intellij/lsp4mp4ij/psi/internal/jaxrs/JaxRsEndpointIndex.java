@@ -0,0 +1,315 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.jaxrs;
+
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiAnnotationMemberValue;
+import com.intellij.psi.PsiArrayInitializerMemberValue;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiImportList;
+import com.intellij.psi.PsiJavaCodeReferenceElement;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiLiteralExpression;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifier;
+import com.intellij.psi.PsiModifierListOwner;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.IOUtil;
+import com.intellij.util.io.KeyDescriptor;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsEndpoint;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.jaxrs.JaxRsConstants.ANNOTATION_VALUE;
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.jaxrs.JaxRsConstants.JAVAX_WS_RS_APPLICATIONPATH_ANNOTATION;
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.jaxrs.JaxRsConstants.JAVAX_WS_RS_CONSUMES_ANNOTATION;
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.jaxrs.JaxRsConstants.JAVAX_WS_RS_DELETE_ANNOTATION;
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.jaxrs.JaxRsConstants.JAVAX_WS_RS_GET_ANNOTATION;
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.jaxrs.JaxRsConstants.JAVAX_WS_RS_HEAD_ANNOTATION;
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.jaxrs.JaxRsConstants.JAVAX_WS_RS_OPTIONS_ANNOTATION;
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.jaxrs.JaxRsConstants.JAVAX_WS_RS_PATCH_ANNOTATION;
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.jaxrs.JaxRsConstants.JAVAX_WS_RS_PATH_ANNOTATION;
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.jaxrs.JaxRsConstants.JAVAX_WS_RS_POST_ANNOTATION;
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.jaxrs.JaxRsConstants.JAVAX_WS_RS_PRODUCES_ANNOTATION;
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.jaxrs.JaxRsConstants.JAVAX_WS_RS_PUT_ANNOTATION;
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.jaxrs.JaxRsConstants.PATH_VALUE;
+
+/**
+ * Index of the JAX-RS resource methods declared in Java sources.
+ *
+ * <p>
+ * The key is the path template of the resource method (class and method @Path
+ * values), the value is the list of resource methods of the file for this path.
+ * Classes annotated with @ApplicationPath are stored with the
+ * {@link #APPLICATION_PATH_KEY} key, the @ApplicationPath value being the
+ * resource path of the entry.
+ * </p>
+ *
+ * <p>
+ * Annotations are matched syntactically (simple name + imports) because
+ * references cannot be resolved while indexing.
+ * </p>
+ */
+public class JaxRsEndpointIndex extends FileBasedIndexExtension<String, List<JaxRsEndpoint>> {
+
+	public static final ID<String, List<JaxRsEndpoint>> NAME = ID.create("microprofile.jaxrs.endpoints");
+
+	public static final String APPLICATION_PATH_KEY = "@ApplicationPath";
+
+	private static final String JAVAX_WS_RS_PACKAGE = "javax.ws.rs";
+
+	private static final String[][] HTTP_METHODS = { { "GET", JAVAX_WS_RS_GET_ANNOTATION },
+			{ "POST", JAVAX_WS_RS_POST_ANNOTATION }, { "PUT", JAVAX_WS_RS_PUT_ANNOTATION },
+			{ "DELETE", JAVAX_WS_RS_DELETE_ANNOTATION }, { "HEAD", JAVAX_WS_RS_HEAD_ANNOTATION },
+			{ "OPTIONS", JAVAX_WS_RS_OPTIONS_ANNOTATION }, { "PATCH", JAVAX_WS_RS_PATCH_ANNOTATION } };
+
+	private static final DataExternalizer<List<JaxRsEndpoint>> EXTERNALIZER = new DataExternalizer<>() {
+		@Override
+		public void save(@NotNull DataOutput out, List<JaxRsEndpoint> endpoints) throws IOException {
+			DataInputOutputUtil.writeINT(out, endpoints.size());
+			for (JaxRsEndpoint endpoint : endpoints) {
+				writeNullableString(out, endpoint.getHttpMethod());
+				writeNullableString(out, endpoint.getResourcePath());
+				writeNullableString(out, endpoint.getMethodPath());
+				writeStrings(out, endpoint.getProduces());
+				writeStrings(out, endpoint.getConsumes());
+				writeNullableString(out, endpoint.getDeclaringClass());
+				writeNullableString(out, endpoint.getMethodName());
+				DataInputOutputUtil.writeINT(out, endpoint.getAnchorOffset());
+				DataInputOutputUtil.writeINT(out, endpoint.getAnchorLength());
+			}
+		}
+
+		@Override
+		public List<JaxRsEndpoint> read(@NotNull DataInput in) throws IOException {
+			int size = DataInputOutputUtil.readINT(in);
+			List<JaxRsEndpoint> endpoints = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				endpoints.add(new JaxRsEndpoint(readNullableString(in), readNullableString(in), readNullableString(in),
+						readStrings(in), readStrings(in), readNullableString(in), readNullableString(in),
+						DataInputOutputUtil.readINT(in), DataInputOutputUtil.readINT(in)));
+			}
+			return endpoints;
+		}
+	};
+
+	@NotNull
+	@Override
+	public ID<String, List<JaxRsEndpoint>> getName() {
+		return NAME;
+	}
+
+	@NotNull
+	@Override
+	public DataIndexer<String, List<JaxRsEndpoint>, FileContent> getIndexer() {
+		return inputData -> {
+			if (!StringUtil.contains(inputData.getContentAsText(), JAVAX_WS_RS_PACKAGE)) {
+				return Collections.emptyMap();
+			}
+			PsiFile file = inputData.getPsiFile();
+			if (!(file instanceof PsiJavaFile)) {
+				return Collections.emptyMap();
+			}
+			Map<String, List<JaxRsEndpoint>> result = new HashMap<>();
+			PsiImportList imports = ((PsiJavaFile) file).getImportList();
+			for (PsiClass type : ((PsiJavaFile) file).getClasses()) {
+				collectEndpoints(type, imports, result);
+			}
+			return result;
+		};
+	}
+
+	private static void collectEndpoints(PsiClass type, PsiImportList imports, Map<String, List<JaxRsEndpoint>> result) {
+		PsiAnnotation applicationPath = findAnnotation(type, JAVAX_WS_RS_APPLICATIONPATH_ANNOTATION, imports);
+		if (applicationPath != null) {
+			String value = getStringValue(applicationPath.findDeclaredAttributeValue(PATH_VALUE));
+			if (value != null) {
+				TextRange range = applicationPath.getTextRange();
+				result.computeIfAbsent(APPLICATION_PATH_KEY, k -> new ArrayList<>())
+						.add(new JaxRsEndpoint(null, value, null, null, null, type.getQualifiedName(), null,
+								range.getStartOffset(), range.getLength()));
+			}
+		}
+		String resourcePath = getPathValue(type, imports);
+		List<String> classProduces = getStringValues(type, JAVAX_WS_RS_PRODUCES_ANNOTATION, imports);
+		List<String> classConsumes = getStringValues(type, JAVAX_WS_RS_CONSUMES_ANNOTATION, imports);
+		// Only physical children are indexed (same as the URL code lens), generated
+		// members are ignored
+		for (PsiElement child : type.getChildren()) {
+			if (child instanceof PsiClass) {
+				collectEndpoints((PsiClass) child, imports, result);
+			} else if (resourcePath != null && child instanceof PsiMethod) {
+				PsiMethod method = (PsiMethod) child;
+				String httpMethod = getHttpMethod(method, imports);
+				if (httpMethod == null || !method.getModifierList().hasExplicitModifier(PsiModifier.PUBLIC)) {
+					continue;
+				}
+				PsiAnnotation[] annotations = method.getModifierList().getAnnotations();
+				TextRange anchor = annotations[annotations.length - 1].getTextRange();
+				List<String> produces = getStringValues(method, JAVAX_WS_RS_PRODUCES_ANNOTATION, imports);
+				List<String> consumes = getStringValues(method, JAVAX_WS_RS_CONSUMES_ANNOTATION, imports);
+				JaxRsEndpoint endpoint = new JaxRsEndpoint(httpMethod, resourcePath, getPathValue(method, imports),
+						produces.isEmpty() ? classProduces : produces, consumes.isEmpty() ? classConsumes : consumes,
+						type.getQualifiedName(), method.getName(), anchor.getStartOffset(), anchor.getLength());
+				result.computeIfAbsent(endpoint.getPathTemplate(), k -> new ArrayList<>()).add(endpoint);
+			}
+		}
+	}
+
+	private static String getHttpMethod(PsiMethod method, PsiImportList imports) {
+		for (String[] httpMethod : HTTP_METHODS) {
+			if (findAnnotation(method, httpMethod[1], imports) != null) {
+				return httpMethod[0];
+			}
+		}
+		return null;
+	}
+
+	private static String getPathValue(PsiModifierListOwner owner, PsiImportList imports) {
+		PsiAnnotation path = findAnnotation(owner, JAVAX_WS_RS_PATH_ANNOTATION, imports);
+		return path != null ? getStringValue(path.findDeclaredAttributeValue(PATH_VALUE)) : null;
+	}
+
+	private static List<String> getStringValues(PsiModifierListOwner owner, String annotationName,
+			PsiImportList imports) {
+		PsiAnnotation annotation = findAnnotation(owner, annotationName, imports);
+		if (annotation == null) {
+			return Collections.emptyList();
+		}
+		PsiAnnotationMemberValue value = annotation.findDeclaredAttributeValue(ANNOTATION_VALUE);
+		if (value instanceof PsiArrayInitializerMemberValue) {
+			List<String> values = new ArrayList<>();
+			for (PsiAnnotationMemberValue initializer : ((PsiArrayInitializerMemberValue) value).getInitializers()) {
+				values.add(getStringValue(initializer));
+			}
+			return values;
+		}
+		return value != null ? Collections.singletonList(getStringValue(value)) : Collections.emptyList();
+	}
+
+	/**
+	 * Returns the value of a string literal or the text of the expression (ex :
+	 * MediaType.TEXT_PLAIN) since constants cannot be resolved while indexing.
+	 */
+	private static String getStringValue(PsiAnnotationMemberValue value) {
+		if (value instanceof PsiLiteralExpression) {
+			Object literal = ((PsiLiteralExpression) value).getValue();
+			return literal instanceof String ? (String) literal : null;
+		}
+		return value != null ? value.getText() : null;
+	}
+
+	private static PsiAnnotation findAnnotation(PsiModifierListOwner owner, String annotationName,
+			PsiImportList imports) {
+		if (owner.getModifierList() == null) {
+			return null;
+		}
+		String shortName = StringUtil.getShortName(annotationName);
+		for (PsiAnnotation annotation : owner.getModifierList().getAnnotations()) {
+			PsiJavaCodeReferenceElement reference = annotation.getNameReferenceElement();
+			if (reference == null) {
+				continue;
+			}
+			String text = reference.getText();
+			if (annotationName.equals(text)) {
+				return annotation;
+			}
+			if (shortName.equals(text) && imports != null
+					&& (imports.findSingleClassImportStatement(annotationName) != null
+							|| imports.findOnDemandImportStatement(JAVAX_WS_RS_PACKAGE) != null)) {
+				return annotation;
+			}
+		}
+		return null;
+	}
+
+	@NotNull
+	@Override
+	public KeyDescriptor<String> getKeyDescriptor() {
+		return EnumeratorStringDescriptor.INSTANCE;
+	}
+
+	@NotNull
+	@Override
+	public DataExternalizer<List<JaxRsEndpoint>> getValueExternalizer() {
+		return EXTERNALIZER;
+	}
+
+	@Override
+	public int getVersion() {
+		return 1;
+	}
+
+	@NotNull
+	@Override
+	public FileBasedIndex.InputFilter getInputFilter() {
+		return new DefaultFileTypeSpecificInputFilter(JavaFileType.INSTANCE);
+	}
+
+	@Override
+	public boolean dependsOnFileContent() {
+		return true;
+	}
+
+	private static void writeNullableString(DataOutput out, String value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			IOUtil.writeUTF(out, value);
+		}
+	}
+
+	private static String readNullableString(DataInput in) throws IOException {
+		return in.readBoolean() ? IOUtil.readUTF(in) : null;
+	}
+
+	private static void writeStrings(DataOutput out, List<String> values) throws IOException {
+		DataInputOutputUtil.writeINT(out, values.size());
+		for (String value : values) {
+			writeNullableString(out, value);
+		}
+	}
+
+	private static List<String> readStrings(DataInput in) throws IOException {
+		int size = DataInputOutputUtil.readINT(in);
+		if (size == 0) {
+			return Collections.emptyList();
+		}
+		List<String> values = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			values.add(readNullableString(in));
+		}
+		return values;
+	}
+}
@@ -14,31 +14,26 @@
 package com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.jaxrs.java;
 
 import com.intellij.openapi.module.Module;
+import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiClass;
-import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiMethod;
-import com.intellij.psi.PsiModifier;
 import com.intellij.psi.util.PsiTreeUtil;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.codelens.IJavaCodeLensParticipant;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.codelens.JavaCodeLensContext;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsContext;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsEndpoint;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsEndpoints;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils;
 import org.eclipse.lsp4j.CodeLens;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaCodeLensParams;
 
-import java.io.IOException;
-import java.net.InetSocketAddress;
-import java.net.Socket;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsUtils.createURLCodeLens;
-import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsUtils.getJaxRsPathValue;
-import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsUtils.isClickableJaxRsRequestMethod;
-import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsUtils.isJaxRsRequestMethod;
 import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils.overlaps;
 import static com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.jaxrs.JaxRsConstants.JAVAX_WS_RS_PATH_ANNOTATION;
 
@@ -53,8 +48,6 @@ public class JaxRsCodeLensParticipant implements IJavaCodeLensParticipant {
 
 	private static final String LOCALHOST = "localhost";
 
-	private static final int PING_TIMEOUT = 2000;
-
 	@Override
 	public boolean isAdaptedForCodeLens(JavaCodeLensContext context) {
 		MicroProfileJavaCodeLensParams params = context.getParams();
@@ -74,73 +67,52 @@ public class JaxRsCodeLensParticipant implements IJavaCodeLensParticipant {
 	@Override
 	public List<CodeLens> collectCodeLens(JavaCodeLensContext context) {
 		PsiFile typeRoot = context.getTypeRoot();
-		PsiElement[] elements = typeRoot.getChildren();
-		JaxRsContext jaxrsContext = JaxRsContext.getJaxRsContext(context);
-		IPsiUtils utils = context.getUtils();
+		VirtualFile file = typeRoot.getVirtualFile();
+		if (file == null) {
+			return Collections.emptyList();
+		}
+		// The resource methods of the file are read from the JAX-RS endpoint index
+		List<JaxRsEndpoint> endpoints = JaxRsEndpoints.getEndpoints(file, typeRoot.getProject());
+		if (endpoints.isEmpty()) {
+			return Collections.emptyList();
+		}
+		JaxRsContext jaxRsContext = JaxRsContext.getJaxRsContext(context);
 		MicroProfileJavaCodeLensParams params = context.getParams();
-		List<CodeLens> lenses = new ArrayList<>();
-		collectURLCodeLenses(elements, null, lenses, params, jaxrsContext, utils);
-		return lenses;
-	}
-
-	private static void collectURLCodeLenses(PsiElement[] elements, String rootPath, Collection<CodeLens> lenses,
-			MicroProfileJavaCodeLensParams params, JaxRsContext jaxRsContext, IPsiUtils utils) {
-		for (PsiElement element : elements) {
-			if (element instanceof PsiClass) {
-				PsiClass type = (PsiClass) element;
-				// Get value of JAX-RS @Path annotation from the class
-				String pathValue = getJaxRsPathValue(type);
-				if (pathValue != null) {
-					// Class is annotated with @Path
-					// Display code lens only if local server is available.
-					if (!params.isCheckServerAvailable()
-							|| isServerAvailable(LOCALHOST, jaxRsContext.getServerPort(), PING_TIMEOUT)) {
-						// Loop for each method annotated with @Path to generate
-						// URL code lens per
-						// method.
-						collectURLCodeLenses(type.getChildren(), pathValue, lenses, params, jaxRsContext, utils);
-					}
-				}
-				continue;
-			} else if (element instanceof PsiMethod) {
-				if (utils.isHiddenGeneratedElement(element)) {
-					continue;
-				}
-				// ignore element if method range overlaps the type range, happens for generated
-				// bytecode, i.e. with lombok
-				PsiClass parentType = PsiTreeUtil.getParentOfType(element, PsiClass.class);
-				if (parentType != null && overlaps(parentType.getNameIdentifier().getTextRange(),
-						((PsiMethod) element).getNameIdentifier().getTextRange())) {
-					continue;
-				}
-			} else {// neither a type nor a method, we bail
+		// Display code lens only if local server is available.
+		if (params.isCheckServerAvailable()
+				&& !ServerAvailabilityService.getInstance().isAvailable(typeRoot.getProject(), LOCALHOST,
+						jaxRsContext.getServerPort())) {
+			return Collections.emptyList();
+		}
+		IPsiUtils utils = context.getUtils();
+		String baseURL = jaxRsContext.getLocalBaseURL();
+		List<CodeLens> lenses = new ArrayList<>(endpoints.size());
+		for (JaxRsEndpoint endpoint : endpoints) {
+			if (isIgnored(typeRoot, endpoint, utils)) {
 				continue;
 			}
-
-			// Here java element is a method
-			if (rootPath != null) {
-				PsiMethod method = (PsiMethod) element;
-				// A JAX-RS method is a public method annotated with @GET @POST, @DELETE, @PUT
-				// JAX-RS
-				// annotation
-				if (isJaxRsRequestMethod(method) && method.getModifierList().hasExplicitModifier(PsiModifier.PUBLIC)) {
-					String baseURL = jaxRsContext.getLocalBaseURL();
-					String openURICommandId = isClickableJaxRsRequestMethod(method) ? params.getOpenURICommand() : null;
-					CodeLens lens = createURLCodeLens(baseURL, rootPath, openURICommandId, (PsiMethod) element, utils);
-					if (lens != null) {
-						lenses.add(lens);
-					}
-				}
-			}
+			String openURICommandId = endpoint.isClickable() ? params.getOpenURICommand() : null;
+			lenses.add(createURLCodeLens(baseURL, openURICommandId, endpoint, typeRoot, utils));
 		}
+		return lenses;
 	}
 
-	private static boolean isServerAvailable(String host, int port, int timeout) {
-		try (Socket socket = new Socket()) {
-			socket.connect(new InetSocketAddress(host, port), timeout);
-			return true;
-		} catch (IOException e) {
+	/**
+	 * Returns true if the resource method of the given endpoint is a hidden
+	 * generated element or if its range overlaps the type range, which happens for
+	 * generated bytecode, i.e. with lombok.
+	 */
+	private static boolean isIgnored(PsiFile typeRoot, JaxRsEndpoint endpoint, IPsiUtils utils) {
+		PsiMethod method = PsiTreeUtil.getParentOfType(typeRoot.findElementAt(endpoint.getAnchorOffset()),
+				PsiMethod.class);
+		if (method == null) {
 			return false;
 		}
+		if (utils.isHiddenGeneratedElement(method)) {
+			return true;
+		}
+		PsiClass parentType = method.getContainingClass();
+		return parentType != null && parentType.getNameIdentifier() != null && method.getNameIdentifier() != null
+				&& overlaps(parentType.getNameIdentifier().getTextRange(), method.getNameIdentifier().getTextRange());
 	}
 }
@@ -0,0 +1,100 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.jaxrs.java;
+
+import com.intellij.codeInsight.daemon.DaemonCodeAnalyzer;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.project.ProjectManager;
+import com.intellij.openapi.util.Disposer;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.UserDataHolderEx;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.ServerAvailabilityMonitor;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Availability of the dev servers used by the JAX-RS URL code lenses.
+ *
+ * <p>
+ * The servers are probed in the background by a {@link ServerAvailabilityMonitor}
+ * disposed with this service. When a server is started or stopped, the code
+ * lenses are refreshed only in the projects which asked for that server.
+ * </p>
+ */
+@Service
+public final class ServerAvailabilityService implements Disposable {
+
+	private static final int PING_TIMEOUT = 2000;
+
+	private static final Key<Set<String>> REQUESTED_SERVERS = Key.create("jaxrs.requested.servers");
+
+	private final ServerAvailabilityMonitor monitor;
+
+	public static ServerAvailabilityService getInstance() {
+		return ServiceManager.getService(ServerAvailabilityService.class);
+	}
+
+	public ServerAvailabilityService() {
+		monitor = new ServerAvailabilityMonitor(AppExecutorUtil.getAppScheduledExecutorService(), PING_TIMEOUT, 5000,
+				1000, 30000, 5 * 60 * 1000);
+		monitor.addListener(this::availabilityChanged);
+		Disposer.register(this, monitor);
+	}
+
+	/**
+	 * Returns the last known availability of the server for the given host and
+	 * port.
+	 *
+	 * @param project the project which displays the code lenses of the server.
+	 * @param host    the host.
+	 * @param port    the port.
+	 * @return the last known availability of the server.
+	 */
+	public boolean isAvailable(Project project, String host, int port) {
+		Set<String> servers = project.getUserData(REQUESTED_SERVERS);
+		if (servers == null) {
+			servers = ((UserDataHolderEx) project).putUserDataIfAbsent(REQUESTED_SERVERS,
+					ConcurrentHashMap.newKeySet());
+		}
+		servers.add(getKey(host, port));
+		return monitor.isAvailable(host, port);
+	}
+
+	private void availabilityChanged(String host, int port, boolean available) {
+		String server = getKey(host, port);
+		ApplicationManager.getApplication().invokeLater(() -> {
+			for (Project project : ProjectManager.getInstance().getOpenProjects()) {
+				Set<String> servers = project.getUserData(REQUESTED_SERVERS);
+				if (!project.isDisposed() && servers != null && servers.contains(server)) {
+					DaemonCodeAnalyzer.getInstance(project).restart();
+				}
+			}
+		});
+	}
+
+	private static String getKey(String host, int port) {
+		return host + ":" + port;
+	}
+
+	@Override
+	public void dispose() {
+		// The monitor is disposed with this service
+	}
+}
@@ -64,6 +64,11 @@ public class MicroProfileReactiveMessagingASTValidator extends JavaASTValidator
         return adapted;
     }
 
+    @Override
+    public boolean visitsChildren() {
+        return false;
+    }
+
     @Override
     public void visitAnnotation(PsiAnnotation node) {
         validateIncomingOutgoingAnnotation(node);
@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.intellij.quarkus;
+
+import com.intellij.ProjectTopics;
+import com.intellij.facet.Facet;
+import com.intellij.facet.FacetManager;
+import com.intellij.facet.ProjectWideFacetAdapter;
+import com.intellij.facet.ProjectWideFacetListenersRegistry;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.project.ModuleListener;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.LibraryOrderEntry;
+import com.intellij.openapi.roots.ModuleRootEvent;
+import com.intellij.openapi.roots.ModuleRootListener;
+import com.intellij.openapi.roots.ModuleRootManager;
+import com.intellij.openapi.roots.OrderEntry;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.redhat.devtools.intellij.quarkus.facet.QuarkusFacet;
+import com.redhat.devtools.intellij.qute.facet.QuteFacet;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Project service holding the classification of each module (Quarkus library, Quarkus and Qute facets).
+ *
+ * The classification of a module is computed lazily from its library order entries and facets, then kept until
+ * the roots or the facets of the project change. Library detection stops as soon as quarkus-core has been found.
+ */
+public class QuarkusModuleClassificationService implements ModuleRootListener, ModuleListener, Disposable {
+
+    public enum ModuleKind {
+        /**
+         * The module depends on quarkus-core.
+         */
+        QUARKUS,
+        /**
+         * The module has the Quarkus facet.
+         */
+        QUARKUS_FACET,
+        /**
+         * The module has the Qute facet.
+         */
+        QUTE_FACET
+    }
+
+    private static final String QUARKUS_CORE_LIBRARY = "io.quarkus:quarkus-core:";
+
+    private final Project project;
+
+    private final Map<Module, Set<ModuleKind>> kinds = new ConcurrentHashMap<>();
+
+    private final AtomicLong modificationCount = new AtomicLong();
+
+    public static QuarkusModuleClassificationService getInstance(Project project) {
+        return ServiceManager.getService(project, QuarkusModuleClassificationService.class);
+    }
+
+    public QuarkusModuleClassificationService(Project project) {
+        this.project = project;
+        project.getMessageBus().connect(this).subscribe(ProjectTopics.PROJECT_ROOTS, this);
+        project.getMessageBus().connect(this).subscribe(ProjectTopics.MODULES, this);
+        ProjectWideFacetListenersRegistry.getInstance(project).registerListener(new ProjectWideFacetAdapter<Facet>() {
+            @Override
+            public void facetAdded(@NotNull Facet facet) {
+                invalidate(facet.getModule());
+            }
+
+            @Override
+            public void facetRemoved(@NotNull Facet facet) {
+                invalidate(facet.getModule());
+            }
+        }, this);
+    }
+
+    /**
+     * Return the kinds of the given module.
+     *
+     * @param module the module
+     * @return the (immutable) kinds of the module
+     */
+    @NotNull
+    public Set<ModuleKind> getKinds(@NotNull Module module) {
+        if (module.isDisposed()) {
+            return Collections.emptySet();
+        }
+        Set<ModuleKind> result = kinds.get(module);
+        if (result == null) {
+            long stamp = modificationCount.get();
+            result = computeKinds(module);
+            if (stamp == modificationCount.get()) {
+                kinds.put(module, result);
+            }
+        }
+        return result;
+    }
+
+    public boolean is(@NotNull Module module, @NotNull ModuleKind kind) {
+        return getKinds(module).contains(kind);
+    }
+
+    /**
+     * Return the kinds of the module owning the given file.
+     *
+     * @param file the file
+     * @return the kinds of the owning module or an empty set if the file does not belong to a module
+     */
+    @NotNull
+    public Set<ModuleKind> getKinds(@NotNull VirtualFile file) {
+        Module module = getModule(file);
+        return module != null ? getKinds(module) : Collections.emptySet();
+    }
+
+    @Nullable
+    public Module getModule(@NotNull VirtualFile file) {
+        return project.isDisposed() ? null : ProjectFileIndex.getInstance(project).getModuleForFile(file, false);
+    }
+
+    private static Set<ModuleKind> computeKinds(Module module) {
+        Set<ModuleKind> result = EnumSet.noneOf(ModuleKind.class);
+        for (OrderEntry entry : ModuleRootManager.getInstance(module).getOrderEntries()) {
+            if (entry instanceof LibraryOrderEntry && isQuarkusCoreLibrary(((LibraryOrderEntry) entry).getLibraryName())) {
+                result.add(ModuleKind.QUARKUS);
+                break;
+            }
+        }
+        FacetManager facetManager = FacetManager.getInstance(module);
+        if (facetManager.getFacetByType(QuarkusFacet.FACET_TYPE_ID) != null) {
+            result.add(ModuleKind.QUARKUS_FACET);
+        }
+        if (facetManager.getFacetByType(QuteFacet.FACET_TYPE_ID) != null) {
+            result.add(ModuleKind.QUTE_FACET);
+        }
+        return Collections.unmodifiableSet(result);
+    }
+
+    private static boolean isQuarkusCoreLibrary(String libraryName) {
+        return libraryName != null && !libraryName.equalsIgnoreCase(QuarkusConstants.QUARKUS_DEPLOYMENT_LIBRARY_NAME) &&
+                libraryName.contains(QUARKUS_CORE_LIBRARY);
+    }
+
+    private void invalidate(Module module) {
+        modificationCount.incrementAndGet();
+        kinds.remove(module);
+    }
+
+    private void invalidateAll() {
+        modificationCount.incrementAndGet();
+        kinds.clear();
+    }
+
+    @Override
+    public void rootsChanged(@NotNull ModuleRootEvent event) {
+        invalidateAll();
+    }
+
+    @Override
+    public void moduleRemoved(@NotNull Project project, @NotNull Module module) {
+        invalidate(module);
+    }
+
+    @Override
+    public void dispose() {
+        kinds.clear();
+    }
+}
@@ -0,0 +1,269 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.intellij.quarkus;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Schedules the processing of the modules of a project on a bounded pool of
+ * workers.
+ *
+ * <p>
+ * A module is processed at most once at a time: a request for a module which
+ * is already queued or running returns the pending future. The modules for
+ * which the urgent predicate is true (ex: modules with a file open in an
+ * editor) are processed first, the other modules in request order.
+ * </p>
+ *
+ * <p>
+ * The flush action is run for a batch of processed modules (ex: to apply
+ * their results in a single modification): right after an urgent module has
+ * been processed, when {@link #MAX_BATCH_SIZE} modules are waiting for the
+ * flush or when no module is queued or running anymore. The modules processed
+ * while a flush is running are flushed in the next batch. The future of a
+ * module is completed after the flush of its batch.
+ * </p>
+ *
+ * @param <M> the module type
+ */
+public class QuarkusModuleScheduler<M> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(QuarkusModuleScheduler.class);
+
+    static final int MAX_BATCH_SIZE = 16;
+
+    private final Executor executor;
+
+    private final Consumer<M> task;
+
+    private final Predicate<M> urgent;
+
+    private final Runnable flush;
+
+    private final Map<M, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    private final Map<M, Long> completionTimes = new ConcurrentHashMap<>();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final AtomicInteger queueLength = new AtomicInteger();
+
+    // Modules queued or running
+    private final AtomicInteger active = new AtomicInteger();
+
+    // Modules processed and waiting for the flush to complete their future
+    private final Queue<ModuleTask> processed = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger processedCount = new AtomicInteger();
+
+    private final Object flushLock = new Object();
+
+    private class ModuleTask implements Runnable, Comparable<ModuleTask> {
+        private final M module;
+        private final boolean urgent;
+        private final long sequence;
+        private final long start = System.currentTimeMillis();
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private Throwable error;
+
+        private ModuleTask(M module, boolean urgent, long sequence) {
+            this.module = module;
+            this.urgent = urgent;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public void run() {
+            queueLength.decrementAndGet();
+            try {
+                task.accept(module);
+                long time = System.currentTimeMillis() - start;
+                completionTimes.put(module, time);
+                LOGGER.info("Module " + module + " processed in " + time + "ms, " + queueLength.get() + " modules queued");
+            } catch (Throwable e) {
+                LOGGER.warn("Error while processing module " + module, e);
+                error = e;
+            }
+            // A new request for the module is processed again
+            inFlight.remove(module, future);
+            processed.add(this);
+            int batchSize = processedCount.incrementAndGet();
+            if (active.decrementAndGet() == 0 || urgent || batchSize >= MAX_BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        private void complete(Throwable flushError) {
+            if (error != null) {
+                future.completeExceptionally(error);
+            } else if (flushError != null) {
+                future.completeExceptionally(flushError);
+            } else {
+                future.complete(null);
+            }
+        }
+
+        @Override
+        public int compareTo(ModuleTask other) {
+            if (urgent != other.urgent) {
+                return urgent ? -1 : 1;
+            }
+            return Long.compare(sequence, other.sequence);
+        }
+    }
+
+    /**
+     * Creates an executor with a bounded number of workers, which runs the
+     * urgent modules first.
+     *
+     * @param name the name of the worker threads
+     * @param threads the maximum number of workers
+     * @return the executor
+     */
+    public static ExecutorService createExecutor(String name, int threads) {
+        AtomicInteger count = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads,
+                1L, TimeUnit.MINUTES, new PriorityBlockingQueue<>(),
+                r -> new Thread(r, name + " " + count.incrementAndGet()));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Creates a scheduler.
+     *
+     * @param executor the executor which runs the tasks, created with {@link #createExecutor(String, int)}
+     * @param task the processing of a module
+     * @param urgent the predicate which tells if a module must be processed first
+     */
+    public QuarkusModuleScheduler(Executor executor, Consumer<M> task, Predicate<M> urgent) {
+        this(executor, task, urgent, () -> {});
+    }
+
+    /**
+     * Creates a scheduler.
+     *
+     * @param executor the executor which runs the tasks, created with {@link #createExecutor(String, int)}
+     * @param task the processing of a module
+     * @param urgent the predicate which tells if a module must be processed first
+     * @param flush the action run for a batch of processed modules
+     */
+    public QuarkusModuleScheduler(Executor executor, Consumer<M> task, Predicate<M> urgent, Runnable flush) {
+        this.executor = executor;
+        this.task = task;
+        this.urgent = urgent;
+        this.flush = flush;
+    }
+
+    /**
+     * Schedule the processing of a module.
+     *
+     * @param module the module
+     * @return the future completed when the module has been processed, cancelled if the executor is shut down
+     */
+    public CompletableFuture<Void> schedule(M module) {
+        CompletableFuture<Void> future = inFlight.get(module);
+        if (future != null) {
+            return future;
+        }
+        ModuleTask moduleTask = new ModuleTask(module, urgent.test(module), sequence.incrementAndGet());
+        future = inFlight.putIfAbsent(module, moduleTask.future);
+        if (future != null) {
+            return future;
+        }
+        queueLength.incrementAndGet();
+        active.incrementAndGet();
+        try {
+            executor.execute(moduleTask);
+        } catch (RejectedExecutionException e) {
+            queueLength.decrementAndGet();
+            active.decrementAndGet();
+            inFlight.remove(module, moduleTask.future);
+            moduleTask.future.cancel(false);
+        }
+        return moduleTask.future;
+    }
+
+    /**
+     * Run the flush action and complete the futures of the modules processed before it.
+     */
+    private void flush() {
+        List<ModuleTask> tasks = new ArrayList<>();
+        Throwable flushError = null;
+        synchronized (flushLock) {
+            // The results of these modules are available to the flush action
+            ModuleTask moduleTask;
+            while ((moduleTask = processed.poll()) != null) {
+                processedCount.decrementAndGet();
+                tasks.add(moduleTask);
+            }
+            if (tasks.isEmpty()) {
+                return;
+            }
+            try {
+                flush.run();
+            } catch (Throwable e) {
+                LOGGER.warn("Error while flushing " + tasks.size() + " modules", e);
+                flushError = e;
+            }
+        }
+        for (ModuleTask moduleTask : tasks) {
+            moduleTask.complete(flushError);
+        }
+    }
+
+    /**
+     * Returns the number of modules waiting for a worker.
+     *
+     * @return the number of modules waiting for a worker
+     */
+    public int getQueueLength() {
+        return queueLength.get();
+    }
+
+    /**
+     * Returns the time in ms between the request for a module and the end of
+     * its last processing.
+     *
+     * @param module the module
+     * @return the completion time in ms or -1 if the module has not been processed yet
+     */
+    public long getCompletionTime(M module) {
+        return completionTimes.getOrDefault(module, -1L);
+    }
+
+    /**
+     * Forget the completion time of a module.
+     *
+     * @param module the module
+     */
+    public void remove(M module) {
+        completionTimes.remove(module);
+    }
+}
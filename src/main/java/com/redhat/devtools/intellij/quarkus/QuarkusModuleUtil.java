@@ -10,30 +10,28 @@
  ******************************************************************************/
 package com.redhat.devtools.intellij.quarkus;
 
-import com.intellij.facet.FacetManager;
 import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.application.WriteAction;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.module.ModuleManager;
-import com.intellij.openapi.module.ModuleUtilCore;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.roots.DependencyScope;
 import com.intellij.openapi.roots.LibraryOrderEntry;
 import com.intellij.openapi.roots.ModifiableRootModel;
 import com.intellij.openapi.roots.ModuleRootManager;
-import com.intellij.openapi.roots.ModuleRootModificationUtil;
-import com.intellij.openapi.roots.OrderEnumerator;
 import com.intellij.openapi.roots.OrderRootType;
 import com.intellij.openapi.roots.RootPolicy;
+import com.intellij.openapi.roots.ex.ProjectRootManagerEx;
 import com.intellij.openapi.roots.impl.OrderEntryUtil;
 import com.intellij.openapi.roots.impl.libraries.LibraryEx;
 import com.intellij.openapi.roots.libraries.Library;
 import com.intellij.openapi.roots.libraries.LibraryTable;
+import com.intellij.openapi.util.Disposer;
 import com.intellij.openapi.vfs.VfsUtil;
 import com.intellij.openapi.vfs.VfsUtilCore;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
-import com.redhat.devtools.intellij.quarkus.facet.QuarkusFacet;
+import com.redhat.devtools.intellij.quarkus.QuarkusModuleClassificationService.ModuleKind;
 import com.redhat.devtools.intellij.quarkus.search.QuarkusModuleComponent;
 import com.redhat.devtools.intellij.quarkus.tool.ToolDelegate;
 import org.jetbrains.annotations.NotNull;
@@ -41,6 +39,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -70,61 +69,136 @@ public class QuarkusModuleUtil {
     }
 
     /**
-     * Check if the Quarkus library needs to be recomputed and update it if required.
+     * Apply the changes of the Quarkus libraries of the modules in a single root modification.
+     *
+     * @param project the project
+     * @param updates the roots of the Quarkus libraries
+     */
+    static void applyLibraryUpdates(Project project, Collection<LibraryUpdate> updates) {
+        if (!updates.isEmpty()) {
+            long start = System.currentTimeMillis();
+            ApplicationManager.getApplication().invokeAndWait(() -> WriteAction.run(() ->
+                    ProjectRootManagerEx.getInstanceEx(project).mergeRootsChangesDuring(() -> updates.forEach(QuarkusModuleUtil::applyLibraryUpdate))));
+            for (LibraryUpdate update : updates) {
+                if (update.module.isDisposed()) {
+                    continue;
+                }
+                QuarkusModuleComponent component = update.module.getComponent(QuarkusModuleComponent.class);
+                component.setHash(update.hash);
+                component.setVersion(QuarkusConstants.QUARKUS_DEPLOYMENT_LIBRARY_VERSION);
+            }
+            LOGGER.info("Quarkus libraries of " + updates.size() + " modules updated in " + (System.currentTimeMillis() - start) + "ms");
+        }
+    }
+
+    /**
+     * The roots of the Quarkus library of a module.
+     */
+    static class LibraryUpdate {
+        private final Module module;
+        private final Integer hash;
+        private final List<VirtualFile>[] files;
+
+        private LibraryUpdate(Module module, Integer hash, List<VirtualFile>[] files) {
+            this.module = module;
+            this.hash = hash;
+            this.files = files;
+        }
+    }
+
+    /**
+     * Compute the roots of the Quarkus library of a module if the library needs to be recomputed.
      *
      * @param module the module to check
+     * @return the roots of the Quarkus library or null if the library is up to date
      */
-    public static void ensureQuarkusLibrary(Module module) {
-        LOGGER.info("Ensuring library to " + module.getName());
+    static LibraryUpdate computeLibraryUpdate(Module module) {
         long start = System.currentTimeMillis();
+        LibraryUpdate update = null;
         ToolDelegate toolDelegate = ToolDelegate.getDelegate(module);
-        if (toolDelegate != null) {
-            LOGGER.info("Tool delegate found for " + module.getName());
-            if (isQuarkusModule(module)) {
-                LOGGER.info("isQuarkus module " + module.getName());
-                QuarkusModuleComponent component = module.getComponent(QuarkusModuleComponent.class);
-                Integer previousHash = component.getHash();
-                Integer actualHash = computeHash(module);
-                var qlib = OrderEntryUtil.findLibraryOrderEntry(ModuleRootManager.getInstance(module), QuarkusConstants.QUARKUS_DEPLOYMENT_LIBRARY_NAME);
-                if (qlib == null || (actualHash != null && !actualHash.equals(previousHash)) ||
-                        !QuarkusConstants.QUARKUS_DEPLOYMENT_LIBRARY_VERSION.equals(component.getVersion())){
-                    ModuleRootModificationUtil.updateModel(module, model -> {
-                        LibraryTable table = model.getModuleLibraryTable();
-                        Library library = table.getLibraryByName(QuarkusConstants.QUARKUS_DEPLOYMENT_LIBRARY_NAME);
-                        while (library != null) {
-                            table.removeLibrary(library);
-                            TelemetryService.instance().action(TelemetryService.MODEL_PREFIX + "removeLibrary");
-                            library = table.getLibraryByName(QuarkusConstants.QUARKUS_DEPLOYMENT_LIBRARY_NAME);
-                        }
-                        List<VirtualFile>[] files = toolDelegate.getDeploymentFiles(module);
-                        LOGGER.info("Adding library to " + module.getName() + " previousHash=" + previousHash + " newHash=" + actualHash);
-                        TelemetryService.instance().action(TelemetryService.MODEL_PREFIX + "addLibrary").send();
-                        addLibrary(model, files);
-                    });
-                    component.setHash(actualHash);
-                    component.setVersion(QuarkusConstants.QUARKUS_DEPLOYMENT_LIBRARY_VERSION);
-                }
+        if (toolDelegate != null && isQuarkusModule(module)) {
+            QuarkusModuleComponent component = module.getComponent(QuarkusModuleComponent.class);
+            Integer previousHash = component.getHash();
+            Integer actualHash = computeHash(module);
+            var qlib = OrderEntryUtil.findLibraryOrderEntry(ModuleRootManager.getInstance(module), QuarkusConstants.QUARKUS_DEPLOYMENT_LIBRARY_NAME);
+            if (qlib == null || (actualHash != null && !actualHash.equals(previousHash)) ||
+                    !QuarkusConstants.QUARKUS_DEPLOYMENT_LIBRARY_VERSION.equals(component.getVersion())) {
+                LOGGER.info("Computing Quarkus library of " + module.getName() + " previousHash=" + previousHash + " newHash=" + actualHash);
+                update = new LibraryUpdate(module, actualHash, toolDelegate.getDeploymentFiles(module));
             }
         }
-        LOGGER.info("ensureQuarkusLibrary ran in " + (System.currentTimeMillis() - start));
+        LOGGER.info("Quarkus library of " + module.getName() + " checked in " + (System.currentTimeMillis() - start) + "ms");
+        return update;
     }
 
-    private static void addLibrary(ModifiableRootModel model, List<VirtualFile>[] files) {
-        LibraryEx library = (LibraryEx)model.getModuleLibraryTable().createLibrary(QuarkusConstants.QUARKUS_DEPLOYMENT_LIBRARY_NAME);
-        LibraryEx.ModifiableModelEx libraryModel = library.getModifiableModel();
-
-        for (VirtualFile rootFile : files[ToolDelegate.BINARY]) {
-            libraryModel.addRoot(rootFile, OrderRootType.CLASSES);
+    private static void applyLibraryUpdate(LibraryUpdate update) {
+        if (update.module.isDisposed()) {
+            return;
         }
-        for (VirtualFile rootFile : files[ToolDelegate.SOURCES]) {
-            libraryModel.addRoot(rootFile, OrderRootType.SOURCES);
+        ModifiableRootModel model = ModuleRootManager.getInstance(update.module).getModifiableModel();
+        LibraryTable table = model.getModuleLibraryTable();
+        Library library = null;
+        for (Library existing : table.getLibraries()) {
+            if (QuarkusConstants.QUARKUS_DEPLOYMENT_LIBRARY_NAME.equals(existing.getName())) {
+                if (library == null) {
+                    library = existing;
+                } else {
+                    table.removeLibrary(existing);
+                    TelemetryService.instance().action(TelemetryService.MODEL_PREFIX + "removeLibrary");
+                }
+            }
         }
+        boolean created = library == null;
+        if (created) {
+            library = table.createLibrary(QuarkusConstants.QUARKUS_DEPLOYMENT_LIBRARY_NAME);
+            TelemetryService.instance().action(TelemetryService.MODEL_PREFIX + "addLibrary").send();
+        }
+        LibraryEx.ModifiableModelEx libraryModel = ((LibraryEx) library).getModifiableModel();
+        int changes = updateRoots(libraryModel, update.files[ToolDelegate.BINARY], OrderRootType.CLASSES) +
+                updateRoots(libraryModel, update.files[ToolDelegate.SOURCES], OrderRootType.SOURCES);
+        if (changes > 0) {
+            libraryModel.commit();
+        } else {
+            Disposer.dispose(libraryModel);
+        }
+        if (created) {
+            LibraryOrderEntry entry = model.findLibraryOrderEntry(library);
+            assert entry != null : library;
+            entry.setScope(DependencyScope.PROVIDED);
+            entry.setExported(false);
+        }
+        if (model.isChanged()) {
+            model.commit();
+        } else {
+            model.dispose();
+        }
+        LOGGER.info("Quarkus library of " + update.module.getName() + (created ? " created" : " updated") + " with " + changes + " root changes");
+    }
 
-        LibraryOrderEntry entry = model.findLibraryOrderEntry(library);
-        assert entry != null : library;
-        entry.setScope(DependencyScope.PROVIDED);
-        entry.setExported(false);
-        ApplicationManager.getApplication().invokeAndWait(() -> WriteAction.run(libraryModel::commit));
+    /**
+     * Add the new roots to the library and remove the roots which don't exist anymore.
+     *
+     * @return the number of added and removed roots
+     */
+    private static int updateRoots(LibraryEx.ModifiableModelEx libraryModel, List<VirtualFile> files, OrderRootType type) {
+        int changes = 0;
+        Set<String> urls = new HashSet<>();
+        for (VirtualFile file : files) {
+            urls.add(file.getUrl());
+        }
+        for (String url : libraryModel.getUrls(type)) {
+            if (!urls.remove(url)) {
+                libraryModel.removeRoot(url, type);
+                changes++;
+            }
+        }
+        for (VirtualFile file : files) {
+            if (urls.remove(file.getUrl())) {
+                libraryModel.addRoot(file, type);
+                changes++;
+            }
+        }
+        return changes;
     }
 
     private static Integer computeHash(Module module) {
@@ -150,15 +224,10 @@ public class QuarkusModuleUtil {
      *
      * @param module the module to check
      * @return yes if module is a Quarkus project
+     * @see QuarkusModuleClassificationService
      */
     public static boolean isQuarkusModule(Module module) {
-        OrderEnumerator libraries = ModuleRootManager.getInstance(module).orderEntries().librariesOnly();
-        return libraries.process(new RootPolicy<Boolean>() {
-            @Override
-            public Boolean visitLibraryOrderEntry(@NotNull LibraryOrderEntry libraryOrderEntry, Boolean value) {
-                return value | isQuarkusLibrary(libraryOrderEntry);
-            }
-        }, false);
+        return QuarkusModuleClassificationService.getInstance(module.getProject()).is(module, ModuleKind.QUARKUS);
     }
 
     public static boolean isQuarkusLibrary(@NotNull LibraryOrderEntry libraryOrderEntry) {
@@ -184,16 +253,14 @@ public class QuarkusModuleUtil {
     public static boolean isQuarkusPropertiesFile(VirtualFile file, Project project) {
         if (APPLICATION_PROPERTIES.matcher(file.getName()).matches() ||
                 MICROPROFILE_CONFIG_PROPERTIES.matcher(file.getName()).matches()) {
-            Module module = ModuleUtilCore.findModuleForFile(file, project);
-            return module != null && FacetManager.getInstance(module).getFacetByType(QuarkusFacet.FACET_TYPE_ID) != null;
+            return QuarkusModuleClassificationService.getInstance(project).getKinds(file).contains(ModuleKind.QUARKUS_FACET);
         }
         return false;
     }
 
     public static boolean isQuarkusYAMLFile(VirtualFile file, Project project) {
         if (APPLICATION_YAML.matcher(file.getName()).matches()) {
-            Module module = ModuleUtilCore.findModuleForFile(file, project);
-            return module != null && FacetManager.getInstance(module).getFacetByType(QuarkusFacet.FACET_TYPE_ID) != null;
+            return QuarkusModuleClassificationService.getInstance(project).getKinds(file).contains(ModuleKind.QUARKUS_FACET);
         }
         return false;
     }
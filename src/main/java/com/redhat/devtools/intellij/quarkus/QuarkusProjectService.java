@@ -14,11 +14,13 @@ import com.intellij.ProjectTopics;
 import com.intellij.json.JsonFileType;
 import com.intellij.openapi.Disposable;
 import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.application.WriteAction;
 import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.fileEditor.FileEditorManager;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.module.ModuleManager;
-import com.intellij.openapi.progress.ProcessCanceledException;
-import com.intellij.openapi.project.DumbService;
 import com.intellij.openapi.project.ModuleListener;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.roots.ProjectFileIndex;
@@ -26,7 +28,7 @@ import com.intellij.openapi.roots.impl.libraries.LibraryEx;
 import com.intellij.openapi.roots.libraries.Library;
 import com.intellij.openapi.roots.libraries.LibraryTable;
 import com.intellij.openapi.roots.libraries.LibraryTablesRegistrar;
-import com.intellij.openapi.vfs.VfsUtil;
+import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.openapi.vfs.VirtualFileManager;
 import com.intellij.openapi.vfs.newvfs.BulkFileListener;
@@ -36,51 +38,107 @@ import com.intellij.openapi.vfs.newvfs.events.VFileDeleteEvent;
 import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
 import com.intellij.testFramework.LightVirtualFile;
 import com.intellij.util.ConcurrencyUtil;
+import com.intellij.util.concurrency.AppExecutorUtil;
 import com.intellij.util.messages.MessageBusConnection;
 import com.intellij.util.messages.Topic;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.PropertiesManager;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
-import org.apache.commons.lang3.tuple.MutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.eclipse.lsp4mp.commons.ClasspathKind;
 import org.eclipse.lsp4mp.commons.DocumentFormat;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.utils.JSONSchemaUtils;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.IOException;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 public class QuarkusProjectService implements LibraryTable.Listener, BulkFileListener, ModuleListener, Disposable {
     private static final Logger LOGGER = LoggerFactory.getLogger(QuarkusProjectService.class);
 
+    private static final int MAX_WORKERS = 4;
+
     private final Project project;
 
-    private final Map<Module, MutablePair<VirtualFile, Boolean>> schemas = new ConcurrentHashMap<>();
+    private final Map<Module, SchemaEntry> schemas = new ConcurrentHashMap<>();
 
     private final ExecutorService executor;
 
-    private Set<Module> modulesBeingEnsured = new HashSet<>();
+    private final QuarkusModuleScheduler<Module> scheduler;
+
+    // Quarkus libraries computed by the workers and not applied yet
+    private final Queue<QuarkusModuleUtil.LibraryUpdate> pendingUpdates = new ConcurrentLinkedQueue<>();
+
+    private volatile boolean disposed;
 
     @Override
     public void dispose() {
+        disposed = true;
         executor.shutdown();
     }
 
+    /**
+     * The JSON schema of a module. The schema is assembled from two fragments: the properties coming from the
+     * dependencies, which are only collected again when a library changes, and the properties defined in the
+     * module sources, which are collected again when a Java file changes. The entry is up to date once the schema
+     * of its current version has been published in the file.
+     */
+    private static class SchemaEntry {
+        private final LightVirtualFile file;
+
+        private final AtomicLong version = new AtomicLong();
+
+        private volatile long requestedVersion = -1;
+
+        private volatile long publishedVersion = -1;
+
+        private final AtomicLong dependenciesVersion = new AtomicLong();
+
+        private volatile long dependenciesFragmentVersion = -1;
+
+        private volatile MicroProfileProjectInfo dependenciesFragment;
+
+        private SchemaEntry(LightVirtualFile file) {
+            this.file = file;
+        }
+
+        private void sourcesChanged() {
+            version.incrementAndGet();
+        }
+
+        private void dependenciesChanged() {
+            dependenciesVersion.incrementAndGet();
+            version.incrementAndGet();
+        }
+
+        /**
+         * Called when the computation of the given version is over. When it was cancelled or rejected before the
+         * schema was published, the request is forgotten so that the next call to getSchema computes it again.
+         */
+        private void requestProcessed(long version) {
+            if (publishedVersion != version && requestedVersion == version) {
+                requestedVersion = -1;
+            }
+        }
+    }
+
     public interface Listener {
         void libraryUpdated(Library library);
         void sourceUpdated(List<Pair<Module, VirtualFile>> sources);
@@ -99,10 +157,11 @@ public class QuarkusProjectService implements LibraryTable.Listener, BulkFileLis
         if (ApplicationManager.getApplication().isUnitTestMode()) {
             this.executor = ConcurrencyUtil.newSameThreadExecutorService();
         } else {
-            this.executor = new ThreadPoolExecutor(0, 1,
-                    1L, TimeUnit.MINUTES, new LinkedBlockingQueue<Runnable>(),
-                    r -> new Thread(r, "Quarkus lib pool " + project.getName()));
+            this.executor = QuarkusModuleScheduler.createExecutor("Quarkus lib pool " + project.getName(),
+                    Math.max(1, Math.min(MAX_WORKERS, Runtime.getRuntime().availableProcessors() / 2)));
         }
+        this.scheduler = new QuarkusModuleScheduler<>(executor, this::computeQuarkusLibrary, this::isOpenInEditor,
+                this::applyLibraryUpdates);
         LibraryTablesRegistrar.getInstance().getLibraryTable(project).addListener(this, project);
         connection = ApplicationManager.getApplication().getMessageBus().connect(project);
         connection.subscribe(VirtualFileManager.VFS_CHANGES, this);
@@ -110,33 +169,87 @@ public class QuarkusProjectService implements LibraryTable.Listener, BulkFileLis
         processModules();
     }
 
-    private CompletableFuture<Void> checkQuarkusLibrary(Module module, boolean sync) {
-        if (modulesBeingEnsured.add(module)) {
-            if (sync) {
-                QuarkusModuleUtil.ensureQuarkusLibrary(module);
-                modulesBeingEnsured.remove(module);
-                return CompletableFuture.completedFuture(null);
-            } else {
-                return CompletableFuture.runAsync(() -> {
-                    QuarkusModuleUtil.ensureQuarkusLibrary(module);
-                    modulesBeingEnsured.remove(module);
-                }, executor);
+    private void computeQuarkusLibrary(Module module) {
+        QuarkusModuleUtil.LibraryUpdate update = QuarkusModuleUtil.computeLibraryUpdate(module);
+        if (update != null) {
+            pendingUpdates.add(update);
+        }
+    }
+
+    /**
+     * Apply the Quarkus libraries computed by the workers in a single root modification. Called by the
+     * scheduler for each batch of processed modules.
+     */
+    private void applyLibraryUpdates() {
+        List<QuarkusModuleUtil.LibraryUpdate> updates = new ArrayList<>();
+        QuarkusModuleUtil.LibraryUpdate update;
+        while ((update = pendingUpdates.poll()) != null) {
+            updates.add(update);
+        }
+        if (!disposed && !project.isDisposed()) {
+            QuarkusModuleUtil.applyLibraryUpdates(project, updates);
+        }
+    }
+
+    private boolean isOpenInEditor(Module module) {
+        return ReadAction.compute(() -> {
+            if (module.isDisposed()) {
+                return false;
             }
+            for (VirtualFile file : FileEditorManager.getInstance(project).getOpenFiles()) {
+                if (module.equals(ProjectFileIndex.getInstance(project).getModuleForFile(file))) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    private CompletableFuture<Void> checkQuarkusLibrary(Module module) {
+        if (disposed) {
+            return CompletableFuture.completedFuture(null);
         }
-        return CompletableFuture.completedFuture(null);
+        return scheduler.schedule(module);
     }
 
+    /**
+     * Check the Quarkus library of all the modules. The modules are queued in dependency order, the modules with a
+     * file open in an editor first, but are processed concurrently: a module may be processed before its
+     * dependencies.
+     *
+     * @return the future completed when all the modules have been processed
+     */
     public CompletableFuture<Void> processModules() {
-        return CompletableFuture.runAsync(() -> {
-            for (var module : ModuleManager.getInstance(project).getModules()) {
-                LOGGER.info("Calling ensure from processModules");
-                checkQuarkusLibrary(module, true);
-            }
-        }, executor);
+        Module[] modules = ModuleManager.getInstance(project).getSortedModules();
+        LOGGER.info("Calling ensure from processModules for " + modules.length + " modules");
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[modules.length];
+        for (int i = 0; i < modules.length; i++) {
+            futures[i] = checkQuarkusLibrary(modules[i]);
+        }
+        return CompletableFuture.allOf(futures);
+    }
+
+    /**
+     * Returns the number of modules waiting for their Quarkus library to be checked.
+     *
+     * @return the number of modules waiting for their Quarkus library to be checked
+     */
+    public int getQueueLength() {
+        return scheduler.getQueueLength();
+    }
+
+    /**
+     * Returns the time in ms it took to check the Quarkus library of a module the last time.
+     *
+     * @param module the module
+     * @return the completion time in ms or -1 if the module has not been processed yet
+     */
+    public long getCompletionTime(Module module) {
+        return scheduler.getCompletionTime(module);
     }
 
     private CompletableFuture<Void> processModule(Module module) {
-        return checkQuarkusLibrary(module, false);
+        return checkQuarkusLibrary(module);
     }
 
     private void handleLibraryUpdate(Library library) {
@@ -144,17 +257,15 @@ public class QuarkusProjectService implements LibraryTable.Listener, BulkFileLis
         if (library instanceof LibraryEx && ((LibraryEx) library).getModule() != null) {
             var module = ((LibraryEx) library).getModule();
             processModule(module).thenRun(() -> {
-                var pair = schemas.get(module);
-                if (pair != null) {
-                    pair.setRight(Boolean.FALSE);
+                var entry = schemas.get(module);
+                if (entry != null) {
+                    entry.dependenciesChanged();
                 }
             });
         } else {
             processModules().thenRun(() -> {
                 project.getMessageBus().syncPublisher(TOPIC).libraryUpdated(library);
-                schemas.forEach((module, pair) -> {
-                    pair.setRight(Boolean.FALSE);
-                });
+                schemas.forEach((module, entry) -> entry.dependenciesChanged());
             });
         }
     }
@@ -173,10 +284,12 @@ public class QuarkusProjectService implements LibraryTable.Listener, BulkFileLis
     public void after(@NotNull List<? extends VFileEvent> events) {
         List<Pair<Module, VirtualFile>> pairs = events.stream().map(event -> toPair(event)).filter(Objects::nonNull).collect(Collectors.toList());
         if (!pairs.isEmpty()) {
-            pairs.forEach(pair -> schemas.computeIfPresent(pair.getLeft(), (m, p) -> {
-                p.setRight(Boolean.FALSE);
-                return p;
-            }));
+            pairs.forEach(pair -> {
+                var entry = schemas.get(pair.getLeft());
+                if (entry != null) {
+                    entry.sourcesChanged();
+                }
+            });
             project.getMessageBus().syncPublisher(TOPIC).sourceUpdated(pairs);
         }
     }
@@ -192,56 +305,123 @@ public class QuarkusProjectService implements LibraryTable.Listener, BulkFileLis
         return null;
     }
 
+    /**
+     * Return the JSON schema file of the given module. The file is returned immediately and its content is
+     * (re)computed in a background read action when it is out of date.
+     *
+     * @param module the module
+     * @return the JSON schema file
+     */
     public VirtualFile getSchema(Module module) {
-        MutablePair<VirtualFile, Boolean> schemaEntry = schemas.get(module);
-        if (schemaEntry == null || !schemaEntry.getRight()) {
-            VirtualFile file = computeSchema(module, schemaEntry!=null?schemaEntry.getLeft():null);
-            if (file != null) {
-                if (schemaEntry != null) {
-                    schemaEntry.setRight(Boolean.TRUE);
-                } else {
-                    schemaEntry = new MutablePair<>(file, Boolean.TRUE);
-                    schemas.put(module, schemaEntry);
-                }
-            }
+        SchemaEntry entry = schemas.computeIfAbsent(module, m -> new SchemaEntry(createJSONSchemaFile(m.getName())));
+        long version = entry.version.get();
+        if (entry.publishedVersion != version && entry.requestedVersion != version) {
+            entry.requestedVersion = version;
+            computeSchema(module, entry, version);
         }
-        return schemaEntry!=null?schemaEntry.getLeft():null;
+        return entry.file;
     }
 
-    private static VirtualFile createJSONSchemaFile(String name) throws IOException {
+    private static LightVirtualFile createJSONSchemaFile(String name) {
         return new LightVirtualFile(name + "-schema.json", JsonFileType.INSTANCE, "");
     }
 
+    /**
+     * Refresh the schema file in place so that the JSON schema providers don't need to be rebuilt. The modification
+     * stamp of the file is only bumped when the schema content really changed.
+     *
+     * @param file the schema file
+     * @param schema the new schema content
+     */
+    private static void updateSchema(LightVirtualFile file, String schema) {
+        if (!StringUtil.equals(file.getContent(), schema)) {
+            file.setContent(QuarkusProjectService.class, schema, true);
+        }
+    }
 
-    private VirtualFile computeSchema(Module module, VirtualFile schemaFile) {
+    /**
+     * Compute the schema in a cancellable background read action, only the update of the schema file is done
+     * on the EDT.
+     *
+     * @param module the module
+     * @param entry the schema entry of the module
+     * @param version the version of the schema entry the schema is computed for
+     */
+    private void computeSchema(Module module, SchemaEntry entry, long version) {
         try {
-            if (schemaFile == null) {
-                schemaFile = createJSONSchemaFile(module.getName());
-            }
-            final VirtualFile schemaFile1 = schemaFile;
-            DumbService.getInstance(module.getProject()).runWhenSmart(() -> {
-                ApplicationManager.getApplication().runWriteAction(() -> {
-                    try {
-                        MicroProfileProjectInfo info = PropertiesManager.getInstance().getMicroProfileProjectInfo(module,
-                                MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES, ClasspathKind.TEST, PsiUtilsLSImpl.getInstance(module.getProject()),
-                                DocumentFormat.Markdown);
-                        String schema = JSONSchemaUtils.toJSONSchema(info, false);
-                        VfsUtil.saveText(schemaFile1, schema);
-                    } catch (IOException e) {
-                        LOGGER.warn(e.getLocalizedMessage(), e);
-                    }
-                });
-            });
-            return schemaFile;
-        } catch (IOException| ProcessCanceledException e) {
-            LOGGER.warn(e.getLocalizedMessage(), e);
+            ReadAction.nonBlocking(() -> computeSchemaContent(module, entry))
+                    .inSmartMode(project)
+                    .expireWith(this)
+                    .coalesceBy(this, entry)
+                    .finishOnUiThread(ModalityState.defaultModalityState(), schema -> {
+                        WriteAction.run(() -> updateSchema(entry.file, schema));
+                        entry.publishedVersion = version;
+                    })
+                    .submit(AppExecutorUtil.getAppExecutorService())
+                    // Called on success, error and cancellation (coalesced, expired)
+                    .onProcessed(schema -> entry.requestProcessed(version));
+        } catch (RejectedExecutionException e) {
+            entry.requestProcessed(version);
         }
-        return null;
+    }
+
+    private static String computeSchemaContent(Module module, SchemaEntry entry) {
+        long start = System.currentTimeMillis();
+        IPsiUtils utils = PsiUtilsLSImpl.getInstance(module.getProject());
+        long dependenciesVersion = entry.dependenciesVersion.get();
+        MicroProfileProjectInfo info;
+        if (entry.dependenciesFragment == null || entry.dependenciesFragmentVersion != dependenciesVersion) {
+            info = PropertiesManager.getInstance().getMicroProfileProjectInfo(module,
+                    MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES, ClasspathKind.TEST, utils, DocumentFormat.Markdown);
+            entry.dependenciesFragment = createDependenciesFragment(info);
+            entry.dependenciesFragmentVersion = dependenciesVersion;
+        } else {
+            // The sources part is always collected again, only the dependencies part is reused
+            MicroProfileProjectInfo sources = PropertiesManager.getInstance().getMicroProfileProjectInfo(module,
+                    MicroProfilePropertiesScope.ONLY_SOURCES, ClasspathKind.TEST, utils, DocumentFormat.Markdown);
+            info = merge(entry.dependenciesFragment, sources);
+        }
+        String schema = JSONSchemaUtils.toJSONSchema(info, false);
+        LOGGER.info("JSON schema for module " + module.getName() + " computed in " + (System.currentTimeMillis() - start) + "ms");
+        return schema;
+    }
+
+    /**
+     * Returns the properties and hints of the given project info which don't come from the module sources.
+     *
+     * @param info the project info of the module sources and dependencies
+     * @return the dependencies fragment
+     */
+    private static MicroProfileProjectInfo createDependenciesFragment(MicroProfileProjectInfo info) {
+        MicroProfileProjectInfo fragment = new MicroProfileProjectInfo();
+        fragment.setProjectURI(info.getProjectURI());
+        fragment.setClasspathKind(info.getClasspathKind());
+        fragment.setProperties(info.getProperties().stream().
+                filter(property -> !Boolean.TRUE.equals(property.getSource())).
+                collect(Collectors.toList()));
+        fragment.setHints(info.getHints().stream().
+                filter(hint -> !Boolean.TRUE.equals(hint.getSource())).
+                collect(Collectors.toList()));
+        return fragment;
+    }
+
+    private static MicroProfileProjectInfo merge(MicroProfileProjectInfo dependencies, MicroProfileProjectInfo sources) {
+        MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+        info.setProjectURI(sources.getProjectURI());
+        info.setClasspathKind(sources.getClasspathKind());
+        List<ItemMetadata> properties = new ArrayList<>(dependencies.getProperties());
+        properties.addAll(sources.getProperties());
+        info.setProperties(properties);
+        Map<String, ItemHint> hints = new LinkedHashMap<>();
+        dependencies.getHints().forEach(hint -> hints.put(hint.getName(), hint));
+        sources.getHints().forEach(hint -> hints.put(hint.getName(), hint));
+        info.setHints(new ArrayList<>(hints.values()));
+        return info;
     }
 
     private void moduleChanged(Module module) {
         LOGGER.info("Calling ensure from moduleChanged for module " + module.getName());
-        checkQuarkusLibrary(module, false);
+        checkQuarkusLibrary(module);
     }
 
     @Override
@@ -251,6 +431,8 @@ public class QuarkusProjectService implements LibraryTable.Listener, BulkFileLis
 
     @Override
     public void moduleRemoved(@NotNull Project project, @NotNull Module module) {
+        scheduler.remove(module);
+        schemas.remove(module);
         moduleChanged(module);
     }
 }
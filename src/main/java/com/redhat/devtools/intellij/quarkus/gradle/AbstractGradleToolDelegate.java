@@ -32,12 +32,15 @@ import com.intellij.openapi.roots.ModuleRootManager;
 import com.intellij.openapi.roots.OrderRootType;
 import com.intellij.openapi.roots.libraries.Library;
 import com.intellij.openapi.roots.ui.configuration.ModulesProvider;
+import com.intellij.openapi.util.io.FileUtil;
 import com.intellij.openapi.vfs.VfsUtilCore;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.projectImport.ProjectImportBuilder;
 import com.intellij.projectImport.ProjectImportProvider;
 import com.redhat.devtools.intellij.quarkus.QuarkusModuleUtil;
 import com.redhat.devtools.intellij.quarkus.run.QuarkusRunConfiguration;
+import com.redhat.devtools.intellij.quarkus.tool.DeploymentResolutionCache;
+import com.redhat.devtools.intellij.quarkus.tool.DeploymentResolutionCache.ResolvedArtifact;
 import com.redhat.devtools.intellij.quarkus.tool.ToolDelegate;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -51,17 +54,26 @@ import org.slf4j.LoggerFactory;
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
-import java.io.Reader;
 import java.io.Writer;
 import java.lang.reflect.InvocationTargetException;
+import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public abstract class AbstractGradleToolDelegate implements ToolDelegate {
@@ -70,6 +82,50 @@ public abstract class AbstractGradleToolDelegate implements ToolDelegate {
 
     private static final String GRADLE_LIBRARY_PREFIX = "Gradle: ";
 
+    private static final String SOURCES_CLASSIFIER = "sources";
+
+    private static final String[] BUILD_FILE_NAMES = {"settings.gradle", "settings.gradle.kts", "build.gradle",
+            "build.gradle.kts", "gradle.properties", "gradle/libs.versions.toml"};
+
+    private static final String QUARKUS_DOWNLOAD_TASK_NAME = "listQuarkusDependencies";
+
+    private static final String QUARKUS_DOWNLOAD_INIT_SCRIPT =
+            "allprojects { project ->" + System.lineSeparator() +
+            "    def requests = quarkusDeploymentRequests.findAll { new File(it.dir).canonicalFile == project.projectDir.canonicalFile }" + System.lineSeparator() +
+            "    if (!requests.isEmpty()) {" + System.lineSeparator() +
+            "        project.tasks.register('" + QUARKUS_DOWNLOAD_TASK_NAME + "') {" + System.lineSeparator() +
+            "            doLast {" + System.lineSeparator() +
+            "                requests.each { request ->" + System.lineSeparator() +
+            "                    def part = new File(request.output + '.part')" + System.lineSeparator() +
+            "                    part.withPrintWriter('UTF8') { writer ->" + System.lineSeparator() +
+            "                        writer.println '#' + request.id" + System.lineSeparator() +
+            "                        def configuration = project.configurations.detachedConfiguration(request.ids.collect { project.dependencies.create(it) } as Dependency[])" + System.lineSeparator() +
+            "                        configuration.incoming.artifacts.each {" + System.lineSeparator() +
+            "                            writer.println it.id.componentIdentifier" + System.lineSeparator() +
+            "                            writer.println it.file" + System.lineSeparator() +
+            "                        }" + System.lineSeparator() +
+            "                        def componentIds = configuration.incoming.resolutionResult.allDependencies.findAll { it instanceof ResolvedDependencyResult }.collect { it.selected.id }" + System.lineSeparator() +
+            "                        ArtifactResolutionResult result = project.dependencies.createArtifactResolutionQuery()" + System.lineSeparator() +
+            "                            .forComponents(componentIds)" + System.lineSeparator() +
+            "                            .withArtifacts(JvmLibrary, SourcesArtifact)" + System.lineSeparator() +
+            "                            .execute()" + System.lineSeparator() +
+            "                        result.resolvedComponents.each { ComponentArtifactsResult component ->" + System.lineSeparator() +
+            "                            component.getArtifacts(SourcesArtifact).each { ArtifactResult ar ->" + System.lineSeparator() +
+            "                                if (ar instanceof ResolvedArtifactResult) {" + System.lineSeparator() +
+            "                                    writer.println ar.id.componentIdentifier" + System.lineSeparator() +
+            "                                    writer.println ar.file" + System.lineSeparator() +
+            "                                }" + System.lineSeparator() +
+            "                            }" + System.lineSeparator() +
+            "                        }" + System.lineSeparator() +
+            "                    }" + System.lineSeparator() +
+            "                    // Only the complete results are read" + System.lineSeparator() +
+            "                    part.renameTo(new File(request.output))" + System.lineSeparator() +
+            "                }" + System.lineSeparator() +
+            "            }" + System.lineSeparator() +
+            "        }" + System.lineSeparator() +
+            "    }" + System.lineSeparator() +
+            "}";
+
     private boolean scriptExists(Module module) {
         String path = getModuleDirPath(module);
         if (path != null) {
@@ -87,15 +143,17 @@ public abstract class AbstractGradleToolDelegate implements ToolDelegate {
     @Override
     public List<VirtualFile>[] getDeploymentFiles(Module module) {
         List<VirtualFile>[] result = ToolDelegate.initDeploymentFiles();
-        ModuleRootManager manager = ModuleRootManager.getInstance(module);
-        Set<String> deploymentIds = new HashSet<>();
         try {
-            manager.orderEntries().forEachLibrary(library -> {
-                processLibrary(library, manager, deploymentIds);
-                return true;
-            });
-            if (!deploymentIds.isEmpty()) {
-                processDownload(module, deploymentIds, result);
+            ResolutionRequest request = createRequest(module);
+            if (request != null) {
+                DeploymentResolutionCache cache = DeploymentResolutionCache.getInstance();
+                List<ResolvedArtifact> artifacts = request.cacheKey != null ? cache.get(request.cacheKey) : null;
+                if (artifacts == null) {
+                    artifacts = processDownload(module, request).get(request.id);
+                }
+                if (artifacts != null) {
+                    processArtifacts(module, artifacts, result);
+                }
             }
         } catch (IOException e) {
             LOGGER.error(e.getLocalizedMessage(), e);
@@ -104,28 +162,143 @@ public abstract class AbstractGradleToolDelegate implements ToolDelegate {
     }
 
     /**
-     * Collect all deployment JARs and dependencies including the sources JARs. Will run a specific Gradle task.
+     * The deployment JARs to resolve for a Gradle project.
+     */
+    private static class ResolutionRequest {
+        // Identifies the request in the task result
+        private final String id;
+        // The resolution cache key, null if the result must not be cached
+        private final String cacheKey;
+        private final String projectDir;
+        private final Set<String> deploymentIds;
+
+        private ResolutionRequest(String cacheKey, String projectDir, Set<String> deploymentIds) {
+            this.id = projectDir + '|' + String.join(",", deploymentIds);
+            this.cacheKey = cacheKey;
+            this.projectDir = projectDir;
+            this.deploymentIds = deploymentIds;
+        }
+    }
+
+    /**
+     * Create the resolution request of a module.
+     *
+     * @param module the module
+     * @return the resolution request or null if the module has no deployment JARs to resolve
+     * @throws IOException if an error occurs reading the build files
+     */
+    private ResolutionRequest createRequest(Module module) throws IOException {
+        ModuleRootManager manager = ModuleRootManager.getInstance(module);
+        Set<String> deploymentIds = new TreeSet<>();
+        manager.orderEntries().forEachLibrary(library -> {
+            processLibrary(library, manager, deploymentIds);
+            return true;
+        });
+        String projectDir = getModuleDirPath(module);
+        if (deploymentIds.isEmpty() || projectDir == null) {
+            return null;
+        }
+        // The repositories are declared in the build files so they are part of the key
+        String buildHash = computeBuildHash(getRootProjectPath(module, projectDir), projectDir);
+        String cacheKey = DeploymentResolutionCache.getKey(deploymentIds, Collections.singletonList(projectDir + '@' + buildHash), null);
+        return new ResolutionRequest(cacheKey, projectDir, deploymentIds);
+    }
+
+    private String getRootProjectPath(Module module, String projectDir) {
+        String rootProjectPath = ExternalSystemApiUtil.getExternalRootProjectPath(module);
+        return rootProjectPath != null ? rootProjectPath : projectDir;
+    }
+
+    /**
+     * Compute a hash of the build files of the root project and of the project.
+     *
+     * @param rootProjectPath the root project directory
+     * @param projectDir the project directory
+     * @return the hash of the build files
+     * @throws IOException if an error occurs reading the build files
+     */
+    private static String computeBuildHash(String rootProjectPath, String projectDir) throws IOException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String dir : new LinkedHashSet<>(Arrays.asList(rootProjectPath, projectDir))) {
+                for (String name : BUILD_FILE_NAMES) {
+                    Path path = Paths.get(dir, name);
+                    if (Files.exists(path)) {
+                        digest.update(name.getBytes(StandardCharsets.UTF_8));
+                        digest.update(Files.readAllBytes(path));
+                    }
+                }
+            }
+            return new BigInteger(1, digest.digest()).toString(16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Collect all deployment JARs and dependencies including the sources JARs. Will run a specific Gradle task once
+     * for the module and all the other Quarkus modules of the same Gradle build which are not resolved yet, their
+     * results are stored in the resolution cache.
      *
      * @param module the module
-     * @param deploymentIds the Maven coordinates of the module deployment JARs
-     * @param result the list where to place results to
+     * @param request the resolution request of the module
+     * @return the resolved artifacts for each resolution request id
      * @throws IOException if an error occurs running Gradle
      */
-    private void processDownload(Module module, Set<String> deploymentIds, List<VirtualFile>[] result) throws IOException {
-        Path outputPath = Files.createTempFile(null, ".txt");
-        Path customBuildFile = generateCustomGradleBuild(getModuleDirPath(module), outputPath, deploymentIds);
-        Path customSettingsFile = generateCustomGradleSettings(getModuleDirPath(module), customBuildFile);
+    private Map<String, List<ResolvedArtifact>> processDownload(Module module, ResolutionRequest request) throws IOException {
+        String rootProjectPath = getRootProjectPath(module, request.projectDir);
+        Map<String, ResolutionRequest> requests = new LinkedHashMap<>();
+        requests.put(request.id, request);
+        DeploymentResolutionCache cache = DeploymentResolutionCache.getInstance();
+        for (Module other : ModuleManager.getInstance(module.getProject()).getModules()) {
+            if (other != module && isValid(other) && rootProjectPath.equals(getRootProjectPath(other, getModuleDirPath(other)))) {
+                ResolutionRequest otherRequest = createRequest(other);
+                // The other requests are resolved in advance only if their result can be cached
+                if (otherRequest != null && otherRequest.cacheKey != null && !requests.containsKey(otherRequest.id) &&
+                        cache.get(otherRequest.cacheKey) == null) {
+                    requests.put(otherRequest.id, otherRequest);
+                }
+            }
+        }
+
+        Path outputDir = Files.createTempDirectory("quarkus-deployment");
+        Map<ResolutionRequest, Path> outputs = new LinkedHashMap<>();
+        for (ResolutionRequest r : requests.values()) {
+            outputs.put(r, outputDir.resolve(outputs.size() + ".txt"));
+        }
+        Path initScript = generateInitScript(outputs);
+        long start = System.currentTimeMillis();
         try {
-            collectDependencies(module, customBuildFile, customSettingsFile, outputPath, result);
+            Map<String, List<ResolvedArtifact>> artifacts = collectDependencies(module, rootProjectPath, initScript, outputs.values());
+            for (ResolutionRequest r : requests.values()) {
+                List<ResolvedArtifact> resolved = artifacts.get(r.id);
+                if (resolved != null && r.cacheKey != null) {
+                    cache.put(r.cacheKey, resolved);
+                }
+            }
+            cache.save();
+            LOGGER.info("Resolved deployment JARs of " + requests.size() + " Gradle projects in " + (System.currentTimeMillis() - start) + "ms");
+            return artifacts;
         } catch (IOException e) {
             LOGGER.warn(e.getLocalizedMessage(), e);
+            return Collections.emptyMap();
         } finally {
-            Files.delete(outputPath);
-            Files.delete(customBuildFile);
-            Files.delete(customSettingsFile);
+            FileUtil.delete(outputDir.toFile());
+            Files.delete(initScript);
         }
-   }
+    }
 
+    private void processArtifacts(Module module, List<ResolvedArtifact> artifacts, List<VirtualFile>[] result) {
+        ModuleRootManager manager = ModuleRootManager.getInstance(module);
+        for (ResolvedArtifact artifact : artifacts) {
+            if (!isDependency(manager, artifact.getGroupId(), artifact.getArtifactId())) {
+                VirtualFile jarFile = getJarFile(artifact.getFile());
+                if (jarFile != null) {
+                    result[SOURCES_CLASSIFIER.equals(artifact.getClassifier()) ? SOURCES : BINARY].add(jarFile);
+                }
+            }
+        }
+    }
 
     private String getModuleDirPath(Module module) {
         VirtualFile dir = QuarkusModuleUtil.getModuleDirPath(module);
@@ -149,43 +322,38 @@ public abstract class AbstractGradleToolDelegate implements ToolDelegate {
      * Collect all deployment JARs and dependencies through a Gradle specific task.
      *
      * @param module the module to analyze
-     * @param customBuildFile the custom Gradle build file with the specific task
-     * @param outputPath the file where the result of the specific task is stored
-     * @param result the list where to place results to
+     * @param rootProjectPath the root project directory where Gradle is run
+     * @param initScript the Gradle init script with the specific task
+     * @param outputPaths the files where the results of the specific tasks are stored
+     * @return the resolved artifacts for each resolution request id
      * @throws IOException if an error occurs running Gradle
      */
-    private void collectDependencies(Module module, Path customBuildFile, Path customSettingsFile, Path outputPath, List<VirtualFile>[] result) throws IOException {
+    private Map<String, List<ResolvedArtifact>> collectDependencies(Module module, String rootProjectPath, Path initScript, Collection<Path> outputPaths) throws IOException {
         try {
             final ExternalSystemFacadeManager manager = ServiceManager.getService(ExternalSystemFacadeManager.class);
 
             ExternalSystemExecutionSettings settings = ExternalSystemApiUtil.getExecutionSettings(module.getProject(),
-                    getModuleDirPath(module),
+                    rootProjectPath,
                     GradleConstants.SYSTEM_ID);
 
-            RemoteExternalSystemFacade facade = manager.getFacade(module.getProject(), getModuleDirPath(module), GradleConstants.SYSTEM_ID);
+            RemoteExternalSystemFacade facade = manager.getFacade(module.getProject(), rootProjectPath, GradleConstants.SYSTEM_ID);
 
             RemoteExternalSystemTaskManager taskManager = facade.getTaskManager();
-            final List<String> arguments = Arrays.asList("-c", customSettingsFile.toString(), "-q", "--console", "plain");
+            final List<String> arguments = Arrays.asList("-I", initScript.toString(), "-q", "--console", "plain");
             settings
                     .withArguments(arguments);
             ExternalSystemTaskId taskId = ExternalSystemTaskId.create(GradleConstants.SYSTEM_ID, ExternalSystemTaskType.EXECUTE_TASK, module.getProject());
-            taskManager.executeTasks(taskId, Arrays.asList("listQuarkusDependencies"), getModuleDirPath(module), settings, null);
-            try (BufferedReader reader = Files.newBufferedReader(outputPath)) {
-                String id;
-
-                while ((id = reader.readLine()) != null) {
-                    String file = reader.readLine();
-                    String[] ids = id.split(":");
-                    if (!isDependency(ModuleRootManager.getInstance(module), ids[0], ids[1])) {
-                        if (file != null) {
-                            VirtualFile jarFile = getJarFile(file);
-                            if (jarFile != null) {
-                                result[file.endsWith("sources.jar")?SOURCES:BINARY].add(jarFile);
-                            }
-                        }
+            taskManager.executeTasks(taskId, Arrays.asList(QUARKUS_DOWNLOAD_TASK_NAME), rootProjectPath, settings, null);
+            Map<String, List<ResolvedArtifact>> result = new LinkedHashMap<>();
+            for (Path outputPath : outputPaths) {
+                // A project which failed to resolve its request has no result
+                if (Files.exists(outputPath)) {
+                    try (BufferedReader reader = Files.newBufferedReader(outputPath)) {
+                        result.putAll(parseDependencies(reader));
                     }
                 }
             }
+            return result;
         } catch (IOException e) {
             throw e;
         } catch (Exception e) {
@@ -193,75 +361,66 @@ public abstract class AbstractGradleToolDelegate implements ToolDelegate {
         }
     }
 
-    abstract String getScriptName();
-
-    abstract String getSettingsScriptName();
-
-    abstract String getScriptExtension();
-
-    abstract String formatQuarkusDependency(String id);
-
-    abstract String generateTask(String path);
-
-    abstract String createQuarkusConfiguration();
-
     /**
-     * Generate the custom build file from the module build file and adding the specific task.
+     * Parse the result of the specific task. Each project section starts with a line with the resolution request id
+     * prefixed by '#', followed by the component identifier and the file of each artifact on two lines.
      *
-     * @param basePath the base path where the module build file is in
-     * @param outputPath the path to the task result file
-     * @param deploymentIds the Maven coordinates of the module deployment JARs
-     * @return the path to the custom build file
-     * @throws IOException if an error occurs generating the file
+     * @param reader the reader of the task result file
+     * @return the resolved artifacts for each resolution request id
+     * @throws IOException if an error occurs reading the file
      */
-    private Path generateCustomGradleBuild(String basePath, Path outputPath, Set<String> deploymentIds) throws IOException {
-        Path base = Paths.get(basePath);
-        Path path = base.resolve(getScriptName());
-        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
-            String content = IOUtils.toString(reader);
-            content = appendQuarkusResolution(content, outputPath, deploymentIds);
-            Path customPath = Files.createTempFile(base, null, getScriptExtension());
-            try (Writer writer = Files.newBufferedWriter(customPath, StandardCharsets.UTF_8)) {
-                IOUtils.write(content, writer);
-                return customPath;
+    static Map<String, List<ResolvedArtifact>> parseDependencies(BufferedReader reader) throws IOException {
+        Map<String, List<ResolvedArtifact>> result = new LinkedHashMap<>();
+        List<ResolvedArtifact> artifacts = null;
+        String id;
+        while ((id = reader.readLine()) != null) {
+            if (id.startsWith("#")) {
+                artifacts = result.computeIfAbsent(id.substring(1), k -> new ArrayList<>());
+            } else {
+                String file = reader.readLine();
+                String[] ids = id.split(":");
+                if (artifacts != null && file != null && ids.length >= 3) {
+                    artifacts.add(new ResolvedArtifact(ids[0], ids[1], ids[2],
+                            file.endsWith("sources.jar") ? SOURCES_CLASSIFIER : null, null, file));
+                }
             }
         }
+        return result;
     }
 
-    private Path generateCustomGradleSettings(String basePath, Path customBuildFile) throws IOException {
-        Path base = Paths.get(basePath);
-        Path path = base.resolve(getSettingsScriptName());
-        String content = "";
-        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
-            content = IOUtils.toString(reader);
-        } catch (IOException e) {}
-        content += System.lineSeparator() + "rootProject.buildFileName =\"" + customBuildFile.getFileName().toFile().getName() + "\"";
-        Path customPath = Files.createTempFile(base, null, getScriptExtension());
-        try (Writer writer = Files.newBufferedWriter(customPath, StandardCharsets.UTF_8)) {
-            IOUtils.write(content, writer);
-            return customPath;
-        }
-    }
-
-
+    abstract String getScriptName();
 
     /**
-     * Append the specific task definition.
+     * Generate the Gradle init script adding the specific task to each project with resolution requests. The task of
+     * a project resolves the deployment JARs of its requests with a detached configuration of the project, so that
+     * the repositories of the project are used, and writes the result of each request to its own file.
      *
-     * @param content the content of the module build file
-     * @param outputPath the path to the task result file
-     * @param deploymentIds the Maven coordinates of the module deployment JARs
-     * @return the content of the custom build file
+     * @param outputs the path to the result file of each resolution request
+     * @return the path to the init script
+     * @throws IOException if an error occurs generating the file
      */
-    private String appendQuarkusResolution(String content, Path outputPath, Set<String> deploymentIds) {
-        StringBuffer buffer = new StringBuffer(content);
-        buffer.append(System.lineSeparator());
-        buffer.append(createQuarkusConfiguration()).append(System.lineSeparator());
-        buffer.append("dependencies {").append(System.lineSeparator());
-        deploymentIds.forEach(id -> buffer.append(formatQuarkusDependency(id)));
-        buffer.append('}').append(System.lineSeparator());
-        buffer.append(generateTask(outputPath.toString().replace("\\", "\\\\")));
-        return buffer.toString();
+    private Path generateInitScript(Map<ResolutionRequest, Path> outputs) throws IOException {
+        StringBuilder builder = new StringBuilder("def quarkusDeploymentRequests = [").append(System.lineSeparator());
+        for (Map.Entry<ResolutionRequest, Path> entry : outputs.entrySet()) {
+            ResolutionRequest request = entry.getKey();
+            builder.append("    [id: ").append(toGroovyString(request.id))
+                    .append(", dir: ").append(toGroovyString(request.projectDir))
+                    .append(", output: ").append(toGroovyString(entry.getValue().toString()))
+                    .append(", ids: [")
+                    .append(request.deploymentIds.stream().map(AbstractGradleToolDelegate::toGroovyString).collect(Collectors.joining(", ")))
+                    .append("]],").append(System.lineSeparator());
+        }
+        builder.append(']').append(System.lineSeparator());
+        builder.append(QUARKUS_DOWNLOAD_INIT_SCRIPT);
+        Path initScript = Files.createTempFile(null, ".gradle");
+        try (Writer writer = Files.newBufferedWriter(initScript, StandardCharsets.UTF_8)) {
+            IOUtils.write(builder.toString(), writer);
+            return initScript;
+        }
+    }
+
+    private static String toGroovyString(String s) {
+        return '\'' + s.replace("\\", "\\\\").replace("'", "\\'") + '\'';
     }
 
     private void processLibrary(Library library, ModuleRootManager manager, Set<String> deploymentIds) {
@@ -47,6 +47,7 @@ abstract class AbstractJavaDocConverter {
         if (!read && reader != null) {
             String rawHtml = reader.getString();
             result = convert(rawHtml);
+            read = true;
         }
         return result;
     }
@@ -10,22 +10,32 @@
  ******************************************************************************/
 package com.redhat.devtools.intellij.quarkus.javadoc;
 
+import com.intellij.openapi.roots.ProjectRootManager;
 import com.intellij.psi.PsiDocCommentOwner;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiMember;
 import com.intellij.psi.javadoc.PsiDocComment;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
 
-import java.io.IOException;
 import java.io.Reader;
+import java.io.StringReader;
 
 public class JavadocContentAccess {
-    private static Reader getHTMLContentReader(PsiMember member, boolean allowInherited, boolean useAttachedJavadoc) {
+    private static String getJavadocText(PsiMember member) {
+        // The text is cached on the member until its file or the project roots (source
+        // attachments of libraries) change.
+        return CachedValuesManager.getCachedValue(member, () -> CachedValueProvider.Result.create(
+                computeJavadocText(member), member, ProjectRootManager.getInstance(member.getProject())));
+    }
+
+    private static String computeJavadocText(PsiMember member) {
         PsiDocComment doc = ((PsiDocCommentOwner) member).getDocComment();
         PsiElement sourceMember = member.getNavigationElement();
         if (sourceMember instanceof PsiDocCommentOwner) {
             doc = ((PsiDocCommentOwner) sourceMember).getDocComment();
         }
-        return doc == null ? null : new JavaDocCommentReader(doc.getText());
+        return doc == null ? null : doc.getText();
     }
 
     /**
@@ -41,13 +51,10 @@ public class JavadocContentAccess {
      *         comment or if no source is available
      */
     public static Reader getMarkdownContentReader(PsiMember member) {
-        Reader contentReader = getHTMLContentReader(member, true, true);
-        if (contentReader != null) {
-            try {
-                return new JavaDoc2MarkdownConverter(contentReader).getAsReader();
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
+        String javadoc = getJavadocText(member);
+        if (javadoc != null) {
+            String markdown = JavadocConversionCache.getInstance().toMarkdown(javadoc);
+            return markdown == null ? null : new StringReader(markdown);
         }
         return null;
     }
@@ -64,13 +71,10 @@ public class JavadocContentAccess {
      *         if no source is available
      */
     public static Reader getPlainTextContentReader(PsiMember member) {
-        Reader contentReader = getHTMLContentReader(member, true, true);
-        if (contentReader != null) {
-            try {
-                return new JavaDoc2PlainTextConverter(contentReader).getAsReader();
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
+        String javadoc = getJavadocText(member);
+        if (javadoc != null) {
+            String plainText = JavadocConversionCache.getInstance().toPlainText(javadoc);
+            return plainText == null ? null : new StringReader(plainText);
         }
         return null;
     }
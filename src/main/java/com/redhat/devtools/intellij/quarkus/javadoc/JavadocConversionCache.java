@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.intellij.quarkus.javadoc;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of the Markdown / plain text conversions of Javadoc comments,
+ * keyed by the raw text of the comment.
+ *
+ * <p>
+ * The same Javadoc (ex : a field of a Quarkus config root from a library) is
+ * converted a lot of times while collecting the project information and while
+ * hovering properties, the conversion (Remark / jsoup) is done only once.
+ * </p>
+ */
+class JavadocConversionCache {
+
+    private static final int DEFAULT_MAX_SIZE = 2000;
+
+    private static final JavadocConversionCache INSTANCE = new JavadocConversionCache(DEFAULT_MAX_SIZE);
+
+    private final Map<String, String> markdown;
+
+    private final Map<String, String> plainText;
+
+    private final Function<String, AbstractJavaDocConverter> markdownConverter;
+
+    private final Function<String, AbstractJavaDocConverter> plainTextConverter;
+
+    static JavadocConversionCache getInstance() {
+        return INSTANCE;
+    }
+
+    JavadocConversionCache(int maxSize) {
+        this(maxSize, text -> new JavaDoc2MarkdownConverter(new JavaDocCommentReader(text)),
+                text -> new JavaDoc2PlainTextConverter(new JavaDocCommentReader(text)));
+    }
+
+    JavadocConversionCache(int maxSize, Function<String, AbstractJavaDocConverter> markdownConverter,
+                           Function<String, AbstractJavaDocConverter> plainTextConverter) {
+        this.markdown = createLRUMap(maxSize);
+        this.plainText = createLRUMap(maxSize);
+        this.markdownConverter = markdownConverter;
+        this.plainTextConverter = plainTextConverter;
+    }
+
+    /**
+     * Returns the given raw Javadoc comment converted in Markdown.
+     *
+     * @param javadoc the raw Javadoc comment (with the comment delimiters).
+     * @return the given raw Javadoc comment converted in Markdown.
+     */
+    public String toMarkdown(String javadoc) {
+        return getOrConvert(markdown, javadoc, markdownConverter);
+    }
+
+    /**
+     * Returns the given raw Javadoc comment converted in plain text.
+     *
+     * @param javadoc the raw Javadoc comment (with the comment delimiters).
+     * @return the given raw Javadoc comment converted in plain text.
+     */
+    public String toPlainText(String javadoc) {
+        return getOrConvert(plainText, javadoc, plainTextConverter);
+    }
+
+    private static String getOrConvert(Map<String, String> cache, String javadoc,
+                                       Function<String, AbstractJavaDocConverter> converterFactory) {
+        synchronized (cache) {
+            String result = cache.get(javadoc);
+            if (result != null) {
+                return result;
+            }
+        }
+        // Convert outside the lock, a concurrent conversion of the same Javadoc
+        // gives the same result.
+        String result;
+        try {
+            result = converterFactory.apply(javadoc).getAsString();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        if (result != null) {
+            synchronized (cache) {
+                cache.put(javadoc, result);
+            }
+        }
+        return result;
+    }
+
+    private static Map<String, String> createLRUMap(int maxSize) {
+        return new LinkedHashMap<String, String>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+}
@@ -11,11 +11,9 @@
 package com.redhat.devtools.intellij.quarkus.json;
 
 import com.intellij.openapi.module.Module;
-import com.intellij.openapi.module.ModuleUtilCore;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.jetbrains.jsonSchema.extension.JsonSchemaFileProvider;
 import com.jetbrains.jsonSchema.extension.SchemaType;
-import com.redhat.devtools.intellij.quarkus.QuarkusModuleUtil;
 import com.redhat.devtools.intellij.quarkus.QuarkusProjectService;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -29,11 +27,7 @@ public class QuarkusJsonSchemaProvider implements JsonSchemaFileProvider {
 
     @Override
     public boolean isAvailable(@NotNull VirtualFile file) {
-        return isApplicationYAMLFile(file) && module.equals(ModuleUtilCore.findModuleForFile(file, module.getProject()));
-    }
-
-    private boolean isApplicationYAMLFile(VirtualFile file) {
-        return QuarkusModuleUtil.isQuarkusYAMLFile(file, module.getProject());
+        return module == QuarkusJsonSchemaRouter.getInstance(module.getProject()).route(file);
     }
 
     @NotNull
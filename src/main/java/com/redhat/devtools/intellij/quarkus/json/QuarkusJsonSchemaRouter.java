@@ -0,0 +1,185 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.intellij.quarkus.json;
+
+import com.intellij.ProjectTopics;
+import com.intellij.facet.Facet;
+import com.intellij.facet.ProjectWideFacetAdapter;
+import com.intellij.facet.ProjectWideFacetListenersRegistry;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ModuleRootEvent;
+import com.intellij.openapi.roots.ModuleRootListener;
+import com.intellij.openapi.roots.ModuleRootManager;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileCopyEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileCreateEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileDeleteEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileMoveEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFilePropertyChangeEvent;
+import com.intellij.util.containers.ContainerUtil;
+import com.jetbrains.jsonSchema.extension.JsonSchemaFileProvider;
+import com.redhat.devtools.intellij.quarkus.QuarkusModuleClassificationService;
+import com.redhat.devtools.intellij.quarkus.QuarkusModuleClassificationService.ModuleKind;
+import com.redhat.devtools.intellij.quarkus.QuarkusModuleUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Routes Quarkus application.yaml files to the JSON schema of their owning module.
+ *
+ * The JSON schema API binds one schema file per provider, so one {@link QuarkusJsonSchemaProvider} is kept per
+ * Quarkus module. Providers are reused between calls to the factory and all of them delegate to this router,
+ * which resolves the owning module of a file once and then answers each provider with an identity check.
+ * The resolved routes are dropped when the roots or the facets of the project change. When a file is created,
+ * deleted, renamed or moved, only the routes under the content roots of the affected modules are dropped.
+ */
+public class QuarkusJsonSchemaRouter implements ModuleRootListener, BulkFileListener, Disposable {
+
+    private final Project project;
+
+    private final Map<Module, QuarkusJsonSchemaProvider> providers = new ConcurrentHashMap<>();
+
+    private final Map<VirtualFile, Optional<Module>> routes = ContainerUtil.createConcurrentWeakMap();
+
+    public static QuarkusJsonSchemaRouter getInstance(Project project) {
+        return ServiceManager.getService(project, QuarkusJsonSchemaRouter.class);
+    }
+
+    public QuarkusJsonSchemaRouter(Project project) {
+        this.project = project;
+        project.getMessageBus().connect(this).subscribe(ProjectTopics.PROJECT_ROOTS, this);
+        ApplicationManager.getApplication().getMessageBus().connect(this).subscribe(VirtualFileManager.VFS_CHANGES, this);
+        ProjectWideFacetListenersRegistry.getInstance(project).registerListener(new ProjectWideFacetAdapter<Facet>() {
+            @Override
+            public void facetAdded(@NotNull Facet facet) {
+                routes.clear();
+            }
+
+            @Override
+            public void facetRemoved(@NotNull Facet facet) {
+                routes.clear();
+            }
+        }, this);
+    }
+
+    /**
+     * Return the providers of the Quarkus modules of the project. Providers of modules that are still Quarkus
+     * modules are reused.
+     *
+     * @return the providers
+     */
+    @NotNull
+    public List<JsonSchemaFileProvider> getProviders() {
+        QuarkusModuleClassificationService classification = QuarkusModuleClassificationService.getInstance(project);
+        List<JsonSchemaFileProvider> result = new ArrayList<>();
+        for (Module module : ModuleManager.getInstance(project).getModules()) {
+            if (classification.is(module, ModuleKind.QUARKUS)) {
+                result.add(providers.computeIfAbsent(module, QuarkusJsonSchemaProvider::new));
+            }
+        }
+        providers.keySet().removeIf(module -> module.isDisposed() || !classification.is(module, ModuleKind.QUARKUS));
+        return result;
+    }
+
+    /**
+     * Return the Quarkus module owning the given application.yaml file.
+     *
+     * @param file the file
+     * @return the owning module or null if the file is not a Quarkus application.yaml file
+     */
+    @Nullable
+    public Module route(@NotNull VirtualFile file) {
+        return routes.computeIfAbsent(file, this::computeRoute).orElse(null);
+    }
+
+    private Optional<Module> computeRoute(VirtualFile file) {
+        if (!QuarkusModuleUtil.isQuarkusYAMLFile(file, project)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(QuarkusModuleClassificationService.getInstance(project).getModule(file));
+    }
+
+    @Override
+    public void rootsChanged(@NotNull ModuleRootEvent event) {
+        routes.clear();
+    }
+
+    @Override
+    public void after(@NotNull List<? extends VFileEvent> events) {
+        List<String> paths = new ArrayList<>();
+        for (VFileEvent event : events) {
+            if (event instanceof VFileCreateEvent || event instanceof VFileDeleteEvent || event instanceof VFileCopyEvent) {
+                paths.add(event.getPath());
+            } else if (event instanceof VFileMoveEvent) {
+                paths.add(((VFileMoveEvent) event).getOldPath());
+                paths.add(((VFileMoveEvent) event).getNewPath());
+            } else if (event instanceof VFilePropertyChangeEvent && ((VFilePropertyChangeEvent) event).isRename()) {
+                paths.add(((VFilePropertyChangeEvent) event).getOldPath());
+                paths.add(((VFilePropertyChangeEvent) event).getNewPath());
+            }
+        }
+        if (paths.isEmpty() || routes.isEmpty()) {
+            return;
+        }
+        List<String> invalidated = getInvalidatedPaths(paths);
+        routes.keySet().removeIf(file -> !file.isValid() || isUnder(file.getPath(), invalidated));
+    }
+
+    /**
+     * Return the content roots of the modules containing one of the given changed paths, and the changed paths
+     * themselves (ex : a deleted directory outside of the modules).
+     *
+     * @param paths the changed paths
+     * @return the paths whose routes must be dropped
+     */
+    private List<String> getInvalidatedPaths(List<String> paths) {
+        List<String> invalidated = new ArrayList<>(paths);
+        for (Module module : ModuleManager.getInstance(project).getModules()) {
+            for (VirtualFile contentRoot : ModuleRootManager.getInstance(module).getContentRoots()) {
+                String root = contentRoot.getPath();
+                if (isUnder(root, paths) || paths.stream().anyMatch(path -> FileUtil.isAncestor(root, path, false))) {
+                    invalidated.add(root);
+                }
+            }
+        }
+        return invalidated;
+    }
+
+    private static boolean isUnder(String path, List<String> ancestors) {
+        for (String ancestor : ancestors) {
+            if (FileUtil.isAncestor(ancestor, path, false)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void dispose() {
+        routes.clear();
+        providers.clear();
+    }
+}
@@ -19,6 +19,8 @@ import com.intellij.openapi.vfs.VfsUtilCore;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.redhat.devtools.intellij.quarkus.QuarkusModuleUtil;
 import com.redhat.devtools.intellij.quarkus.run.QuarkusRunConfiguration;
+import com.redhat.devtools.intellij.quarkus.tool.DeploymentResolutionCache;
+import com.redhat.devtools.intellij.quarkus.tool.DeploymentResolutionCache.ResolvedArtifact;
 import com.redhat.devtools.intellij.quarkus.tool.ToolDelegate;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.idea.maven.execution.MavenRunConfiguration;
@@ -27,6 +29,7 @@ import org.jetbrains.idea.maven.execution.MavenRunnerSettings;
 import org.jetbrains.idea.maven.model.MavenArtifact;
 import org.jetbrains.idea.maven.model.MavenArtifactInfo;
 import org.jetbrains.idea.maven.model.MavenId;
+import org.jetbrains.idea.maven.model.MavenRemoteRepository;
 import org.jetbrains.idea.maven.project.MavenProject;
 import org.jetbrains.idea.maven.project.MavenProjectsManager;
 import org.jetbrains.idea.maven.server.MavenEmbedderWrapper;
@@ -37,15 +40,19 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 public class MavenToolDelegate implements ToolDelegate {
     private static final Logger LOGGER = LoggerFactory.getLogger(MavenToolDelegate.class);
 
+    private static final String SOURCES_CLASSIFIER = "sources";
+
     @Override
     public boolean isValid(Module module) {
         return MavenUtil.isMavenModule(module);
@@ -87,7 +94,7 @@ public class MavenToolDelegate implements ToolDelegate {
     }
 
     private void getDeploymentFiles(Module module, MavenProject mavenProject, List<VirtualFile>[] result) {
-        Set<MavenArtifact> downloaded = new HashSet<>();
+        Set<String> downloaded = new HashSet<>();
         Set<MavenId> toDownload = new HashSet<>();
         for (MavenArtifact artifact : mavenProject.getDependencies()) {
             if (artifact.getFile() != null) {
@@ -100,26 +107,39 @@ public class MavenToolDelegate implements ToolDelegate {
                 }
             }
         }
-        List<MavenArtifact> binaryDependencies = ensureDownloaded(module, mavenProject, toDownload, null);
+        // The embedder is created only if something is not in the resolution cache
+        Supplier<MavenEmbedderWrapper> embedder = new Supplier<>() {
+            private MavenEmbedderWrapper wrapper;
+
+            @Override
+            public MavenEmbedderWrapper get() {
+                if (wrapper == null) {
+                    wrapper = MavenServerManager.getInstance().createEmbedder(module.getProject(), false, mavenProject.getDirectory(), mavenProject.getDirectory());
+                }
+                return wrapper;
+            }
+        };
+        List<ResolvedArtifact> binaryDependencies = resolveTransitively(embedder, mavenProject, toDownload);
         toDownload.clear();
-        for (MavenArtifact binaryDependency : binaryDependencies) {
+        for (ResolvedArtifact binaryDependency : binaryDependencies) {
             if (!"test".equals(binaryDependency.getScope())) {
                 if (processDependency(mavenProject, result, downloaded, binaryDependency, BINARY)) {
-                    toDownload.add(binaryDependency.getMavenId());
+                    toDownload.add(new MavenId(binaryDependency.getGroupId(), binaryDependency.getArtifactId(), binaryDependency.getVersion()));
                 }
             }
         }
-        List<MavenArtifact> sourcesDependencies = ensureDownloaded(module, mavenProject, toDownload, "sources");
-        for (MavenArtifact sourceDependency : sourcesDependencies) {
+        List<ResolvedArtifact> sourcesDependencies = resolveSources(embedder, mavenProject, toDownload);
+        for (ResolvedArtifact sourceDependency : sourcesDependencies) {
             processDependency(mavenProject, result, downloaded, sourceDependency, SOURCES);
         }
+        // The resolutions of the module are written at once
+        DeploymentResolutionCache.getInstance().save();
     }
 
-    private boolean processDependency(MavenProject mavenProject, List<VirtualFile>[] result, Set<MavenArtifact> downloaded, MavenArtifact dependency, int type) {
+    private boolean processDependency(MavenProject mavenProject, List<VirtualFile>[] result, Set<String> downloaded, ResolvedArtifact dependency, int type) {
         boolean added = false;
 
-        if (mavenProject.findDependencies(dependency.getGroupId(), dependency.getArtifactId()).isEmpty() && !downloaded.contains(dependency)) {
-            downloaded.add(dependency);
+        if (dependency.getFile() != null && mavenProject.findDependencies(dependency.getGroupId(), dependency.getArtifactId()).isEmpty() && downloaded.add(dependency.toString())) {
             VirtualFile jarRoot = getJarFile(dependency.getFile());
             if (jarRoot != null) {
                 result[type].add(jarRoot);
@@ -129,25 +149,84 @@ public class MavenToolDelegate implements ToolDelegate {
         return added;
     }
 
-    private List<MavenArtifact> ensureDownloaded(Module module, MavenProject mavenProject, Set<MavenId> deploymentIds, String classifier) {
-        List<MavenArtifact> result = new ArrayList<>();
-        long start = System.currentTimeMillis();
-        try {
-            MavenEmbedderWrapper serverWrapper = MavenServerManager.getInstance().createEmbedder(module.getProject(), false, mavenProject.getDirectory(), mavenProject.getDirectory());
-            if (classifier != null) {
-                for(MavenId id : deploymentIds) {
-                    result.add(serverWrapper.resolve(new MavenArtifactInfo(id, "jar", classifier), mavenProject.getRemoteRepositories()));
+    /**
+     * Resolves the given deployment artifacts with their dependencies. Modules with
+     * the same deployment artifacts share the cached result.
+     */
+    private List<ResolvedArtifact> resolveTransitively(Supplier<MavenEmbedderWrapper> embedder, MavenProject mavenProject, Set<MavenId> deploymentIds) {
+        if (deploymentIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        DeploymentResolutionCache cache = DeploymentResolutionCache.getInstance();
+        String key = getCacheKey(deploymentIds, mavenProject, null);
+        List<ResolvedArtifact> result = cache.get(key);
+        if (result == null) {
+            long start = System.currentTimeMillis();
+            try {
+                List<MavenArtifactInfo> infos = deploymentIds.stream().map(id -> new MavenArtifactInfo(id, "jar", null)).collect(Collectors.toList());
+                List<MavenArtifact> artifacts = embedder.get().resolveTransitively(infos, mavenProject.getRemoteRepositories());
+                result = toResolvedArtifacts(artifacts);
+                if (artifacts.stream().allMatch(MavenArtifact::isResolved)) {
+                    cache.put(key, result);
                 }
+            } catch (MavenProcessCanceledException | RuntimeException e) {
+                LOGGER.warn(e.getLocalizedMessage(), e);
+                result = Collections.emptyList();
+            }
+            LOGGER.info("Resolved " + deploymentIds.size() + " deployment artifacts in " + (System.currentTimeMillis() - start) + "ms");
+        }
+        return result;
+    }
+
+    /**
+     * Resolves the sources of the given artifacts. Each source artifact is cached
+     * separately so that it is resolved once for all the modules.
+     */
+    private List<ResolvedArtifact> resolveSources(Supplier<MavenEmbedderWrapper> embedder, MavenProject mavenProject, Set<MavenId> ids) {
+        DeploymentResolutionCache cache = DeploymentResolutionCache.getInstance();
+        List<ResolvedArtifact> result = new ArrayList<>();
+        List<MavenId> toResolve = new ArrayList<>();
+        for (MavenId id : ids) {
+            List<ResolvedArtifact> cached = cache.get(getCacheKey(Collections.singleton(id), mavenProject, SOURCES_CLASSIFIER));
+            if (cached != null) {
+                result.addAll(cached);
             } else {
-                List<MavenArtifactInfo> infos = deploymentIds.stream().map(id -> new MavenArtifactInfo(id, "jar", classifier)).collect(Collectors.toList());
-                result = serverWrapper.resolveTransitively(infos, mavenProject.getRemoteRepositories());
+                toResolve.add(id);
             }
-        } catch (MavenProcessCanceledException | RuntimeException e) {
-            LOGGER.warn(e.getLocalizedMessage(), e);
+        }
+        if (!toResolve.isEmpty()) {
+            long start = System.currentTimeMillis();
+            try {
+                for (MavenId id : toResolve) {
+                    MavenArtifact artifact = embedder.get().resolve(new MavenArtifactInfo(id, "jar", SOURCES_CLASSIFIER), mavenProject.getRemoteRepositories());
+                    result.add(toResolvedArtifact(artifact));
+                    if (artifact.isResolved()) {
+                        cache.put(getCacheKey(Collections.singleton(id), mavenProject, SOURCES_CLASSIFIER), Collections.singletonList(toResolvedArtifact(artifact)));
+                    }
+                }
+            } catch (MavenProcessCanceledException | RuntimeException e) {
+                LOGGER.warn(e.getLocalizedMessage(), e);
+            }
+            LOGGER.info("Resolved " + toResolve.size() + " sources artifacts in " + (System.currentTimeMillis() - start) + "ms");
         }
         return result;
     }
 
+    private static String getCacheKey(Collection<MavenId> ids, MavenProject mavenProject, String classifier) {
+        return DeploymentResolutionCache.getKey(ids.stream().map(MavenId::getKey).collect(Collectors.toList()),
+                mavenProject.getRemoteRepositories().stream().map(MavenRemoteRepository::getUrl).collect(Collectors.toList()),
+                classifier);
+    }
+
+    private static List<ResolvedArtifact> toResolvedArtifacts(List<MavenArtifact> artifacts) {
+        return artifacts.stream().map(MavenToolDelegate::toResolvedArtifact).collect(Collectors.toList());
+    }
+
+    private static ResolvedArtifact toResolvedArtifact(MavenArtifact artifact) {
+        return new ResolvedArtifact(artifact.getGroupId(), artifact.getArtifactId(), artifact.getVersion(),
+                artifact.getClassifier(), artifact.getScope(), artifact.getFile() != null ? artifact.getFile().getPath() : null);
+    }
+
     @Override
     public RunnerAndConfigurationSettings getConfigurationDelegate(Module module, QuarkusRunConfiguration configuration) {
         RunnerAndConfigurationSettings settings = RunManager.getInstance(module.getProject()).createConfiguration(module.getName() + " Quarkus (Maven)", MavenRunConfigurationType.class);
@@ -0,0 +1,224 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.intellij.quarkus.module;
+
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.util.io.HttpRequests;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.HttpURLConnection;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import static com.redhat.devtools.intellij.quarkus.QuarkusConstants.CODE_QUARKUS_IO_CLIENT_CONTACT_EMAIL_HEADER_NAME;
+import static com.redhat.devtools.intellij.quarkus.QuarkusConstants.CODE_QUARKUS_IO_CLIENT_CONTACT_EMAIL_HEADER_VALUE;
+import static com.redhat.devtools.intellij.quarkus.QuarkusConstants.CODE_QUARKUS_IO_CLIENT_NAME_HEADER_NAME;
+import static com.redhat.devtools.intellij.quarkus.QuarkusConstants.CODE_QUARKUS_IO_CLIENT_NAME_HEADER_VALUE;
+
+/**
+ * Disk cache of the responses of the code.quarkus.io API (streams and
+ * extension catalogs).
+ *
+ * <p>
+ * A cached response is returned immediately, and revalidated in the
+ * background with the ETag and Last-Modified headers of the response, so that
+ * the wizard doesn't wait for the network and works offline. The network is
+ * only waited for when the response is not cached yet.
+ * </p>
+ */
+public class QuarkusCodeCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(QuarkusCodeCache.class);
+
+    private static final String BODY_EXTENSION = ".json";
+
+    private static final String METADATA_EXTENSION = ".properties";
+
+    private static final String URL_PROPERTY = "url";
+
+    private static final String ETAG_PROPERTY = "etag";
+
+    private static final String LAST_MODIFIED_PROPERTY = "last-modified";
+
+    private static final String ETAG_HEADER = "ETag";
+
+    private static final String LAST_MODIFIED_HEADER = "Last-Modified";
+
+    private static final String IF_NONE_MATCH_HEADER = "If-None-Match";
+
+    private static final String IF_MODIFIED_SINCE_HEADER = "If-Modified-Since";
+
+    private final Path dir;
+
+    private final Executor executor;
+
+    private final String userAgent;
+
+    // URLs which are being revalidated
+    private final Set<String> revalidating = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates a cache.
+     *
+     * @param dir the directory where the responses are stored
+     * @param executor the executor used to revalidate the responses in the background
+     * @param userAgent the user agent sent with the requests
+     */
+    public QuarkusCodeCache(Path dir, Executor executor, String userAgent) {
+        this.dir = dir;
+        this.executor = executor;
+        this.userAgent = userAgent;
+    }
+
+    /**
+     * Returns the response for the given URL. If the response is cached, it is
+     * returned and revalidated in the background, otherwise it is downloaded in
+     * the calling thread.
+     *
+     * @param url the URL
+     * @param indicator the progress indicator
+     * @return the response body
+     * @throws IOException if the response is not cached and cannot be downloaded
+     */
+    public String get(String url, ProgressIndicator indicator) throws IOException {
+        String body = readBody(url);
+        if (body != null) {
+            revalidateInBackground(url);
+            return body;
+        }
+        body = download(url, null, indicator);
+        if (body == null) {
+            throw new IOException("No content for " + url);
+        }
+        return body;
+    }
+
+    private void revalidateInBackground(String url) {
+        if (revalidating.add(url)) {
+            executor.execute(() -> {
+                try {
+                    download(url, readMetadata(url), null);
+                } catch (IOException | RuntimeException e) {
+                    // Offline or endpoint not available, keep the cached response
+                    LOGGER.debug("Cannot revalidate " + url, e);
+                } finally {
+                    revalidating.remove(url);
+                }
+            });
+        }
+    }
+
+    /**
+     * Downloads the response and stores it.
+     *
+     * @param url the URL
+     * @param metadata the metadata of the cached response used for the revalidation or null
+     * @param indicator the progress indicator or null
+     * @return the new response body or null if the cached response is still valid
+     * @throws IOException if the response cannot be downloaded
+     */
+    private String download(String url, Properties metadata, ProgressIndicator indicator) throws IOException {
+        return HttpRequests.request(url).userAgent(userAgent).tuner(connection -> {
+            connection.setRequestProperty(CODE_QUARKUS_IO_CLIENT_NAME_HEADER_NAME, CODE_QUARKUS_IO_CLIENT_NAME_HEADER_VALUE);
+            connection.setRequestProperty(CODE_QUARKUS_IO_CLIENT_CONTACT_EMAIL_HEADER_NAME, CODE_QUARKUS_IO_CLIENT_CONTACT_EMAIL_HEADER_VALUE);
+            if (metadata != null) {
+                if (metadata.getProperty(ETAG_PROPERTY) != null) {
+                    connection.setRequestProperty(IF_NONE_MATCH_HEADER, metadata.getProperty(ETAG_PROPERTY));
+                }
+                if (metadata.getProperty(LAST_MODIFIED_PROPERTY) != null) {
+                    connection.setRequestProperty(IF_MODIFIED_SINCE_HEADER, metadata.getProperty(LAST_MODIFIED_PROPERTY));
+                }
+            }
+        }).connect(request -> {
+            URLConnection connection = request.getConnection();
+            if (connection instanceof HttpURLConnection &&
+                    ((HttpURLConnection) connection).getResponseCode() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                return null;
+            }
+            String body = request.readString(indicator);
+            store(url, body, connection.getHeaderField(ETAG_HEADER), connection.getHeaderField(LAST_MODIFIED_HEADER));
+            return body;
+        });
+    }
+
+    private synchronized String readBody(String url) {
+        Path path = getPath(url, BODY_EXTENSION);
+        if (Files.exists(path)) {
+            try {
+                return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                LOGGER.warn("Cannot read cached response for " + url, e);
+            }
+        }
+        return null;
+    }
+
+    private synchronized Properties readMetadata(String url) {
+        Properties metadata = new Properties();
+        Path path = getPath(url, METADATA_EXTENSION);
+        if (Files.exists(path)) {
+            try (InputStream stream = Files.newInputStream(path)) {
+                metadata.load(stream);
+            } catch (IOException e) {
+                LOGGER.warn("Cannot read cached response metadata for " + url, e);
+            }
+        }
+        return metadata;
+    }
+
+    private synchronized void store(String url, String body, String etag, String lastModified) {
+        try {
+            Files.createDirectories(dir);
+            Properties metadata = new Properties();
+            metadata.setProperty(URL_PROPERTY, url);
+            if (etag != null) {
+                metadata.setProperty(ETAG_PROPERTY, etag);
+            }
+            if (lastModified != null) {
+                metadata.setProperty(LAST_MODIFIED_PROPERTY, lastModified);
+            }
+            Path metadataPath = getPath(url, METADATA_EXTENSION);
+            Path temp = metadataPath.resolveSibling(metadataPath.getFileName() + ".tmp");
+            try (OutputStream stream = Files.newOutputStream(temp)) {
+                metadata.store(stream, null);
+            }
+            Path bodyPath = getPath(url, BODY_EXTENSION);
+            Path bodyTemp = bodyPath.resolveSibling(bodyPath.getFileName() + ".tmp");
+            Files.write(bodyTemp, body.getBytes(StandardCharsets.UTF_8));
+            Files.move(bodyTemp, bodyPath, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, metadataPath, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            LOGGER.warn("Cannot cache response for " + url, e);
+        }
+    }
+
+    private Path getPath(String url, String extension) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return dir.resolve(new BigInteger(1, digest.digest(url.getBytes(StandardCharsets.UTF_8))).toString(16) + extension);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.intellij.quarkus.module;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Inverted index of the extensions of a catalog, used to search the extensions
+ * in the wizard.
+ *
+ * <p>
+ * The index is built once from the extension names, ids, keywords,
+ * descriptions and categories. A query is split in terms and an extension
+ * matches if each term matches one of its words exactly, as a prefix or with a
+ * typo (one edit or transposition for terms of 4 characters or more, two for 8 characters or
+ * more), or if the query is a part of the extension name. Matches in the name
+ * rank higher than matches in the description.
+ * </p>
+ */
+public class QuarkusExtensionsIndex {
+
+    private static final int NAME_WEIGHT = 100;
+
+    private static final int ID_WEIGHT = 60;
+
+    private static final int KEYWORD_WEIGHT = 40;
+
+    private static final int CATEGORY_WEIGHT = 30;
+
+    private static final int DESCRIPTION_WEIGHT = 10;
+
+    private static final int SUBSTRING_WEIGHT = 50;
+
+    private final List<QuarkusExtension> extensions = new ArrayList<>();
+
+    private final Map<QuarkusExtension, String> names = new IdentityHashMap<>();
+
+    // word -> extension -> best weight of the word for the extension
+    private final TreeMap<String, Map<QuarkusExtension, Integer>> words = new TreeMap<>();
+
+    public QuarkusExtensionsIndex(List<QuarkusCategory> categories) {
+        Set<QuarkusExtension> indexed = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (QuarkusCategory category : categories) {
+            for (QuarkusExtension extension : category.getExtensions()) {
+                if (indexed.add(extension)) {
+                    extensions.add(extension);
+                    names.put(extension, toLowerCase(extension.getName()));
+                    addWords(extension, extension.getName(), NAME_WEIGHT);
+                    addWords(extension, extension.getShortName(), NAME_WEIGHT);
+                    addWords(extension, extension.getId(), ID_WEIGHT);
+                    addWords(extension, extension.getShortId(), ID_WEIGHT);
+                    extension.getLabels().forEach(label -> addWords(extension, label, KEYWORD_WEIGHT));
+                    extension.getTags().forEach(tag -> addWords(extension, tag, KEYWORD_WEIGHT));
+                    addWords(extension, extension.getDescription(), DESCRIPTION_WEIGHT);
+                }
+                addWords(extension, category.getName(), CATEGORY_WEIGHT);
+            }
+        }
+    }
+
+    private void addWords(QuarkusExtension extension, String text, int weight) {
+        for (String word : split(text)) {
+            words.computeIfAbsent(word, k -> new IdentityHashMap<>()).merge(extension, weight, Math::max);
+        }
+    }
+
+    /**
+     * Returns the score of the extensions matching the query, higher is better.
+     * All the extensions match an empty query with a score of 0.
+     *
+     * @param query the query
+     * @return the score of the matching extensions
+     */
+    public Map<QuarkusExtension, Integer> search(String query) {
+        Map<QuarkusExtension, Integer> result = new IdentityHashMap<>();
+        List<String> terms = split(query);
+        if (terms.isEmpty()) {
+            extensions.forEach(extension -> result.put(extension, 0));
+            return result;
+        }
+        Map<QuarkusExtension, Integer> scores = null;
+        for (String term : terms) {
+            Map<QuarkusExtension, Integer> termScores = searchTerm(term);
+            if (scores == null) {
+                scores = termScores;
+            } else {
+                Map<QuarkusExtension, Integer> previous = scores;
+                scores = new IdentityHashMap<>();
+                for (Map.Entry<QuarkusExtension, Integer> entry : termScores.entrySet()) {
+                    Integer score = previous.get(entry.getKey());
+                    if (score != null) {
+                        scores.put(entry.getKey(), score + entry.getValue());
+                    }
+                }
+            }
+        }
+        result.putAll(scores);
+        String lowerCaseQuery = toLowerCase(query.trim());
+        for (QuarkusExtension extension : extensions) {
+            if (names.get(extension).contains(lowerCaseQuery)) {
+                result.merge(extension, SUBSTRING_WEIGHT, Integer::sum);
+            }
+        }
+        return result;
+    }
+
+    private Map<QuarkusExtension, Integer> searchTerm(String term) {
+        Map<QuarkusExtension, Integer> scores = new IdentityHashMap<>();
+        // exact and prefix matches
+        for (Map.Entry<String, Map<QuarkusExtension, Integer>> entry : words.subMap(term, true, term + Character.MAX_VALUE, false).entrySet()) {
+            boolean exact = entry.getKey().length() == term.length();
+            addScores(scores, entry.getValue(), exact ? 1.0 : 0.8);
+        }
+        // typos
+        int maxDistance = term.length() >= 8 ? 2 : term.length() >= 4 ? 1 : 0;
+        if (maxDistance > 0) {
+            for (Map.Entry<String, Map<QuarkusExtension, Integer>> entry : words.entrySet()) {
+                String word = entry.getKey();
+                if (Math.abs(word.length() - term.length()) <= maxDistance && !word.startsWith(term) &&
+                        distance(term, word, maxDistance) <= maxDistance) {
+                    addScores(scores, entry.getValue(), 0.5);
+                }
+            }
+        }
+        return scores;
+    }
+
+    private static void addScores(Map<QuarkusExtension, Integer> scores, Map<QuarkusExtension, Integer> weights, double factor) {
+        for (Map.Entry<QuarkusExtension, Integer> weight : weights.entrySet()) {
+            scores.merge(weight.getKey(), (int) (weight.getValue() * factor), Math::max);
+        }
+    }
+
+    /**
+     * Returns the edit distance between two words, a transposition of two
+     * adjacent characters counting as one edit, or a value greater than max if
+     * it is greater than max.
+     */
+    static int distance(String s1, String s2, int max) {
+        int[] beforePrevious = new int[s2.length() + 1];
+        int[] previous = new int[s2.length() + 1];
+        int[] current = new int[s2.length() + 1];
+        for (int j = 0; j <= s2.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= s1.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= s2.length(); j++) {
+                int cost = s1.charAt(i - 1) == s2.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && s1.charAt(i - 1) == s2.charAt(j - 2) && s1.charAt(i - 2) == s2.charAt(j - 1)) {
+                    current[j] = Math.min(current[j], beforePrevious[j - 2] + 1);
+                }
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] tmp = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = tmp;
+        }
+        return previous[s2.length()];
+    }
+
+    private static List<String> split(String text) {
+        if (text == null) {
+            return Collections.emptyList();
+        }
+        Set<String> result = new LinkedHashSet<>();
+        for (String word : toLowerCase(text).split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                result.add(word);
+            }
+        }
+        return new ArrayList<>(result);
+    }
+
+    private static String toLowerCase(String text) {
+        return text != null ? text.toLowerCase(Locale.ROOT) : "";
+    }
+}
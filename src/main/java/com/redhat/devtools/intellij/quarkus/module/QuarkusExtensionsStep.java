@@ -57,11 +57,13 @@ import java.awt.Component;
 import java.awt.Dimension;
 import java.awt.Font;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.regex.Pattern;
 
 public class QuarkusExtensionsStep extends ModuleWizardStep implements Disposable {
     private static final Logger LOGGER = LoggerFactory.getLogger(QuarkusExtensionsStep.class);
@@ -117,6 +119,60 @@ public class QuarkusExtensionsStep extends ModuleWizardStep implements Disposabl
         }
     }
 
+    /**
+     * The nodes of the extensions tree, created once. Filtering only changes
+     * which nodes are attached to the tree so the check state and the tree
+     * selection are kept.
+     */
+    private static class ExtensionsTreeNodes {
+        private final CheckedTreeNode root = new CheckedTreeNode();
+        private final List<DefaultMutableTreeNode> categoryNodes = new ArrayList<>();
+        private final Map<DefaultMutableTreeNode, List<CheckedTreeNode>> extensionNodes = new HashMap<>();
+
+        private ExtensionsTreeNodes(List<QuarkusCategory> categories) {
+            for(QuarkusCategory category : categories) {
+                DefaultMutableTreeNode categoryNode = new DefaultMutableTreeNode(category);
+                List<CheckedTreeNode> nodes = new ArrayList<>();
+                for(QuarkusExtension extension : category.getExtensions()) {
+                    nodes.add(new CheckedTreeNode(extension));
+                }
+                categoryNodes.add(categoryNode);
+                extensionNodes.put(categoryNode, nodes);
+            }
+        }
+
+        /**
+         * Attach the nodes of the matching extensions, best matches first.
+         *
+         * @param scores the score of the matching extensions
+         * @param platform true if only platform extensions should be displayed
+         */
+        private void filter(Map<QuarkusExtension, Integer> scores, boolean platform) {
+            root.removeAllChildren();
+            Map<DefaultMutableTreeNode, Integer> categoryScores = new HashMap<>();
+            List<DefaultMutableTreeNode> visibleCategoryNodes = new ArrayList<>();
+            for(DefaultMutableTreeNode categoryNode : categoryNodes) {
+                categoryNode.removeAllChildren();
+                List<CheckedTreeNode> nodes = new ArrayList<>();
+                for(CheckedTreeNode extensionNode : extensionNodes.get(categoryNode)) {
+                    QuarkusExtension extension = (QuarkusExtension) extensionNode.getUserObject();
+                    if (scores.containsKey(extension) && (!platform || extension.isPlatform())) {
+                        extensionNode.setChecked(extension.isSelected());
+                        nodes.add(extensionNode);
+                    }
+                }
+                if (!nodes.isEmpty()) {
+                    nodes.sort(Comparator.comparingInt(node -> -scores.get((QuarkusExtension) node.getUserObject())));
+                    nodes.forEach(categoryNode::add);
+                    categoryScores.put(categoryNode, scores.get((QuarkusExtension) nodes.get(0).getUserObject()));
+                    visibleCategoryNodes.add(categoryNode);
+                }
+            }
+            visibleCategoryNodes.sort(Comparator.comparingInt(node -> -categoryScores.get(node)));
+            visibleCategoryNodes.forEach(root::add);
+        }
+    }
+
     public QuarkusExtensionsStep(WizardContext wizardContext) {
         this.wizardContext = wizardContext;
     }
@@ -152,8 +208,10 @@ public class QuarkusExtensionsStep extends ModuleWizardStep implements Disposabl
             List<QuarkusCategory> categories = wizardContext.getUserData(QuarkusConstants.WIZARD_EXTENSIONS_MODEL_KEY).getCategories();
 
             //extensions component
-            CheckedTreeNode root = getModel(categories, filter, platformChecbox.isSelected());
-            CheckboxTree extensionsTree = new ExtensionsTree(root);
+            QuarkusExtensionsIndex index = new QuarkusExtensionsIndex(categories);
+            ExtensionsTreeNodes nodes = new ExtensionsTreeNodes(categories);
+            nodes.filter(index.search(filter.getText()), platformChecbox.isSelected());
+            CheckboxTree extensionsTree = new ExtensionsTree(nodes.root);
             JTextPane extensionDetailTextPane = new JTextPane();
             extensionDetailTextPane.setEditorKit(getHtmlEditorKit());
             extensionDetailTextPane.setEditable(false);
@@ -182,17 +240,11 @@ public class QuarkusExtensionsStep extends ModuleWizardStep implements Disposabl
             filter.addDocumentListener(new DocumentAdapter() {
                 @Override
                 protected void textChanged(@NotNull DocumentEvent e) {
-                    ApplicationManager.getApplication().invokeLater(() -> {
-                        extensionsTree.setModel(new DefaultTreeModel(getModel(categories, filter, platformChecbox.isSelected())));
-                        expandTree(extensionsTree);
-                    });
+                    ApplicationManager.getApplication().invokeLater(() -> filterTree(extensionsTree, nodes, index, filter, platformChecbox.isSelected()));
                 }
             });
             platformChecbox.addItemListener(e -> {
-                ApplicationManager.getApplication().invokeLater(() -> {
-                    extensionsTree.setModel(new DefaultTreeModel(getModel(categories, filter, platformChecbox.isSelected())));
-                    expandTree(extensionsTree);
-                });
+                ApplicationManager.getApplication().invokeLater(() -> filterTree(extensionsTree, nodes, index, filter, platformChecbox.isSelected()));
             });
             extensionDetailTextPane.addHyperlinkListener(new HyperlinkListener() {
                 @Override
@@ -243,23 +295,19 @@ public class QuarkusExtensionsStep extends ModuleWizardStep implements Disposabl
         }
     }
 
-    private CheckedTreeNode getModel(List<QuarkusCategory> categories, SearchTextField filter, boolean platform) {
-        Pattern pattern = Pattern.compile(".*" + filter.getText() + ".*", Pattern.CASE_INSENSITIVE);
-        CheckedTreeNode root = new CheckedTreeNode();
-        for(QuarkusCategory category : categories) {
-            DefaultMutableTreeNode categoryNode = new DefaultMutableTreeNode(category);
-            for(QuarkusExtension extension : category.getExtensions()) {
-                if (pattern.matcher(extension.getName()).matches() && (!platform || extension.isPlatform())) {
-                    CheckedTreeNode extensionNode = new CheckedTreeNode(extension);
-                    extensionNode.setChecked(extension.isSelected());
-                    categoryNode.add(extensionNode);
-                }
-            }
-            if (categoryNode.getChildCount() > 0) {
-                root.add(categoryNode);
+    private void filterTree(JTree tree, ExtensionsTreeNodes nodes, QuarkusExtensionsIndex index, SearchTextField filter, boolean platform) {
+        TreePath selectionPath = tree.getSelectionPath();
+        nodes.filter(index.search(filter.getText()), platform);
+        ((DefaultTreeModel) tree.getModel()).nodeStructureChanged(nodes.root);
+        expandTree(tree);
+        if (selectionPath != null) {
+            DefaultMutableTreeNode selected = (DefaultMutableTreeNode) selectionPath.getLastPathComponent();
+            if (selected.getRoot() == nodes.root) {
+                TreePath path = new TreePath(selected.getPath());
+                tree.setSelectionPath(path);
+                tree.scrollPathToVisible(path);
             }
         }
-        return root;
     }
 
     /**
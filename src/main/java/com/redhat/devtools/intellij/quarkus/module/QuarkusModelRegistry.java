@@ -16,20 +16,22 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import com.intellij.openapi.application.ApplicationInfo;
 import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.PathManager;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
 import com.intellij.openapi.progress.ProcessCanceledException;
 import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.util.Url;
 import com.intellij.util.Urls;
+import com.intellij.util.concurrency.AppExecutorUtil;
 import com.intellij.util.io.HttpRequests;
 import com.intellij.util.io.RequestBuilder;
-import org.zeroturnaround.zip.ZipUtil;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.Reader;
-import java.util.HashMap;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.ExecutionException;
 
 import static com.redhat.devtools.intellij.quarkus.QuarkusConstants.CODE_ARTIFACT_ID_PARAMETER_NAME;
@@ -55,12 +57,16 @@ public class QuarkusModelRegistry {
 
     public static final QuarkusModelRegistry INSTANCE = new QuarkusModelRegistry();
 
-    private final Map<String, QuarkusModel> models = new HashMap<>();
-
     private static final ObjectMapper mapper = new ObjectMapper();
 
     static final String USER_AGENT = computeUserAgent();
 
+    private static final QuarkusCodeCache CACHE = new QuarkusCodeCache(Paths.get(PathManager.getSystemPath(), "quarkus", "code"),
+            AppExecutorUtil.getAppExecutorService(), USER_AGENT);
+
+    private static final QuarkusProjectUnpacker UNPACKER = new QuarkusProjectUnpacker(
+            AppExecutorUtil.createBoundedApplicationPoolExecutor("Quarkus project unpacker", 4));
+
     private static String computeUserAgent() {
         StringBuilder builder = new StringBuilder(ApplicationInfo.getInstance().getBuild().getProductCode());
         builder.append('/').append(ApplicationInfo.getInstance().getBuild().asStringWithoutProductCodeAndSnapshot());
@@ -73,32 +79,10 @@ public class QuarkusModelRegistry {
 
     public QuarkusModel load(String endPointURL, ProgressIndicator indicator) throws IOException {
         String normalizedEndPointURL = normalizeURL(endPointURL);
-        indicator.setText("Looking up Quarkus model from endpoint " + endPointURL);
-        QuarkusModel model = models.get(endPointURL);
-        if (model == null) {
-            indicator.setText("Loading Quarkus model from endpoint " + endPointURL);
-            try {
-                model = ApplicationManager.getApplication().executeOnPooledThread(() -> HttpRequests.request(normalizedEndPointURL + STREAMS_SUFFIX).userAgent(USER_AGENT).tuner(request -> {
-                    request.setRequestProperty(CODE_QUARKUS_IO_CLIENT_NAME_HEADER_NAME, CODE_QUARKUS_IO_CLIENT_NAME_HEADER_VALUE);
-                    request.setRequestProperty(CODE_QUARKUS_IO_CLIENT_CONTACT_EMAIL_HEADER_NAME, CODE_QUARKUS_IO_CLIENT_CONTACT_EMAIL_HEADER_VALUE);
-                }).connect(request -> {
-                        try (Reader reader = request.getReader(indicator)) {
-                            List<QuarkusStream> streams = mapper.readValue(reader, new TypeReference<List<QuarkusStream>>() {
-                            });
-                            QuarkusModel newModel = new QuarkusModel(normalizedEndPointURL, streams);
-                            return newModel;
-                        } catch (IOException e) {
-                            throw new ProcessCanceledException(e);
-                        }
-                })).get();
-            } catch (InterruptedException|ExecutionException e) {
-                throw new IOException(e);
-            }
-        }
-        if (model == null) {
-            throw new IOException();
-        }
-        return model;
+        indicator.setText("Loading Quarkus model from endpoint " + endPointURL);
+        List<QuarkusStream> streams = mapper.readValue(get(normalizedEndPointURL + STREAMS_SUFFIX, indicator), new TypeReference<List<QuarkusStream>>() {
+        });
+        return new QuarkusModel(normalizedEndPointURL, streams);
     }
 
     private static String normalizeURL(String endPointURL) {
@@ -112,31 +96,35 @@ public class QuarkusModelRegistry {
     public static QuarkusExtensionsModel loadExtensionsModel(String endPointURL, String key, ProgressIndicator indicator) throws IOException {
         String normalizedEndPointURL = normalizeURL(endPointURL);
         indicator.setText("Looking up Quarkus extensions from endpoint " + endPointURL + " and key " + key);
-        QuarkusExtensionsModel model = null;
-            try {
-                model = ApplicationManager.getApplication().executeOnPooledThread(() -> HttpRequests.request(normalizedEndPointURL + EXTENSIONS_SUFFIX + key + "?" + PLATFORM_ONLY_PARAMETER + "=false").userAgent(USER_AGENT).tuner(request -> {
-                    request.setRequestProperty(CODE_QUARKUS_IO_CLIENT_NAME_HEADER_NAME, CODE_QUARKUS_IO_CLIENT_NAME_HEADER_VALUE);
-                    request.setRequestProperty(CODE_QUARKUS_IO_CLIENT_CONTACT_EMAIL_HEADER_NAME, CODE_QUARKUS_IO_CLIENT_CONTACT_EMAIL_HEADER_VALUE);
-                }).connect(request -> {
-                    try (Reader reader = request.getReader(indicator)) {
-                        List<QuarkusExtension> extensions = mapper.readValue(reader, new TypeReference<List<QuarkusExtension>>() {
-                        });
-                        QuarkusExtensionsModel newModel = new QuarkusExtensionsModel(key, extensions);
-                        return newModel;
-                    } catch (IOException e) {
-                        throw new ProcessCanceledException(e);
-                    }
-                })).get();
-            } catch (InterruptedException|ExecutionException e) {
-                throw new IOException(e);
-            }
-        if (model == null) {
-            throw new IOException();
+        List<QuarkusExtension> extensions = mapper.readValue(get(normalizedEndPointURL + EXTENSIONS_SUFFIX + key + "?" + PLATFORM_ONLY_PARAMETER + "=false", indicator), new TypeReference<List<QuarkusExtension>>() {
+        });
+        return new QuarkusExtensionsModel(key, extensions);
+    }
+
+    /**
+     * Returns the cached response for the URL, the network is used only if the response is not cached yet.
+     *
+     * @param url the URL
+     * @param indicator the progress indicator
+     * @return the response body
+     * @throws IOException if the response is not cached and cannot be downloaded
+     */
+    private static String get(String url, ProgressIndicator indicator) throws IOException {
+        try {
+            return ApplicationManager.getApplication().executeOnPooledThread(() -> CACHE.get(url, indicator)).get();
+        } catch (InterruptedException|ExecutionException e) {
+            throw new IOException(e);
         }
-        return model;
     }
 
-    public static void zip(String endpoint, String tool, String groupId, String artifactId, String version,
+    /**
+     * Generate the project with the endpoint and extract it to the output directory while it is downloaded. When
+     * called from the EDT, the generation runs in a modal cancellable task.
+     *
+     * @return the extracted files and directories
+     * @throws IOException if the project cannot be generated or extracted
+     */
+    public static List<Path> zip(String endpoint, String tool, String groupId, String artifactId, String version,
                            String className, String path, QuarkusExtensionsModel model, File output, boolean codeStarts) throws IOException {
         Url url = Urls.newFromEncoded(normalizeURL(endpoint) + "/api/download");
         String body = buildParameters(tool, groupId, artifactId, version, className, path, model, codeStarts);
@@ -144,20 +132,26 @@ public class QuarkusModelRegistry {
             connection.setRequestProperty(CODE_QUARKUS_IO_CLIENT_NAME_HEADER_NAME, CODE_QUARKUS_IO_CLIENT_NAME_HEADER_VALUE);
             connection.setRequestProperty(CODE_QUARKUS_IO_CLIENT_CONTACT_EMAIL_HEADER_NAME, CODE_QUARKUS_IO_CLIENT_CONTACT_EMAIL_HEADER_VALUE);
         });
-        try {
-            if (ApplicationManager.getApplication().executeOnPooledThread(() -> builder.connect(request -> {
-                request.write(body);
-                ZipUtil.unpack(request.getInputStream(), output, name -> {
-                    int index = name.indexOf('/');
-                    return name.substring(index);
-                });
-                return true;
-            })).get() == null) {
-                throw new IOException();
+        if (ApplicationManager.getApplication().isDispatchThread()) {
+            try {
+                return ProgressManager.getInstance().runProcessWithProgressSynchronously(
+                        () -> download(builder, body, output, ProgressManager.getInstance().getProgressIndicator()),
+                        "Generating Quarkus project", true, null);
+            } catch (ProcessCanceledException e) {
+                throw new IOException("Quarkus project generation canceled");
             }
-    } catch (InterruptedException | ExecutionException e) {
-            throw new IOException(e);
         }
+        ProgressIndicator indicator = ProgressManager.getInstance().getProgressIndicator();
+        return download(builder, body, output, indicator != null ? indicator : new EmptyProgressIndicator());
+    }
+
+    private static List<Path> download(RequestBuilder builder, String body, File output, ProgressIndicator indicator) throws IOException {
+        indicator.setText("Downloading Quarkus project");
+        return builder.connect(request -> {
+            request.write(body);
+            return UNPACKER.unpack(request.getInputStream(), request.getConnection().getContentLengthLong(),
+                    output.toPath(), indicator);
+        });
     }
 
     private static String buildParameters(String tool, String groupId, String artifactId, String version,
@@ -183,9 +177,9 @@ public class QuarkusModelRegistry {
         return json.toString();
     }
 
-    public static void zip(String endpoint, String tool, String groupId, String artifactId, String version,
+    public static List<Path> zip(String endpoint, String tool, String groupId, String artifactId, String version,
                            String className, String path, QuarkusExtensionsModel model, File output) throws IOException {
-        zip(endpoint, tool, groupId, artifactId, version, className, path, model, output, true);
+        return zip(endpoint, tool, groupId, artifactId, version, className, path, model, output, true);
     }
 
     }
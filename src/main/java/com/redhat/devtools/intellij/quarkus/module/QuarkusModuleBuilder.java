@@ -24,6 +24,7 @@ import com.intellij.openapi.roots.ui.configuration.ModulesProvider;
 import com.intellij.openapi.util.IconLoader;
 import com.intellij.openapi.util.InvalidDataException;
 import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VfsUtil;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.openapi.vfs.newvfs.RefreshQueue;
 import com.redhat.devtools.intellij.quarkus.QuarkusConstants;
@@ -36,6 +37,13 @@ import org.jetbrains.annotations.Nullable;
 import javax.swing.Icon;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 public class QuarkusModuleBuilder extends JavaModuleBuilder {
 
@@ -105,7 +113,7 @@ public class QuarkusModuleBuilder extends JavaModuleBuilder {
 
     private void processDownload() throws IOException {
         File moduleFile = new File(getContentEntryPath());
-        QuarkusModelRegistry.zip(wizardContext.getUserData(QuarkusConstants.WIZARD_ENDPOINT_URL_KEY),
+        List<Path> paths = QuarkusModelRegistry.zip(wizardContext.getUserData(QuarkusConstants.WIZARD_ENDPOINT_URL_KEY),
                 wizardContext.getUserData(QuarkusConstants.WIZARD_TOOL_KEY).asParameter(),
                 wizardContext.getUserData(QuarkusConstants.WIZARD_GROUPID_KEY),
                 wizardContext.getUserData(QuarkusConstants.WIZARD_ARTIFACTID_KEY),
@@ -116,8 +124,33 @@ public class QuarkusModuleBuilder extends JavaModuleBuilder {
                 moduleFile,
                 wizardContext.getUserData(QuarkusConstants.WIZARD_EXAMPLE_KEY));
         updateWrapperPermissions(moduleFile);
-        VirtualFile vf = LocalFileSystem.getInstance().refreshAndFindFileByIoFile(moduleFile);
-        RefreshQueue.getInstance().refresh(true, true, (Runnable) null, new VirtualFile[]{vf});
+        refresh(paths);
+    }
+
+    /**
+     * Refresh the extracted files in a single asynchronous VFS batch. A file which is not known by the VFS yet is
+     * created by the refresh of its closest known parent directory, only the marked files are rescanned.
+     *
+     * @param paths the extracted files and directories
+     */
+    private static void refresh(List<Path> paths) {
+        LocalFileSystem fileSystem = LocalFileSystem.getInstance();
+        Map<Path, Optional<VirtualFile>> lookups = new HashMap<>();
+        Set<VirtualFile> files = new LinkedHashSet<>();
+        for (Path path : paths) {
+            VirtualFile file = null;
+            for (Path current = path; current != null && file == null; current = current.getParent()) {
+                file = lookups.computeIfAbsent(current, p -> Optional.ofNullable(fileSystem.findFileByIoFile(p.toFile()))).orElse(null);
+            }
+            if (file != null) {
+                files.add(file);
+            }
+        }
+        if (!files.isEmpty()) {
+            VirtualFile[] toRefresh = files.toArray(VirtualFile.EMPTY_ARRAY);
+            VfsUtil.markDirty(false, false, toRefresh);
+            RefreshQueue.getInstance().refresh(true, true, null, toRefresh);
+        }
     }
 
     private void updateWrapperPermissions(File moduleFile) {
@@ -0,0 +1,229 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.intellij.quarkus.module;
+
+import com.intellij.openapi.progress.ProgressIndicator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Extracts the project generated by code.quarkus.io while it is downloaded.
+ *
+ * <p>
+ * The ZIP stream is read once, in the calling thread. The content of the small
+ * entries is kept in memory and written to disk by the executor, so that the
+ * file system writes overlap with the download. The large entries are copied
+ * directly to disk. The first segment of the entry names (the project name) is
+ * removed. The progress is reported and the extraction is cancelled through
+ * the progress indicator.
+ * </p>
+ */
+public class QuarkusProjectUnpacker {
+    // Entries larger than this are copied directly to disk
+    private static final int MAX_BUFFERED_ENTRY_SIZE = 1024 * 1024;
+
+    // Memory used by the entries waiting to be written
+    private static final int MAX_PENDING_BYTES = 16 * 1024 * 1024;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Executor executor;
+
+    /**
+     * Creates an unpacker.
+     *
+     * @param executor the executor which writes the entries
+     */
+    public QuarkusProjectUnpacker(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Extract the ZIP stream to the output directory.
+     *
+     * @param stream the ZIP stream
+     * @param length the length of the ZIP stream or -1 if unknown
+     * @param output the output directory
+     * @param indicator the progress indicator
+     * @return the extracted files and directories
+     * @throws IOException if the stream cannot be read or a file cannot be written
+     */
+    public List<Path> unpack(InputStream stream, long length, Path output, ProgressIndicator indicator) throws IOException {
+        Path root = output.toAbsolutePath().normalize();
+        Files.createDirectories(root);
+        CountingInputStream counting = new CountingInputStream(stream);
+        Semaphore pendingBytes = new Semaphore(MAX_PENDING_BYTES);
+        List<CompletableFuture<Void>> writes = new ArrayList<>();
+        List<Path> paths = new ArrayList<>();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        indicator.setIndeterminate(length <= 0);
+        try (ZipInputStream zip = new ZipInputStream(counting)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                indicator.checkCanceled();
+                Path path = resolve(root, entry.getName());
+                if (path == null) {
+                    continue;
+                }
+                paths.add(path);
+                indicator.setText2(root.relativize(path).toString());
+                if (length > 0) {
+                    indicator.setFraction(Math.min(1.0, (double) counting.count / length));
+                }
+                if (entry.isDirectory()) {
+                    Files.createDirectories(path);
+                } else {
+                    ByteArrayOutputStream content = new ByteArrayOutputStream();
+                    if (copy(zip, content, buffer, MAX_BUFFERED_ENTRY_SIZE, indicator)) {
+                        write(path, content, pendingBytes, writes);
+                    } else {
+                        // Large entry, the rest of the entry is copied without buffering
+                        Files.createDirectories(path.getParent());
+                        try (OutputStream out = Files.newOutputStream(path)) {
+                            content.writeTo(out);
+                            copy(zip, out, buffer, Long.MAX_VALUE, indicator);
+                        }
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException | Error e) {
+            // Don't leave writes behind, the caller may delete the output directory
+            waitFor(writes);
+            throw e;
+        }
+        join(writes);
+        return paths;
+    }
+
+    /**
+     * Returns the path of the entry without the project name, or null if the
+     * entry is the project directory itself.
+     */
+    private static Path resolve(Path root, String name) throws IOException {
+        int index = name.indexOf('/');
+        String relative = index >= 0 ? name.substring(index + 1) : "";
+        if (relative.isEmpty()) {
+            return null;
+        }
+        Path path = root.resolve(relative).normalize();
+        if (!path.startsWith(root)) {
+            throw new IOException("Invalid entry " + name);
+        }
+        return path;
+    }
+
+    /**
+     * Copy the input stream until its end or until max bytes are copied.
+     *
+     * @return true if the end of the input stream is reached
+     */
+    private static boolean copy(InputStream in, OutputStream out, byte[] buffer, long max, ProgressIndicator indicator) throws IOException {
+        long copied = 0;
+        int n;
+        while (copied <= max && (n = in.read(buffer)) > 0) {
+            out.write(buffer, 0, n);
+            copied += n;
+            indicator.checkCanceled();
+        }
+        return copied <= max;
+    }
+
+    private void write(Path path, ByteArrayOutputStream content, Semaphore pendingBytes, List<CompletableFuture<Void>> writes) throws IOException {
+        int size = Math.max(1, content.size());
+        try {
+            pendingBytes.acquire(size);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+        writes.add(CompletableFuture.runAsync(() -> {
+            try {
+                Files.createDirectories(path.getParent());
+                try (OutputStream out = Files.newOutputStream(path)) {
+                    content.writeTo(out);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                pendingBytes.release(size);
+            }
+        }, executor));
+    }
+
+    private static void join(List<CompletableFuture<Void>> writes) throws IOException {
+        try {
+            CompletableFuture.allOf(writes.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static void waitFor(List<CompletableFuture<Void>> writes) {
+        for (CompletableFuture<Void> write : writes) {
+            try {
+                write.join();
+            } catch (CompletionException e) {
+                // the original error is reported
+            }
+        }
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+}
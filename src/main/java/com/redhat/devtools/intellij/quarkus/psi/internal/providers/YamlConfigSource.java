@@ -10,6 +10,7 @@
 package com.redhat.devtools.intellij.quarkus.psi.internal.providers;
 
 import com.intellij.openapi.module.Module;
+import com.intellij.util.text.CharSequenceReader;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project.AbstractConfigSource;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project.MicroProfileConfigPropertyInformation;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project.PropertiesConfigSource;
@@ -43,6 +44,12 @@ public class YamlConfigSource extends PropertiesConfigSource {
 		return YamlUtils.loadYamlAsProperties(input);
 	}
 
+	@Override
+	protected Properties loadConfig(CharSequence content, Properties previousConfig) throws IOException {
+		// Stream the Yaml events of the document content
+		return YamlUtils.loadYamlAsProperties(new CharSequenceReader(content));
+	}
+
 	@Override
 	public int getOrdinal() {
 		// See https://github.com/quarkusio/quarkus/blob/main/extensions/config-yaml/runtime/src/main/java/io/quarkus/config/yaml/runtime/ApplicationYamlConfigSourceLoader.java#L29
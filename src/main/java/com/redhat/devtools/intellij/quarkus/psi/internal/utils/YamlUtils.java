@@ -13,18 +13,53 @@
 *******************************************************************************/
 package com.redhat.devtools.intellij.quarkus.psi.internal.utils;
 
+import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+import org.yaml.snakeyaml.error.Mark;
+import org.yaml.snakeyaml.events.AliasEvent;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.NodeEvent;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.resolver.Resolver;
 
 import java.io.InputStream;
-import java.util.Collection;
-import java.util.Collections;
-import java.util.LinkedHashMap;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 
 public class YamlUtils {
 
+	/**
+	 * Consumer of the flattened properties of a Yaml document.
+	 */
+	public interface YamlPropertyConsumer {
+
+		/**
+		 * Accept a flattened property. When a key is declared several times, the last
+		 * accepted value wins.
+		 *
+		 * @param key    the flattened key (ex : quarkus.http.port).
+		 * @param value  the flattened value.
+		 * @param line   the 0-based line of the last segment of the key.
+		 * @param column the 0-based column of the last segment of the key.
+		 */
+		void accept(String key, String value, int line, int column);
+	}
+
 	private YamlUtils() {}
 
 	/**
@@ -36,55 +71,310 @@ public class YamlUtils {
 	 * @return the flattern properties.
 	 */
 	public static Properties loadYamlAsProperties(InputStream input) {
+		return loadYamlAsProperties(new InputStreamReader(input, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Load the Yaml document from the given <code>reader</code> and flattern the
+	 * properties to return an instance of {@link Properties}.
+	 *
+	 * @param reader the Yaml content
+	 *
+	 * @return the flattern properties.
+	 */
+	public static Properties loadYamlAsProperties(Reader reader) {
 		Properties properties = new Properties();
-		// Load Yaml document
-		Yaml yaml = new Yaml();
-		Object yamlDocument = yaml.load(input);
-		if (yamlDocument != null) {
-			// flattern Yaml document to properties.
-			Map<String, Object> yamlMap = toMap(yamlDocument);
-			properties.putAll(flattenMap(yamlMap));
-		}
+		flatten(reader, (key, value, line, column) -> properties.put(key, value));
 		return properties;
 	}
 
-	private static Map<String, Object> toMap(Object object) {
-		if (object instanceof Map) {
-			return (Map<String, Object>) object;
-		}
-		return null;
+	/**
+	 * Flatten the first document of the given Yaml content by streaming the parser
+	 * events, without building the object graph of the document.
+	 *
+	 * <p>
+	 * Keys of nested mappings are joined with '.' (a null key like '~' doesn't add
+	 * a segment), values of sequences are joined with ',' and null values are
+	 * flattened as empty strings. Scalar values are constructed by SnakeYAML
+	 * (ex : 0x1F is flattened as 31). Anchors, aliases and merge keys are
+	 * supported.
+	 * </p>
+	 *
+	 * @param reader   the Yaml content.
+	 * @param consumer the consumer of the flattened properties with the position
+	 *                 of their key.
+	 */
+	public static void flatten(Reader reader, YamlPropertyConsumer consumer) {
+		new YamlFlattener(new Yaml().parse(reader).iterator()).flattenDocument(consumer);
 	}
 
-	private static Map<String, String> flattenMap(Map<String, Object> sourceMap) {
-		Map<String, String> resultMap = new LinkedHashMap<>();
-		// Loop for key/values of source Map
-		for (Map.Entry<String, Object> sourceMapEntry : sourceMap.entrySet()) {
-			String key = sourceMapEntry.getKey();
-			Object value = sourceMapEntry.getValue();
-
-			// flatten the value
-			if (value instanceof Map) {
-				@SuppressWarnings("unchecked")
-				Map<String, String> valueMap = flattenMap((Map<String, Object>) value);
-				for (Map.Entry<String, String> valueMapEntry : valueMap.entrySet()) {
-					String subKey = valueMapEntry.getKey();
-					String subValue = valueMapEntry.getValue();
-					resultMap.put(subKey != null ? key + "." + subKey : key, subValue);
+	/**
+	 * Flattens the events of a Yaml parser.
+	 */
+	private static class YamlFlattener {
+
+		private static final int MAX_ALIAS_DEPTH = 64;
+
+		private final Iterator<Event> parserEvents;
+
+		private final Resolver resolver = new Resolver();
+
+		private final ScalarConstructor constructor = new ScalarConstructor();
+
+		// Events of the anchored nodes
+		private final Map<String, List<Event>> anchors = new HashMap<>();
+
+		// Events of the anchored nodes being parsed
+		private final List<List<Event>> recordings = new ArrayList<>();
+
+		// Events of the aliases being replayed
+		private final Deque<Iterator<Event>> replays = new ArrayDeque<>();
+
+		private boolean fromParser;
+
+		YamlFlattener(Iterator<Event> parserEvents) {
+			this.parserEvents = parserEvents;
+		}
+
+		/**
+		 * Target of the flattened properties.
+		 */
+		private static class Sink {
+
+			private final YamlPropertyConsumer consumer;
+
+			private final Set<String> keys = new HashSet<>();
+
+			Sink(YamlPropertyConsumer consumer) {
+				this.consumer = consumer;
+			}
+
+			void accept(String key, String value, Mark mark, boolean merged) {
+				// Merged keys never override the keys declared in the mapping
+				if (keys.add(key) || !merged) {
+					consumer.accept(key, value, mark.getLine(), mark.getColumn());
 				}
-			} else if (value instanceof Collection) {
-				StringBuilder joiner = new StringBuilder();
-				String separator = "";
-				for (Object element : ((Collection<?>) value)) {
-					Map<String, String> subMap = flattenMap(Collections.singletonMap(key, element));
-					joiner.append(separator).append(subMap.entrySet().iterator().next().getValue().toString());
-					separator = ",";
+			}
+		}
+
+		void flattenDocument(YamlPropertyConsumer consumer) {
+			Event event = next();
+			while (event != null && !event.is(Event.ID.DocumentStart)) {
+				event = next();
+			}
+			if (event == null) {
+				return;
+			}
+			Event root = nextNode();
+			if (root.is(Event.ID.MappingStart)) {
+				flattenMapping(null, root, new Sink(consumer), false);
+			}
+			// Only the first document is flattened
+		}
+
+		private Event next() {
+			while (!replays.isEmpty()) {
+				Iterator<Event> replay = replays.peek();
+				if (replay.hasNext()) {
+					fromParser = false;
+					return replay.next();
 				}
-				resultMap.put(key, joiner.toString());
+				replays.pop();
+			}
+			if (!parserEvents.hasNext()) {
+				return null;
+			}
+			Event event = parserEvents.next();
+			fromParser = true;
+			for (List<Event> recording : recordings) {
+				recording.add(event);
+			}
+			return event;
+		}
+
+		/**
+		 * Returns the next event where aliases are replaced with the events of their
+		 * anchored node.
+		 */
+		private Event nextNode() {
+			Event event = next();
+			while (event instanceof AliasEvent) {
+				replay((AliasEvent) event);
+				event = next();
+			}
+			if (fromParser && event instanceof NodeEvent && ((NodeEvent) event).getAnchor() != null) {
+				// Record the events of the anchored node to replay them for the aliases
+				List<Event> recording = new ArrayList<>();
+				recording.add(event);
+				recordings.add(recording);
+				anchors.put(((NodeEvent) event).getAnchor(), recording);
+			}
+			return event;
+		}
+
+		private void replay(AliasEvent alias) {
+			List<Event> anchored = anchors.get(alias.getAnchor());
+			if (anchored == null) {
+				throw new IllegalStateException("Found undefined alias " + alias.getAnchor());
+			}
+			if (replays.size() >= MAX_ALIAS_DEPTH) {
+				throw new IllegalStateException("Too many nested aliases for " + alias.getAnchor());
+			}
+			replays.push(anchored.iterator());
+		}
+
+		/**
+		 * Called when the node started by the given event is fully parsed.
+		 */
+		private void endNode(Event start) {
+			if (start instanceof NodeEvent && ((NodeEvent) start).getAnchor() != null) {
+				for (int i = recordings.size() - 1; i >= 0; i--) {
+					if (recordings.get(i).get(0) == start) {
+						recordings.remove(i);
+						return;
+					}
+				}
+			}
+		}
+
+		private void flattenMapping(String prefix, Event start, Sink sink, boolean merged) {
+			Event keyEvent = nextNode();
+			while (!keyEvent.is(Event.ID.MappingEnd)) {
+				if (!(keyEvent instanceof ScalarEvent)) {
+					// Complex key, ignore the key and its value
+					skipNode(keyEvent);
+					skipNode(nextNode());
+				} else {
+					endNode(keyEvent);
+					ScalarEvent key = (ScalarEvent) keyEvent;
+					if (Tag.MERGE.equals(resolveTag(key))) {
+						flattenMerge(prefix, nextNode(), sink);
+					} else {
+						String name = Tag.NULL.equals(resolveTag(key)) ? null : key.getValue();
+						String path = name == null ? prefix : prefix == null ? name : prefix + "." + name;
+						flattenValue(path, key.getStartMark(), nextNode(), sink, merged);
+					}
+				}
+				keyEvent = nextNode();
+			}
+			endNode(start);
+		}
+
+		private void flattenMerge(String prefix, Event value, Sink sink) {
+			if (value.is(Event.ID.MappingStart)) {
+				flattenMapping(prefix, value, sink, true);
+			} else if (value.is(Event.ID.SequenceStart)) {
+				// The first mappings of the sequence win
+				Event element = nextNode();
+				while (!element.is(Event.ID.SequenceEnd)) {
+					flattenMerge(prefix, element, sink);
+					element = nextNode();
+				}
+				endNode(value);
+			} else {
+				skipNode(value);
+			}
+		}
+
+		private void flattenValue(String path, Mark keyMark, Event value, Sink sink, boolean merged) {
+			if (value.is(Event.ID.MappingStart)) {
+				flattenMapping(path, value, sink, merged);
+				return;
+			}
+			String flattened;
+			if (value.is(Event.ID.SequenceStart)) {
+				flattened = joinSequence(value);
 			} else {
-				// Simple value (String, Integer, Boolean, etc)
-				resultMap.put(key, value != null ? value.toString() : "");
+				endNode(value);
+				flattened = toValue((ScalarEvent) value);
 			}
+			if (path != null) {
+				sink.accept(path, flattened, keyMark, merged);
+			}
+		}
+
+		/**
+		 * Join the values of the sequence started by the given event with ','. The
+		 * value of a mapping item is its first flattened value.
+		 */
+		private String joinSequence(Event start) {
+			StringBuilder joiner = new StringBuilder();
+			String separator = "";
+			Event element = nextNode();
+			while (!element.is(Event.ID.SequenceEnd)) {
+				String value;
+				if (element.is(Event.ID.SequenceStart)) {
+					value = joinSequence(element);
+				} else if (element.is(Event.ID.MappingStart)) {
+					String[] first = new String[1];
+					flattenMapping(null, element, new Sink((key, val, line, column) -> {
+						if (first[0] == null) {
+							first[0] = val;
+						}
+					}), false);
+					value = first[0] != null ? first[0] : "";
+				} else {
+					endNode(element);
+					value = toValue((ScalarEvent) element);
+				}
+				joiner.append(separator).append(value);
+				separator = ",";
+				element = nextNode();
+			}
+			endNode(start);
+			return joiner.toString();
+		}
+
+		private void skipNode(Event start) {
+			if (start.is(Event.ID.MappingStart) || start.is(Event.ID.SequenceStart)) {
+				Event event = nextNode();
+				while (!event.is(Event.ID.MappingEnd) && !event.is(Event.ID.SequenceEnd)) {
+					skipNode(event);
+					event = nextNode();
+				}
+			}
+			endNode(start);
+		}
+
+		private Tag resolveTag(ScalarEvent event) {
+			// Same resolution as the SnakeYAML composer
+			String tag = event.getTag();
+			if (tag == null || "!".equals(tag)) {
+				return resolver.resolve(NodeId.scalar, event.getValue(), event.getImplicit().canOmitTagInPlainScalar());
+			}
+			return new Tag(tag);
+		}
+
+		/**
+		 * Returns the string representation of the Java object that SnakeYAML
+		 * constructs for the given scalar.
+		 */
+		private String toValue(ScalarEvent event) {
+			Tag tag = resolveTag(event);
+			if (Tag.NULL.equals(tag)) {
+				return "";
+			}
+			if (Tag.BOOL.equals(tag) || Tag.INT.equals(tag) || Tag.FLOAT.equals(tag) || Tag.TIMESTAMP.equals(tag)) {
+				try {
+					return String.valueOf(constructor.construct(tag, event.getValue()));
+				} catch (RuntimeException e) {
+					// Invalid scalar for its explicit tag (ex : !!int abc)
+					return event.getValue();
+				}
+			}
+			return event.getValue();
+		}
+	}
+
+	/**
+	 * Constructs the Java object of a scalar with the SnakeYAML constructors of
+	 * the standard tags.
+	 */
+	private static class ScalarConstructor extends SafeConstructor {
+
+		Object construct(Tag tag, String value) {
+			ScalarNode node = new ScalarNode(tag, value, null, null, DumperOptions.ScalarStyle.PLAIN);
+			return getConstructor(node).construct(node);
 		}
-		return resultMap;
 	}
 }
@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.intellij.quarkus.run;
+
+import com.intellij.execution.process.ProcessAdapter;
+import com.intellij.execution.process.ProcessEvent;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.util.Key;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Watches the output of a Quarkus dev mode process (Maven or Gradle) to know
+ * when the debug port of the application is open, and reports the duration of
+ * the startup phases.
+ *
+ * <p>
+ * The debug port is considered open as soon as the JDWP agent prints that it
+ * is listening on it. As the output may not be available (ex: the process
+ * handler is not known yet), the port is also probed with an increasing delay.
+ * </p>
+ */
+public class QuarkusDevModeMonitor extends ProcessAdapter {
+    private static final Logger LOGGER = LoggerFactory.getLogger(QuarkusDevModeMonitor.class);
+
+    private static final Pattern JDWP_LISTENING_PATTERN = Pattern.compile("Listening for transport dt_socket at address: (\\d+)(?!\\d)");
+
+    private static final Pattern AUGMENTATION_PATTERN = Pattern.compile("augmentation completed in (\\d+)ms");
+
+    private static final Pattern STARTED_PATTERN = Pattern.compile("started in (\\d+(?:\\.\\d+)?)s");
+
+    private static final String JWDP_HANDSHAKE = "JDWP-Handshake";
+
+    private static final long MIN_PROBE_DELAY = 100;
+
+    private static final long MAX_PROBE_DELAY = 2000;
+
+    // When the process output is not watched, give up after this delay
+    private static final long UNWATCHED_TIMEOUT = 60_000;
+
+    // When the process output is watched, the build may be long but give up after this delay
+    private static final long WATCHED_TIMEOUT = 10 * 60_000;
+
+    private final int port;
+
+    private final long unwatchedTimeout;
+
+    private final long watchedTimeout;
+
+    private final long start = System.currentTimeMillis();
+
+    private final CountDownLatch done = new CountDownLatch(1);
+
+    private final StringBuilder line = new StringBuilder();
+
+    private volatile boolean watched;
+
+    private volatile boolean debugPortOpen;
+
+    private volatile boolean terminated;
+
+    private long debugPortOpenTime;
+
+    private long augmentationTime = -1;
+
+    public QuarkusDevModeMonitor(int port) {
+        this(port, UNWATCHED_TIMEOUT, WATCHED_TIMEOUT);
+    }
+
+    QuarkusDevModeMonitor(int port, long unwatchedTimeout, long watchedTimeout) {
+        this.port = port;
+        this.unwatchedTimeout = unwatchedTimeout;
+        this.watchedTimeout = watchedTimeout;
+    }
+
+    @Override
+    public void startNotified(@NotNull ProcessEvent event) {
+        watched = true;
+    }
+
+    @Override
+    public void onTextAvailable(@NotNull ProcessEvent event, @NotNull Key outputType) {
+        watched = true;
+        onText(event.getText());
+    }
+
+    @Override
+    public void processTerminated(@NotNull ProcessEvent event) {
+        terminated = true;
+        done.countDown();
+    }
+
+    /**
+     * Mark the process output as watched, the port is then probed until the
+     * process terminates or the watched timeout expires.
+     */
+    public void setWatched() {
+        watched = true;
+    }
+
+    synchronized void onText(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\n' || c == '\r') {
+                if (line.length() > 0) {
+                    onLine(line.toString());
+                    line.setLength(0);
+                }
+            } else {
+                line.append(c);
+            }
+        }
+        // The JDWP message may not be followed by a new line yet
+        if (!debugPortOpen && line.length() > 0) {
+            checkDebugPort(line.toString(), false);
+        }
+    }
+
+    private void onLine(String text) {
+        if (!debugPortOpen) {
+            checkDebugPort(text, true);
+        }
+        Matcher matcher = AUGMENTATION_PATTERN.matcher(text);
+        if (matcher.find()) {
+            augmentationTime = Long.parseLong(matcher.group(1));
+        }
+        matcher = STARTED_PATTERN.matcher(text);
+        if (matcher.find()) {
+            long appStartTime = Math.round(Double.parseDouble(matcher.group(1)) * 1000);
+            LOGGER.info("Quarkus dev mode started in " + (System.currentTimeMillis() - start) + "ms (build: " +
+                    (debugPortOpen ? debugPortOpenTime + "ms" : "unknown") + ", augmentation: " +
+                    (augmentationTime >= 0 ? augmentationTime + "ms" : "unknown") + ", application start: " + appStartTime + "ms)");
+        }
+    }
+
+    private void checkDebugPort(String text, boolean complete) {
+        Matcher matcher = JDWP_LISTENING_PATTERN.matcher(text);
+        // On an incomplete line, the port may be continued by the next text (ex: 5005 then 50051)
+        if (matcher.find() && (complete || matcher.end() < text.length()) &&
+                Integer.parseInt(matcher.group(1)) == port) {
+            debugPortOpenTime = System.currentTimeMillis() - start;
+            debugPortOpen = true;
+            done.countDown();
+        }
+    }
+
+    boolean isDebugPortOpen() {
+        return debugPortOpen;
+    }
+
+    /**
+     * Wait until the debug port is open.
+     *
+     * @param monitor the progress monitor
+     * @throws IOException if the process terminated, the wait was canceled or
+     * the port is not open in time
+     */
+    public void waitForDebugPort(ProgressIndicator monitor) throws IOException {
+        long delay = MIN_PROBE_DELAY;
+        while (!debugPortOpen) {
+            long elapsed = System.currentTimeMillis() - start;
+            if (terminated || monitor.isCanceled() || elapsed > (watched ? watchedTimeout : unwatchedTimeout)) {
+                throw new IOException("Can't connect remote debugger to port " + port);
+            }
+            if (probe()) {
+                LOGGER.info("Debug port " + port + " open after " + (System.currentTimeMillis() - start) + "ms");
+                return;
+            }
+            try {
+                // Woken up as soon as the JDWP agent is listening
+                done.await(delay, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            delay = Math.min(delay * 2, MAX_PROBE_DELAY);
+        }
+        LOGGER.info("Debug port " + port + " open after " + debugPortOpenTime + "ms");
+    }
+
+    private boolean probe() {
+        try (Socket socket = new Socket("localhost", port)) {
+            socket.getOutputStream().write(JWDP_HANDSHAKE.getBytes(StandardCharsets.US_ASCII));
+            return true;
+        } catch (ConnectException e) {
+            return false;
+        } catch (IOException e) {
+            LOGGER.debug("Can't probe debug port " + port, e);
+            return false;
+        }
+    }
+}
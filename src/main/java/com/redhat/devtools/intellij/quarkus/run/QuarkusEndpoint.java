@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.intellij.quarkus.run;
+
+import java.util.function.BinaryOperator;
+
+/**
+ * The HTTP endpoint of a Quarkus application running in dev mode, resolved
+ * from the <code>quarkus.http.*</code> properties of the module.
+ */
+public class QuarkusEndpoint {
+    private static final String DEV_PROFILE_PREFIX = "%dev.";
+
+    private static final String DEFAULT_HOST = "localhost";
+
+    private static final int DEFAULT_PORT = 8080;
+
+    private final String host;
+
+    private final int port;
+
+    private final String rootPath;
+
+    private final String nonApplicationRootPath;
+
+    QuarkusEndpoint(String host, int port, String rootPath, String nonApplicationRootPath) {
+        this.host = host;
+        this.port = port;
+        this.rootPath = rootPath;
+        this.nonApplicationRootPath = nonApplicationRootPath;
+    }
+
+    /**
+     * Resolve the endpoint from the properties of the dev profile.
+     *
+     * @param properties the property lookup, called with the property name and the default value
+     * @return the endpoint
+     */
+    public static QuarkusEndpoint resolve(BinaryOperator<String> properties) {
+        String host = getProperty(properties, "quarkus.http.host", DEFAULT_HOST);
+        if (host.isEmpty() || "0.0.0.0".equals(host) || "::".equals(host) || "[::]".equals(host)) {
+            // The application listens on all the interfaces
+            host = DEFAULT_HOST;
+        } else if (host.indexOf(':') >= 0 && !host.startsWith("[")) {
+            host = '[' + host + ']';
+        }
+        int port = DEFAULT_PORT;
+        try {
+            port = Integer.parseInt(getProperty(properties, "quarkus.http.port", String.valueOf(DEFAULT_PORT)).trim());
+        } catch (NumberFormatException e) {
+            // keep the default port
+        }
+        String rootPath = normalize(getProperty(properties, "quarkus.http.root-path", "/"));
+        String nonApplicationRootPath = getProperty(properties, "quarkus.http.non-application-root-path", "q");
+        if (!nonApplicationRootPath.startsWith("/")) {
+            nonApplicationRootPath = rootPath + nonApplicationRootPath;
+        }
+        return new QuarkusEndpoint(host, port, rootPath, normalize(nonApplicationRootPath));
+    }
+
+    private static String getProperty(BinaryOperator<String> properties, String name, String defaultValue) {
+        String value = properties.apply(name, defaultValue);
+        return properties.apply(DEV_PROFILE_PREFIX + name, value);
+    }
+
+    private static String normalize(String path) {
+        StringBuilder builder = new StringBuilder(path);
+        if (builder.length() == 0 || builder.charAt(0) != '/') {
+            builder.insert(0, '/');
+        }
+        if (builder.charAt(builder.length() - 1) != '/') {
+            builder.append('/');
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns the host to connect to.
+     *
+     * @return the host to connect to
+     */
+    public String getHost() {
+        return host;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    /**
+     * Returns the root path of the application, starting and ending with a slash.
+     *
+     * @return the root path of the application
+     */
+    public String getRootPath() {
+        return rootPath;
+    }
+
+    /**
+     * Returns the root path of the non application endpoints (Dev UI, health, ...), starting and ending with a slash.
+     *
+     * @return the root path of the non application endpoints
+     */
+    public String getNonApplicationRootPath() {
+        return nonApplicationRootPath;
+    }
+
+    public String getApplicationURL() {
+        return "http://" + host + ":" + port + rootPath;
+    }
+
+    public String getDevUIURL() {
+        return "http://" + host + ":" + port + nonApplicationRootPath + "dev";
+    }
+}
@@ -50,10 +50,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.net.ConnectException;
 import java.net.ServerSocket;
-import java.net.Socket;
-import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Map;
 
@@ -64,8 +61,6 @@ public class QuarkusRunConfiguration extends ModuleBasedConfiguration<RunConfigu
 
     private int port = 5005;
 
-    private static final String JWDP_HANDSHAKE = "JDWP-Handshake";
-
     public QuarkusRunConfiguration(Project project, ConfigurationFactory factory, String name) {
         super(name, getRunConfigurationModule(project), factory);
     }
@@ -132,56 +127,49 @@ public class QuarkusRunConfiguration extends ModuleBasedConfiguration<RunConfigu
         telemetry.property("kind", executor.getId());
         ToolDelegate toolDelegate = ToolDelegate.getDelegate(getModule());
         allocateLocalPort();
+        QuarkusDevModeMonitor devModeMonitor = new QuarkusDevModeMonitor(getPort());
         if (toolDelegate != null) {
             telemetry.property("tool", toolDelegate.getDisplay());
             RunnerAndConfigurationSettings settings = toolDelegate.getConfigurationDelegate(getModule(), this);
             if (settings != null) {
                 long groupId = ExecutionEnvironment.getNextUnusedExecutionId();
                 doRunConfiguration(settings, executor, DefaultExecutionTarget.INSTANCE, groupId, null,
-                        desc -> desc.getComponent().putClientProperty(QuarkusConstants.QUARKUS_RUN_CONTEXT_KEY, new QuarkusRunContext(getModule())));
+                        desc -> {
+                            desc.getComponent().putClientProperty(QuarkusConstants.QUARKUS_RUN_CONTEXT_KEY, new QuarkusRunContext(getModule()));
+                            if (desc.getProcessHandler() != null) {
+                                desc.getProcessHandler().addProcessListener(devModeMonitor);
+                                devModeMonitor.setWatched();
+                            }
+                        });
             }
         } else {
             telemetry.property("tool", "not found");
         }
         telemetry.send();
         if (executor.getId() == DefaultDebugExecutor.EXECUTOR_ID) {
-            ProgressManager.getInstance().run(new Task.Backgroundable(getProject(), "Quarkus configuration", false) {
+            ProgressManager.getInstance().run(new Task.Backgroundable(getProject(), "Quarkus configuration", true) {
                 @Override
                 public void run(@NotNull ProgressIndicator indicator) {
-                    createRemoteConfiguration(indicator);
+                    createRemoteConfiguration(devModeMonitor, indicator);
                 }
             });
         }
         return null;
     }
 
-    private void waitForPortAvailable(int port, ProgressIndicator monitor) throws IOException {
-        long start = System.currentTimeMillis();
-        while (System.currentTimeMillis() - start < 60_000 && !monitor.isCanceled()) {
-            try (Socket socket = new Socket("localhost", port)) {
-                socket.getOutputStream().write(JWDP_HANDSHAKE.getBytes(StandardCharsets.US_ASCII));
-                return;
-            } catch (ConnectException e) {
-                try {
-                    Thread.sleep(1000L);
-                } catch (InterruptedException e1) {
-                    throw new IOException(e1);
-                }
-            }
-        }
-        throw new IOException("Can't connect remote debuger to port " + port);
-    }
-
-    private void createRemoteConfiguration(ProgressIndicator indicator) {
+    private void createRemoteConfiguration(QuarkusDevModeMonitor devModeMonitor, ProgressIndicator indicator) {
         indicator.setText("Connecting Java debugger to port " + getPort());
         try {
-            waitForPortAvailable(getPort(), indicator);
+            devModeMonitor.waitForDebugPort(indicator);
             RunnerAndConfigurationSettings settings = RunManager.getInstance(getProject()).createConfiguration(getName() + " (Remote)", RemoteConfigurationType.class);
             RemoteConfiguration remoteConfiguration = (RemoteConfiguration) settings.getConfiguration();
             remoteConfiguration.PORT = Integer.toString(getPort());
             long groupId = ExecutionEnvironment.getNextUnusedExecutionId();
             ExecutionUtil.runConfiguration(settings, DefaultDebugExecutor.getDebugExecutorInstance(), DefaultExecutionTarget.INSTANCE, groupId);
         } catch (IOException e) {
+            if (indicator.isCanceled()) {
+                return;
+            }
             ApplicationManager.getApplication().invokeLater(() -> Messages.showErrorDialog("Can' t connector to port " + getPort(), "Quarkus"));
         }
     }
@@ -19,12 +19,16 @@ import com.intellij.openapi.project.Project;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProject;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager;
 import com.redhat.devtools.intellij.quarkus.QuarkusConstants;
+import org.apache.commons.lang3.tuple.Pair;
 
 import javax.swing.JComponent;
 
 public class QuarkusRunContext {
     private final PsiMicroProfileProject project;
 
+    // The endpoint resolved for the modification count of the config sources
+    private volatile Pair<Long, QuarkusEndpoint> endpoint;
+
     public QuarkusRunContext(Module module) {
         this.project = PsiMicroProfileProjectManager.getInstance(module.getProject()).getJDTMicroProfileProject(module);
     }
@@ -37,43 +41,27 @@ public class QuarkusRunContext {
         return (component == null) ? null : (QuarkusRunContext) component.getClientProperty(QuarkusConstants.QUARKUS_RUN_CONTEXT_KEY);
     }
 
-    private String getProperty(String name, String defaultValue) {
-        String val = project.getProperty(name, defaultValue);
-        return project.getProperty("%dev." + name, val);
-    }
-
-    private String normalize(String path) {
-        StringBuilder builder = new StringBuilder(path);
-        if (builder.length() == 0 || builder.charAt(0) != '/') {
-            builder.insert(0, '/');
-        }
-        if (builder.charAt(builder.length() - 1) != '/') {
-            builder.append('/');
+    /**
+     * Returns the endpoint of the application. It is resolved again only when the config sources of the module
+     * changed.
+     *
+     * @return the endpoint of the application
+     */
+    public QuarkusEndpoint getEndpoint() {
+        long modificationCount = project.getModificationCount();
+        Pair<Long, QuarkusEndpoint> endpoint = this.endpoint;
+        if (endpoint == null || endpoint.getLeft() != modificationCount) {
+            endpoint = Pair.of(modificationCount, QuarkusEndpoint.resolve(project::getProperty));
+            this.endpoint = endpoint;
         }
-        return builder.toString();
-    }
-
-    private int getPort() {
-        int port = project.getPropertyAsInteger("quarkus.http.port", 8080);
-        port = project.getPropertyAsInteger("%dev.quarkus.http.port", port);
-        return port;
+        return endpoint.getRight();
     }
 
     public String getDevUIURL() {
-        int port = getPort();
-        String path = getProperty("quarkus.http.non-application-root-path", "q");
-        if (!path.startsWith("/")) {
-            String rootPath = getProperty("quarkus.http.root-path", "/");
-            path = normalize(rootPath) + path;
-        }
-        path = normalize(path);
-        return "http://localhost:" + port + path + "dev";
+        return getEndpoint().getDevUIURL();
     }
 
     public String getApplicationURL() {
-        int port = getPort();
-        String path = getProperty("quarkus.http.root-path", "/");
-        path = normalize(path);
-        return "http://localhost:" + port + path;
+        return getEndpoint().getApplicationURL();
     }
 }
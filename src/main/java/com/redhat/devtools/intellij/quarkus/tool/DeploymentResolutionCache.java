@@ -0,0 +1,274 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.intellij.quarkus.tool;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.PathManager;
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.components.ServiceManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+
+/**
+ * Application level cache of the resolution of the Quarkus deployment
+ * artifacts, stored on disk.
+ *
+ * <p>
+ * The modules of a reactor usually share the same Quarkus extensions, the
+ * deployment artifacts are then resolved once for all the modules and reused
+ * across IDE restarts. An entry is keyed by the requested artifact ids, the
+ * remote repositories and the classifier. It is dropped as soon as one of its
+ * files doesn't exist anymore. Snapshot artifacts are never cached. The
+ * changes are written by {@link #save()}, once per resolution, and when the
+ * application service is disposed.
+ * </p>
+ */
+@Service
+public final class DeploymentResolutionCache implements Disposable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DeploymentResolutionCache.class);
+
+    private static final int VERSION = 1;
+
+    private static final int MAX_ENTRIES = 500;
+
+    private static final Type ENTRIES_TYPE = new TypeToken<LinkedHashMap<String, List<ResolvedArtifact>>>() {}.getType();
+
+    /**
+     * A resolved artifact.
+     */
+    public static class ResolvedArtifact {
+        private final String groupId;
+        private final String artifactId;
+        private final String version;
+        private final String classifier;
+        private final String scope;
+        private final String file;
+
+        public ResolvedArtifact(String groupId, String artifactId, String version, String classifier, String scope, String file) {
+            this.groupId = groupId;
+            this.artifactId = artifactId;
+            this.version = version;
+            this.classifier = classifier;
+            this.scope = scope;
+            this.file = file;
+        }
+
+        public String getGroupId() {
+            return groupId;
+        }
+
+        public String getArtifactId() {
+            return artifactId;
+        }
+
+        public String getVersion() {
+            return version;
+        }
+
+        public String getClassifier() {
+            return classifier;
+        }
+
+        public String getScope() {
+            return scope;
+        }
+
+        public String getFile() {
+            return file;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ResolvedArtifact that = (ResolvedArtifact) o;
+            return Objects.equals(groupId, that.groupId) && Objects.equals(artifactId, that.artifactId) &&
+                    Objects.equals(version, that.version) && Objects.equals(classifier, that.classifier) &&
+                    Objects.equals(scope, that.scope) && Objects.equals(file, that.file);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(groupId, artifactId, version, classifier, scope, file);
+        }
+
+        @Override
+        public String toString() {
+            return groupId + ":" + artifactId + ":" + version + (classifier != null ? ":" + classifier : "");
+        }
+    }
+
+    private final Path file;
+
+    private final Gson gson = new Gson();
+
+    private LinkedHashMap<String, List<ResolvedArtifact>> entries;
+
+    // The entries have changed since they were loaded or saved
+    private boolean dirty;
+
+    public static DeploymentResolutionCache getInstance() {
+        return ServiceManager.getService(DeploymentResolutionCache.class);
+    }
+
+    public DeploymentResolutionCache() {
+        this(Paths.get(PathManager.getSystemPath(), "quarkus", "deployment-resolution-v" + VERSION + ".json"));
+    }
+
+    DeploymentResolutionCache(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Returns the key of a resolution.
+     *
+     * @param ids          the requested artifact ids (groupId:artifactId:version).
+     * @param repositories the URLs of the remote repositories.
+     * @param classifier   the classifier or null.
+     * @return the key of the resolution or null if the resolution must not be
+     * cached.
+     */
+    public static String getKey(Collection<String> ids, Collection<String> repositories, String classifier) {
+        for (String id : ids) {
+            if (isSnapshot(id)) {
+                return null;
+            }
+        }
+        return String.join(",", new TreeSet<>(ids)) + '|' + String.join(",", new TreeSet<>(repositories)) + '|' +
+                (classifier != null ? classifier : "");
+    }
+
+    /**
+     * Returns the cached resolution for the given key and null otherwise.
+     *
+     * @param key the resolution key.
+     * @return the cached resolution for the given key and null otherwise.
+     */
+    public synchronized List<ResolvedArtifact> get(String key) {
+        if (key == null) {
+            return null;
+        }
+        List<ResolvedArtifact> artifacts = getEntries().get(key);
+        if (artifacts != null) {
+            for (ResolvedArtifact artifact : artifacts) {
+                if (artifact.getFile() == null || !Files.exists(Paths.get(artifact.getFile()))) {
+                    // The local repository has been cleaned
+                    getEntries().remove(key);
+                    dirty = true;
+                    return null;
+                }
+            }
+        }
+        return artifacts;
+    }
+
+    /**
+     * Stores the resolution for the given key, unless one of the resolved
+     * artifacts is a snapshot (ex : a release depending on a snapshot). The cache
+     * is written by {@link #save()}.
+     *
+     * @param key       the resolution key.
+     * @param artifacts the resolved artifacts.
+     */
+    public synchronized void put(String key, List<ResolvedArtifact> artifacts) {
+        if (key == null) {
+            return;
+        }
+        for (ResolvedArtifact artifact : artifacts) {
+            if (artifact.getVersion() != null && isSnapshot(artifact.getVersion())) {
+                return;
+            }
+        }
+        getEntries().put(key, Collections.unmodifiableList(new ArrayList<>(artifacts)));
+        dirty = true;
+    }
+
+    private static boolean isSnapshot(String version) {
+        return version.endsWith("-SNAPSHOT");
+    }
+
+    private LinkedHashMap<String, List<ResolvedArtifact>> getEntries() {
+        if (entries == null) {
+            entries = new LinkedHashMap<String, List<ResolvedArtifact>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, List<ResolvedArtifact>> eldest) {
+                    return size() > MAX_ENTRIES;
+                }
+            };
+            Map<String, List<ResolvedArtifact>> loaded = load();
+            if (loaded != null) {
+                entries.putAll(loaded);
+            }
+        }
+        return entries;
+    }
+
+    private Map<String, List<ResolvedArtifact>> load() {
+        if (Files.exists(file)) {
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                return gson.fromJson(reader, ENTRIES_TYPE);
+            } catch (IOException | JsonParseException e) {
+                LOGGER.warn("Cannot read deployment resolution cache " + file, e);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Writes the cache if it has changed.
+     */
+    public synchronized void save() {
+        if (!dirty) {
+            return;
+        }
+        dirty = false;
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                gson.toJson(entries, ENTRIES_TYPE, writer);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            LOGGER.warn("Cannot write deployment resolution cache " + file, e);
+        }
+    }
+
+    @Override
+    public void dispose() {
+        save();
+    }
+}
@@ -0,0 +1,302 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.intellij.quarkus.tool;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.PathManager;
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+
+import static com.redhat.devtools.intellij.quarkus.QuarkusConstants.QUARKUS_DEPLOYMENT_PROPERTY_NAME;
+import static com.redhat.devtools.intellij.quarkus.QuarkusConstants.QUARKUS_EXTENSION_PROPERTIES;
+
+/**
+ * Application level index of the Quarkus extension descriptors
+ * (META-INF/quarkus-extension.properties) of the JARs, stored on disk.
+ *
+ * <p>
+ * An entry is keyed by the JAR path and is valid as long as the size and the
+ * last modification time of the JAR don't change, so that each JAR is opened
+ * once, including JARs which are not Quarkus extensions. Directories are not
+ * indexed as their descriptor can change without changing the directory. The
+ * changes are written a few seconds after the JAR has been indexed, and when
+ * the application service is disposed.
+ * </p>
+ */
+@Service
+public final class QuarkusExtensionIndex implements Disposable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(QuarkusExtensionIndex.class);
+
+    private static final int VERSION = 1;
+
+    private static final int MAX_ENTRIES = 20000;
+
+    private static final long SAVE_DELAY = 5;
+
+    private static final String PROVIDES_CAPABILITIES_PROPERTY_NAME = "provides-capabilities";
+
+    private static final Type ENTRIES_TYPE = new TypeToken<LinkedHashMap<String, Entry>>() {}.getType();
+
+    /**
+     * A Quarkus extension descriptor.
+     */
+    public static class QuarkusExtensionDescriptor {
+        private final Map<String, String> properties;
+
+        public QuarkusExtensionDescriptor(Map<String, String> properties) {
+            this.properties = properties;
+        }
+
+        /**
+         * Returns the Maven coordinates of the deployment artifact.
+         *
+         * @return the Maven coordinates of the deployment artifact or null
+         */
+        public String getDeploymentArtifact() {
+            return properties.get(QUARKUS_DEPLOYMENT_PROPERTY_NAME);
+        }
+
+        /**
+         * Returns the capabilities provided by the extension.
+         *
+         * @return the capabilities provided by the extension
+         */
+        public List<String> getCapabilities() {
+            String capabilities = properties.get(PROVIDES_CAPABILITIES_PROPERTY_NAME);
+            if (capabilities == null || capabilities.isBlank()) {
+                return Collections.emptyList();
+            }
+            return Arrays.stream(capabilities.split(",")).map(String::trim).collect(Collectors.toList());
+        }
+
+        public String getProperty(String name) {
+            return properties.get(name);
+        }
+    }
+
+    private static class Entry {
+        private long length;
+        private long lastModified;
+        private Map<String, String> properties;
+
+        Entry(long length, long lastModified, Map<String, String> properties) {
+            this.length = length;
+            this.lastModified = lastModified;
+            this.properties = properties;
+        }
+    }
+
+    private final Path file;
+
+    private final ScheduledExecutorService executor;
+
+    private final Gson gson = new Gson();
+
+    private LinkedHashMap<String, Entry> entries;
+
+    private boolean saveScheduled;
+
+    // The entries have changed since they were loaded or saved
+    private boolean dirty;
+
+    public static QuarkusExtensionIndex getInstance() {
+        return ServiceManager.getService(QuarkusExtensionIndex.class);
+    }
+
+    public QuarkusExtensionIndex() {
+        this(Paths.get(PathManager.getSystemPath(), "quarkus", "extension-index-v" + VERSION + ".json"),
+                AppExecutorUtil.getAppScheduledExecutorService());
+    }
+
+    /**
+     * Creates an index.
+     *
+     * @param file the file where the index is stored
+     * @param executor the executor used to store the index, or null to store it on each change
+     */
+    QuarkusExtensionIndex(Path file, ScheduledExecutorService executor) {
+        this.file = file;
+        this.executor = executor;
+    }
+
+    /**
+     * Returns the Quarkus extension descriptor of a JAR or a directory.
+     *
+     * @param file the JAR or the directory
+     * @return the Quarkus extension descriptor or null if the file is not a Quarkus extension
+     */
+    public QuarkusExtensionDescriptor getDescriptor(File file) {
+        if (file.isDirectory()) {
+            return toDescriptor(readDirectory(file));
+        }
+        if (!file.isFile()) {
+            return null;
+        }
+        String path = file.getAbsolutePath();
+        long length = file.length();
+        long lastModified = file.lastModified();
+        synchronized (this) {
+            Entry entry = getEntries().get(path);
+            if (entry != null && entry.length == length && entry.lastModified == lastModified) {
+                return toDescriptor(entry.properties);
+            }
+        }
+        Map<String, String> properties = readJar(file);
+        synchronized (this) {
+            getEntries().put(path, new Entry(length, lastModified, properties));
+            dirty = true;
+            scheduleSave();
+        }
+        return toDescriptor(properties);
+    }
+
+    private static QuarkusExtensionDescriptor toDescriptor(Map<String, String> properties) {
+        return properties != null ? new QuarkusExtensionDescriptor(properties) : null;
+    }
+
+    private static Map<String, String> readDirectory(File dir) {
+        File quarkusFile = new File(dir, QUARKUS_EXTENSION_PROPERTIES);
+        if (quarkusFile.exists()) {
+            try (InputStream stream = new FileInputStream(quarkusFile)) {
+                return readProperties(stream);
+            } catch (IOException e) {
+                LOGGER.warn("Cannot read " + quarkusFile, e);
+            }
+        }
+        return null;
+    }
+
+    private static Map<String, String> readJar(File file) {
+        try (JarFile jarFile = new JarFile(file)) {
+            JarEntry entry = jarFile.getJarEntry(QUARKUS_EXTENSION_PROPERTIES);
+            if (entry != null) {
+                try (InputStream stream = jarFile.getInputStream(entry)) {
+                    return readProperties(stream);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Cannot read " + file, e);
+        }
+        return null;
+    }
+
+    private static Map<String, String> readProperties(InputStream stream) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = new InputStreamReader(stream, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        Map<String, String> result = new HashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            result.put(name, properties.getProperty(name));
+        }
+        return result;
+    }
+
+    private LinkedHashMap<String, Entry> getEntries() {
+        if (entries == null) {
+            entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                    return size() > MAX_ENTRIES;
+                }
+            };
+            Map<String, Entry> loaded = load();
+            if (loaded != null) {
+                entries.putAll(loaded);
+            }
+        }
+        return entries;
+    }
+
+    private void scheduleSave() {
+        if (executor == null) {
+            save();
+        } else if (!saveScheduled) {
+            // The JARs of a project are indexed in a row, store them once
+            saveScheduled = true;
+            executor.schedule(() -> {
+                synchronized (this) {
+                    saveScheduled = false;
+                    save();
+                }
+            }, SAVE_DELAY, TimeUnit.SECONDS);
+        }
+    }
+
+    private Map<String, Entry> load() {
+        if (Files.exists(file)) {
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                return gson.fromJson(reader, ENTRIES_TYPE);
+            } catch (IOException | JsonParseException e) {
+                LOGGER.warn("Cannot read Quarkus extension index " + file, e);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Writes the index if it has changed.
+     */
+    public synchronized void save() {
+        if (!dirty) {
+            return;
+        }
+        dirty = false;
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                gson.toJson(entries, ENTRIES_TYPE, writer);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            LOGGER.warn("Cannot write Quarkus extension index " + file, e);
+        }
+    }
+
+    @Override
+    public void dispose() {
+        // Flush the changes whose save is still scheduled
+        save();
+    }
+}
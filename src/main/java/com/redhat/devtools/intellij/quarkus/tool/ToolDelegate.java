@@ -20,48 +20,21 @@ import com.redhat.devtools.intellij.quarkus.run.QuarkusRunConfiguration;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.File;
-import java.io.FileReader;
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.Reader;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Properties;
-import java.util.jar.JarEntry;
-import java.util.jar.JarFile;
-
-import static com.redhat.devtools.intellij.quarkus.QuarkusConstants.QUARKUS_DEPLOYMENT_PROPERTY_NAME;
-import static com.redhat.devtools.intellij.quarkus.QuarkusConstants.QUARKUS_EXTENSION_PROPERTIES;
 
 public interface ToolDelegate  {
+    /**
+     * Returns the Maven coordinates of the deployment artifact of a Quarkus extension.
+     *
+     * @param file the extension JAR or directory
+     * @return the Maven coordinates of the deployment artifact or null if the file is not a Quarkus extension
+     * @see QuarkusExtensionIndex
+     */
     static String getDeploymentJarId(File file) {
-        String result = null;
-        if (file.isDirectory()) {
-            File quarkusFile = new File(file, QUARKUS_EXTENSION_PROPERTIES);
-            if (quarkusFile.exists()) {
-                try (Reader r = new FileReader(quarkusFile)) {
-                    result = getQuarkusExtension(r);
-                } catch (IOException e) {}
-            }
-        } else {
-            try {
-                JarFile jarFile = new JarFile(file);
-                JarEntry entry = jarFile.getJarEntry(QUARKUS_EXTENSION_PROPERTIES);
-                if (entry != null) {
-                    try (Reader r = new InputStreamReader(jarFile.getInputStream(entry),"UTF-8")) {
-                        result = getQuarkusExtension(r);
-                    }
-                }
-            } catch (IOException e) {}
-        }
-        return result;
-    }
-
-    static String getQuarkusExtension(Reader r) throws IOException {
-        Properties p = new Properties();
-        p.load(r);
-        return p.getProperty(QUARKUS_DEPLOYMENT_PROPERTY_NAME);
+        QuarkusExtensionIndex.QuarkusExtensionDescriptor descriptor = QuarkusExtensionIndex.getInstance().getDescriptor(file);
+        return descriptor != null ? descriptor.getDeploymentArtifact() : null;
     }
 
     public static ToolDelegate getDelegate(Module module) {
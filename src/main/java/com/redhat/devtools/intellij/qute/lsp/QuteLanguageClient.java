@@ -131,8 +131,9 @@ public class QuteLanguageClient extends IndexAwareLanguageClient implements Qute
 
   @Override
   public CompletableFuture<List<PublishDiagnosticsParams>> getJavaDiagnostics(QuteJavaDiagnosticsParams javaParams) {
-    return runAsBackground("getJavaDiagnostics", monitor -> ReadAction.compute(() -> QuteSupportForJava.getInstance().diagnostics(javaParams, PsiUtilsLSImpl.getInstance(getProject()),
-            monitor)));
+    // The diagnostics take their own read actions, one per Java file
+    return runAsBackground("getJavaDiagnostics", monitor -> QuteSupportForJava.getInstance().diagnostics(javaParams, PsiUtilsLSImpl.getInstance(getProject()),
+            monitor));
   }
 
   @Override
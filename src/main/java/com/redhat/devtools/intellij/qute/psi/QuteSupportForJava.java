@@ -15,10 +15,13 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import com.intellij.openapi.application.ReadAction;
 import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.ProcessCanceledException;
 import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.psi.PsiFile;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.MultiDocumentExecutor;
 import com.redhat.devtools.intellij.qute.psi.internal.java.QuarkusIntegrationForQute;
 import org.eclipse.lsp4j.CodeLens;
 import org.eclipse.lsp4j.Diagnostic;
@@ -67,23 +70,24 @@ public class QuteSupportForJava {
 			return Collections.emptyList();
 		}
 
-		Module javaProject = QuteSupportForTemplate.getJavaProjectFromTemplateFile(uris.get(0), utils);
+		Module javaProject = ReadAction.compute(() -> QuteSupportForTemplate.getJavaProjectFromTemplateFile(uris.get(0), utils));
 		if (javaProject == null) {
 			return Collections.emptyList();
 		}
 
-		utils = utils.refine(javaProject);
-
-		List<PublishDiagnosticsParams> publishDiagnostics = new ArrayList<PublishDiagnosticsParams>();
-		for (String uri : uris) {
-			if (monitor.isCanceled()) {
-				return Collections.emptyList();
-			}
-			List<Diagnostic> diagnostics = new ArrayList<>();
-			PublishDiagnosticsParams publishDiagnostic = new PublishDiagnosticsParams(uri, diagnostics);
-			publishDiagnostics.add(publishDiagnostic);
-			PsiFile typeRoot = resolveTypeRoot(uri, utils, monitor);
-			QuarkusIntegrationForQute.diagnostics(typeRoot, diagnostics, utils, monitor);
+		IPsiUtils moduleUtils = utils.refine(javaProject);
+
+		// The diagnostics of each Java file are collected in parallel
+		List<PublishDiagnosticsParams> publishDiagnostics;
+		try {
+			publishDiagnostics = MultiDocumentExecutor.getInstance().computeAll(javaProject.getProject(), uris, uri -> {
+				List<Diagnostic> diagnostics = new ArrayList<>();
+				PsiFile typeRoot = resolveTypeRoot(uri, moduleUtils, monitor);
+				QuarkusIntegrationForQute.diagnostics(typeRoot, diagnostics, moduleUtils, monitor);
+				return new PublishDiagnosticsParams(uri, diagnostics);
+			}, monitor);
+		} catch (ProcessCanceledException e) {
+			return Collections.emptyList();
 		}
 		if (monitor.isCanceled()) {
 			return Collections.emptyList();
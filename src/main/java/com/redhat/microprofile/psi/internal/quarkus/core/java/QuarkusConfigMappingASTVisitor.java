@@ -45,6 +45,11 @@ public class QuarkusConfigMappingASTVisitor extends JavaASTValidator {
 		return PsiTypeUtils.findType(javaProject, QuarkusConstants.CONFIG_MAPPING_ANNOTATION) != null;
 	}
 
+	@Override
+	public boolean visitsChildren() {
+		return false;
+	}
+
 	@Override
 	public void visitClass(PsiClass node) {
 		for (PsiAnnotation annotation : node.getAnnotations()) {
@@ -45,6 +45,11 @@ public class QuarkusSchedulerASTVisitor extends JavaASTValidator {
 		return PsiTypeUtils.findType(javaProject, QuarkusConstants.SCHEDULED_ANNOTATION) != null;
 	}
 
+	@Override
+	public boolean visitsChildren() {
+		return false;
+	}
+
 	@Override
 	public void visitMethod(PsiMethod node) {
 		for (PsiAnnotation annotation : node.getAnnotations()) {
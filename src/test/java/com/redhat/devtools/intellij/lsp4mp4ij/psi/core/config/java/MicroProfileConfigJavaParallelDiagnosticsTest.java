@@ -0,0 +1,88 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.core.config.java;
+
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VfsUtil;
+import com.redhat.devtools.intellij.MavenModuleImportingTestCase;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.PropertiesManagerForJava;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsParams;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileForJavaAssert.fixURI;
+
+/**
+ * Test that the diagnostics of several Java files collected in parallel are the
+ * same as the diagnostics collected one by one, in the order of the files.
+ */
+public class MicroProfileConfigJavaParallelDiagnosticsTest extends MavenModuleImportingTestCase {
+
+	private static final int FILE_COUNT = 50;
+
+	@Test
+	public void testDiagnosticsOf50Files() throws Exception {
+		Module javaProject = createMavenModule(new File("projects/lsp4mp/projects/maven/config-quickstart"));
+		IPsiUtils utils = PsiUtilsLSImpl.getInstance(myProject);
+
+		File moduleDir = new File(ModuleUtilCore.getModuleDirPath(javaProject));
+		File packageDir = new File(moduleDir, "src/main/java/org/acme/config");
+		String content = new String(Files.readAllBytes(new File(packageDir, "DefaultValueResource.java").toPath()),
+				StandardCharsets.UTF_8);
+		List<String> uris = new ArrayList<>();
+		for (int i = 0; i < FILE_COUNT; i++) {
+			String className = "DefaultValueResource" + i;
+			File javaFile = new File(packageDir, className + ".java");
+			Files.write(javaFile.toPath(),
+					content.replace("class DefaultValueResource", "class " + className).getBytes(StandardCharsets.UTF_8));
+			uris.add(fixURI(javaFile.toURI()));
+		}
+		VfsUtil.markDirtyAndRefresh(false, true, true, LocalFileSystem.getInstance().refreshAndFindFileByIoFile(packageDir));
+
+		MicroProfileJavaDiagnosticsParams diagnosticsParams = new MicroProfileJavaDiagnosticsParams();
+		diagnosticsParams.setUris(uris);
+		diagnosticsParams.setDocumentFormat(DocumentFormat.Markdown);
+
+		// The test thread has read access, so the files are validated one by one
+		List<PublishDiagnosticsParams> serial = PropertiesManagerForJava.getInstance().diagnostics(diagnosticsParams,
+				utils, new EmptyProgressIndicator());
+
+		// From a pooled thread, the files are validated in parallel
+		List<PublishDiagnosticsParams> parallel = ApplicationManager.getApplication()
+				.executeOnPooledThread(() -> PropertiesManagerForJava.getInstance().diagnostics(diagnosticsParams,
+						utils, new EmptyProgressIndicator()))
+				.get(1, TimeUnit.MINUTES);
+
+		assertEquals(FILE_COUNT, parallel.size());
+		assertEquals(serial, parallel);
+		for (int i = 0; i < FILE_COUNT; i++) {
+			assertEquals(uris.get(i), parallel.get(i).getUri());
+			assertFalse(parallel.get(i).getDiagnostics().isEmpty());
+		}
+	}
+}
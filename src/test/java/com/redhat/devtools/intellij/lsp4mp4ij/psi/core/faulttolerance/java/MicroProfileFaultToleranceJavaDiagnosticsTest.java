@@ -13,13 +13,20 @@
 *******************************************************************************/
 package com.redhat.devtools.intellij.lsp4mp4ij.psi.core.faulttolerance.java;
 
+import com.intellij.openapi.application.ReadAction;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.search.GlobalSearchScope;
 import com.redhat.devtools.intellij.MavenModuleImportingTestCase;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.faulttolerance.java.FaultToleranceModel;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.faulttolerance.java.MicroProfileFaultToleranceErrorCode;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.faulttolerance.MicroProfileFaultToleranceConstants;
+import org.apache.commons.io.FileUtils;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4mp.commons.DocumentFormat;
@@ -27,11 +34,16 @@ import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsParams;
 import org.junit.Test;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileForJavaAssert.assertJavaDefinitions;
 import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileForJavaAssert.assertJavaDiagnostics;
 import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileForJavaAssert.d;
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileForJavaAssert.def;
 import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileForJavaAssert.fixURI;
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileForJavaAssert.p;
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileForJavaAssert.r;
 
 /**
  * MicroProfile Fault Tolerance definition in Java file.
@@ -373,4 +385,49 @@ public class MicroProfileFaultToleranceJavaDiagnosticsTest extends MavenModuleIm
 
 		assertJavaDiagnostics(diagnosticsParams, utils, d1, d2, d3, d4);
 	}
+
+	@Test
+	public void testFallbackModelComputedOnce() throws Exception {
+		Module module = createMavenModule(new File("projects/lsp4mp/projects/maven/microprofile-fault-tolerance"));
+		IPsiUtils utils = PsiUtilsLSImpl.getInstance(myProject);
+
+		StringBuilder content = new StringBuilder("package org.acme;\n\n");
+		content.append("import org.eclipse.microprofile.faulttolerance.Fallback;\n\n");
+		content.append("public class ManyFallbacksResource {\n");
+		for (int i = 0; i < 500; i++) {
+			content.append("    @Fallback(fallbackMethod = \"fallback").append(i).append("\")\n");
+			content.append("    public String method").append(i).append("() { return \"\"; }\n");
+			content.append("    public String fallback").append(i).append("() { return \"\"; }\n");
+		}
+		content.append("}\n");
+		File javaFile = new File(ModuleUtilCore.getModuleDirPath(module), "src/main/java/org/acme/ManyFallbacksResource.java");
+		FileUtils.write(javaFile, content, StandardCharsets.UTF_8);
+		LocalFileSystem.getInstance().refreshAndFindFileByIoFile(javaFile);
+		String javaFileUri = fixURI(javaFile.toURI());
+
+		FaultToleranceModel model = getFaultToleranceModel(module, "org.acme.ManyFallbacksResource");
+		assertEquals("fallback499", ReadAction.compute(() -> model.getFallbackTarget(model.getMethods("method499").get(0))));
+
+		// The 500 @Fallback methods are validated with the model of the class
+		MicroProfileJavaDiagnosticsParams diagnosticsParams = new MicroProfileJavaDiagnosticsParams();
+		diagnosticsParams.setUris(Arrays.asList(javaFileUri));
+		diagnosticsParams.setDocumentFormat(DocumentFormat.Markdown);
+		assertJavaDiagnostics(diagnosticsParams, utils);
+		assertJavaDiagnostics(diagnosticsParams, utils);
+
+		// @Fallback(fallbackMethod = "f|allback499") --> public String fallback499()
+		assertJavaDefinitions(p(1502, 33), javaFileUri, utils, //
+				def(r(1502, 32, 43), javaFileUri, r(1504, 18, 29)));
+
+		// The model has been computed once and is reused by all the validations and the definition
+		assertSame(model, getFaultToleranceModel(module, "org.acme.ManyFallbacksResource"));
+	}
+
+	private FaultToleranceModel getFaultToleranceModel(Module module, String className) {
+		return ReadAction.compute(() -> {
+			PsiClass type = JavaPsiFacade.getInstance(myProject).findClass(className, GlobalSearchScope.moduleScope(module));
+			assertNotNull(type);
+			return FaultToleranceModel.getModel(type);
+		});
+	}
 }
@@ -0,0 +1,87 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for the server availability monitor, with a local server socket
+ * standing for the dev server.
+ */
+public class ServerAvailabilityMonitorTest {
+
+	private static final String LOCALHOST = "localhost";
+
+	private ScheduledExecutorService executor;
+
+	private ServerAvailabilityMonitor monitor;
+
+	private final BlockingQueue<Boolean> changes = new LinkedBlockingQueue<>();
+
+	@Before
+	public void setUp() {
+		executor = Executors.newScheduledThreadPool(2);
+		monitor = new ServerAvailabilityMonitor(executor, 500, 20, 20, 100, 10000);
+		monitor.addListener((host, port, available) -> changes.add(available));
+	}
+
+	@After
+	public void tearDown() {
+		monitor.dispose();
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void serverStartedAndStopped() throws Exception {
+		int port;
+		try (ServerSocket server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+			port = server.getLocalPort();
+			// The state is unknown, the server is probed in the background
+			Assert.assertFalse(monitor.isAvailable(LOCALHOST, port));
+			Assert.assertEquals(Boolean.TRUE, changes.poll(5, TimeUnit.SECONDS));
+			Assert.assertTrue(monitor.isAvailable(LOCALHOST, port));
+			Assert.assertNull(changes.poll(100, TimeUnit.MILLISECONDS));
+		}
+		// The server is stopped
+		Assert.assertEquals(Boolean.FALSE, changes.poll(5, TimeUnit.SECONDS));
+		Assert.assertFalse(monitor.isAvailable(LOCALHOST, port));
+	}
+
+	@Test
+	public void serverDown() throws Exception {
+		int port;
+		try (ServerSocket server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+			port = server.getLocalPort();
+		}
+		long start = System.currentTimeMillis();
+		for (int i = 0; i < 100; i++) {
+			Assert.assertFalse(monitor.isAvailable(LOCALHOST, port));
+		}
+		// The state is read from the cache, without waiting for a connection
+		Assert.assertTrue(System.currentTimeMillis() - start < 500);
+		// No change is notified while the server stays down
+		Assert.assertNull(changes.poll(300, TimeUnit.MILLISECONDS));
+	}
+}
@@ -0,0 +1,64 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.java;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.redhat.devtools.intellij.MavenModuleImportingTestCase;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsEndpoint;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsEndpoints;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * JAX-RS endpoint index test.
+ */
+public class JaxRsEndpointIndexTest extends MavenModuleImportingTestCase {
+
+	@Test
+	public void testFileEndpoints() throws Exception {
+		Module javaProject = createMavenModule(new File("projects/lsp4mp/projects/maven/hibernate-orm-resteasy"));
+		VirtualFile javaFile = LocalFileSystem.getInstance().refreshAndFindFileByPath(ModuleUtilCore.getModuleDirPath(javaProject) + "/src/main/java/org/acme/hibernate/orm/FruitResource.java");
+
+		List<JaxRsEndpoint> endpoints = JaxRsEndpoints.getEndpoints(javaFile, myProject);
+		Assert.assertEquals(5, endpoints.size());
+		Assert.assertEquals("GET /fruits -> org.acme.hibernate.orm.FruitResource#get", endpoints.get(0).toString());
+		Assert.assertEquals("GET /fruits/{id} -> org.acme.hibernate.orm.FruitResource#getSingle", endpoints.get(1).toString());
+		Assert.assertEquals("POST /fruits -> org.acme.hibernate.orm.FruitResource#create", endpoints.get(2).toString());
+		Assert.assertEquals("PUT /fruits/{id} -> org.acme.hibernate.orm.FruitResource#update", endpoints.get(3).toString());
+		Assert.assertEquals("DELETE /fruits/{id} -> org.acme.hibernate.orm.FruitResource#delete", endpoints.get(4).toString());
+		Assert.assertEquals(Collections.singletonList("application/json"), endpoints.get(0).getProduces());
+		Assert.assertEquals(Collections.singletonList("application/json"), endpoints.get(2).getConsumes());
+	}
+
+	@Test
+	public void testFindEndpointsByURL() throws Exception {
+		Module javaProject = createMavenModule(new File("projects/lsp4mp/projects/maven/hibernate-orm-resteasy"));
+
+		String path = JaxRsEndpoints.toResourcePath("/api/fruits/12", "/api", null);
+		Assert.assertEquals("/fruits/12", path);
+		List<String> methods = JaxRsEndpoints.findEndpoints(path, myProject, javaProject.getModuleScope())
+				.stream().map(JaxRsEndpoint::getMethodName).sorted().collect(Collectors.toList());
+		Assert.assertEquals(List.of("delete", "getSingle", "update"), methods);
+
+		Assert.assertTrue(JaxRsEndpoints.findConflicts(myProject, javaProject.getModuleScope()).isEmpty());
+	}
+}
@@ -0,0 +1,43 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* https://www.eclipse.org/legal/epl-v20.html
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Tests for the merged snapshot of the config sources.
+ */
+public class ConfigSourcesSnapshotTest {
+
+	@Test
+	public void testMergeByOrdinal() {
+		ConfigSourcesSnapshot snapshot = new ConfigSourcesSnapshot(Arrays.asList(
+				new MapConfigSource("application.yaml", 255, "greeting.message", "yaml"),
+				new MapConfigSource("application.properties", 250, "greeting.message", "properties",
+						"%dev.greeting.message", "dev", "greeting.name", "quarkus")));
+
+		Assert.assertTrue(snapshot.hasProperty("greeting.message"));
+		Assert.assertTrue(snapshot.hasProperty("greeting.name"));
+		Assert.assertFalse(snapshot.hasProperty("greeting"));
+		Assert.assertFalse(snapshot.hasProperty("%dev.greeting.message"));
+
+		List<MicroProfileConfigPropertyInformation> infos = snapshot.getPropertyInformations("greeting.message");
+		Assert.assertEquals(Arrays.asList("%dev.greeting.message=dev@application.properties",
+				"greeting.message=yaml@application.yaml"),
+				infos.stream().map(info -> info.getPropertyNameWithProfile() + "=" + info.getValue() + "@"
+						+ info.getConfigFileName()).collect(Collectors.toList()));
+		Assert.assertTrue(snapshot.getPropertyInformations("unknown").isEmpty());
+	}
+}
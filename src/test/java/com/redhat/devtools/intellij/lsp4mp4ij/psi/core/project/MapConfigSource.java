@@ -0,0 +1,83 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* https://www.eclipse.org/legal/epl-v20.html
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-memory config source used by the config tests.
+ */
+class MapConfigSource implements IConfigSource {
+
+	private final String configFileName;
+
+	private final int ordinal;
+
+	private final Map<String, String> properties = new LinkedHashMap<>();
+
+	MapConfigSource(String configFileName, int ordinal, String... keyValues) {
+		this.configFileName = configFileName;
+		this.ordinal = ordinal;
+		for (int i = 0; i < keyValues.length; i += 2) {
+			properties.put(keyValues[i], keyValues[i + 1]);
+		}
+	}
+
+	@Override
+	public String getProperty(String key) {
+		return properties.get(key);
+	}
+
+	@Override
+	public Integer getPropertyAsInt(String key) {
+		return null;
+	}
+
+	@Override
+	public String getConfigFileName() {
+		return configFileName;
+	}
+
+	@Override
+	public String getSourceConfigFileURI() {
+		return "file:///" + configFileName;
+	}
+
+	@Override
+	public List<MicroProfileConfigPropertyInformation> getPropertyInformations(String propertyKey) {
+		Map<String, List<MicroProfileConfigPropertyInformation>> infos = new HashMap<>();
+		properties.forEach((key, value) -> infos
+				.computeIfAbsent(MicroProfileConfigPropertyInformation.getPropertyNameWithoutProfile(key),
+						k -> new ArrayList<>())
+				.add(new MicroProfileConfigPropertyInformation(key, value, getSourceConfigFileURI(),
+						configFileName)));
+		return infos.get(propertyKey);
+	}
+
+	@Override
+	public int getOrdinal() {
+		return ordinal;
+	}
+
+	@Override
+	public String getProfile() {
+		return null;
+	}
+
+	@Override
+	public Set<String> getAllKeys() {
+		return properties.keySet();
+	}
+}
@@ -0,0 +1,47 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* https://www.eclipse.org/legal/epl-v20.html
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Properties;
+
+/**
+ * Tests for the incremental properties document model.
+ */
+public class PropertiesDocumentModelTest {
+
+	@Test
+	public void testIncrementalUpdate() throws IOException {
+		PropertiesDocumentModel model = new PropertiesDocumentModel();
+		assertUpdate(model, "# comment\ngreeting.message=hello\ngreeting.name=quarkus\n");
+		assertUpdate(model, "# comment\ngreeting.message=bonjour\ngreeting.name=quarkus\n");
+		assertUpdate(model, "# comment\ngreeting.message=bonjour\nnew.key=value\ngreeting.name=quarkus\n");
+		assertUpdate(model, "greeting.message=bonjour\ngreeting.name=quarkus\n");
+		assertUpdate(model, "");
+	}
+
+	@Test
+	public void testContinuationAndDuplicateKeys() throws IOException {
+		PropertiesDocumentModel model = new PropertiesDocumentModel();
+		assertUpdate(model, "key=a\\\n   b\nkey=c\r\n# comment \\\nother=d");
+		assertUpdate(model, "key=a\\\n   b\nkex=c\r\n# comment \\\nother=d");
+		assertUpdate(model, "key=a\\\\\nb=\\u0041\n");
+	}
+
+	private static void assertUpdate(PropertiesDocumentModel model, String content) throws IOException {
+		Properties expected = new Properties();
+		expected.load(new StringReader(content));
+		Assert.assertEquals(expected, model.update(content));
+	}
+}
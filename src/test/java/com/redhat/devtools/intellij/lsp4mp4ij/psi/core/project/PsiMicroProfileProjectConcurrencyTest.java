@@ -0,0 +1,127 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* https://www.eclipse.org/legal/epl-v20.html
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stress test of the caches of {@link PsiMicroProfileProject} with concurrent
+ * reads and evictions.
+ */
+public class PsiMicroProfileProjectConcurrencyTest {
+
+	private static final int THREADS = 8;
+
+	/**
+	 * Project whose config sources contain the current generation as value of the
+	 * "generation" property.
+	 */
+	private static class CountingProject extends PsiMicroProfileProject {
+
+		private final AtomicInteger generation = new AtomicInteger();
+
+		private final AtomicInteger loads = new AtomicInteger();
+
+		CountingProject() {
+			super(null);
+		}
+
+		@Override
+		List<IConfigSource> loadConfigSources() {
+			loads.incrementAndGet();
+			List<IConfigSource> configSources = new ArrayList<>();
+			configSources.add(new MapConfigSource("application.properties", 250, "generation",
+					String.valueOf(generation.get()), "greeting.message", "hello"));
+			return configSources;
+		}
+	}
+
+	@Test
+	public void testConcurrentReadsLoadOnce() throws Exception {
+		CountingProject project = new CountingProject();
+		List<Boolean> results = runConcurrently(THREADS, () -> {
+			for (int i = 0; i < 1000; i++) {
+				if (!project.hasProperty("greeting.message")
+						|| !"hello".equals(project.getProperty("greeting.message"))) {
+					return false;
+				}
+			}
+			return true;
+		});
+		Assert.assertFalse(results.contains(false));
+		Assert.assertEquals(1, project.loads.get());
+	}
+
+	@Test
+	public void testConcurrentReadsAndEvictions() throws Exception {
+		CountingProject project = new CountingProject();
+		int evictions = 500;
+		AtomicInteger running = new AtomicInteger(THREADS);
+		List<Boolean> results = runConcurrently(THREADS + 1, () -> {
+			if (running.getAndDecrement() == 0) {
+				// Evictor
+				for (int i = 0; i < evictions; i++) {
+					project.generation.incrementAndGet();
+					project.evictConfigSourcesCache();
+					Thread.yield();
+				}
+				return true;
+			}
+			// Readers
+			for (int i = 0; i < 2000; i++) {
+				String generation = project.getProperty("generation");
+				if (generation == null || !project.hasProperty("greeting.message")) {
+					return false;
+				}
+			}
+			return true;
+		});
+		Assert.assertFalse(results.contains(false));
+		// No lost update: the last eviction is visible
+		Assert.assertEquals(String.valueOf(evictions), project.getProperty("generation"));
+		// No double load: at most one load per eviction, plus the first one
+		Assert.assertTrue("Too many loads: " + project.loads.get(), project.loads.get() <= evictions + 1);
+	}
+
+	private static List<Boolean> runConcurrently(int threads, Callable<Boolean> task)
+			throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			CountDownLatch start = new CountDownLatch(1);
+			List<Future<Boolean>> futures = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					return task.call();
+				}));
+			}
+			start.countDown();
+			List<Boolean> results = new ArrayList<>();
+			for (Future<Boolean> future : futures) {
+				results.add(future.get(30, TimeUnit.SECONDS));
+			}
+			return Collections.unmodifiableList(results);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,152 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.java.validators;
+
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiFileFactory;
+import com.intellij.psi.PsiMethod;
+import com.intellij.testFramework.fixtures.IdeaProjectTestFixture;
+import com.intellij.testFramework.fixtures.IdeaTestFixtureFactory;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsContext;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.validators.JavaASTValidator;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.Range;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test of the single traversal of the AST shared by the validators.
+ */
+public class MultiASTVisitorTest {
+
+	private static final String SOURCE = "public class Sample {\n" + //
+			"  void a() {\n" + //
+			"    new Runnable() { public void run() {} };\n" + //
+			"    class Local { void local() {} }\n" + //
+			"  }\n" + //
+			"  class Inner { void b() {} }\n" + //
+			"}\n";
+
+	private static IdeaProjectTestFixture fixture;
+
+	@BeforeClass
+	public static void init() throws Exception {
+		fixture = IdeaTestFixtureFactory.getFixtureFactory().createLightFixtureBuilder().getFixture();
+		fixture.setUp();
+	}
+
+	@AfterClass
+	public static void tearDown() throws Exception {
+		fixture.tearDown();
+	}
+
+	/**
+	 * A validator which visits the children itself, as before the shared
+	 * traversal.
+	 */
+	private static class RecursiveValidator extends JavaASTValidator {
+
+		protected final List<String> visits = new ArrayList<>();
+
+		protected List<Diagnostic> diagnostics;
+
+		@Override
+		public void initialize(JavaDiagnosticsContext context, List<Diagnostic> diagnostics) {
+			super.initialize(context, diagnostics);
+			this.diagnostics = diagnostics;
+		}
+
+		@Override
+		public void visitClass(PsiClass node) {
+			visits.add("class " + node.getName());
+			node.acceptChildren(this);
+		}
+
+		@Override
+		public void visitMethod(PsiMethod node) {
+			visits.add("method " + node.getName());
+			diagnostics.add(new Diagnostic(new Range(), "recursive " + node.getName()));
+			super.visitMethod(node);
+		}
+	}
+
+	/**
+	 * A validator which relies on the shared traversal.
+	 */
+	private static class NodeValidator extends RecursiveValidator {
+
+		@Override
+		public boolean visitsChildren() {
+			return false;
+		}
+
+		@Override
+		public void visitClass(PsiClass node) {
+			visits.add("class " + node.getName());
+		}
+
+		@Override
+		public void visitMethod(PsiMethod node) {
+			visits.add("method " + node.getName());
+			diagnostics.add(new Diagnostic(new Range(), "node " + node.getName()));
+		}
+
+		@Override
+		public void endVisitClass(PsiClass node) {
+			visits.add("end " + node.getName());
+		}
+	}
+
+	@Test
+	public void recursiveAndNodeValidators() {
+		RecursiveValidator recursive = new RecursiveValidator();
+		NodeValidator node = new NodeValidator();
+		Map<JavaASTValidator, List<Diagnostic>> validators = new LinkedHashMap<>();
+		for (JavaASTValidator validator : Arrays.asList(recursive, node)) {
+			List<Diagnostic> validatorDiagnostics = new ArrayList<>();
+			validator.initialize(null, validatorDiagnostics);
+			validators.put(validator, validatorDiagnostics);
+		}
+		List<Diagnostic> diagnostics = new ArrayList<>();
+		ReadAction.run(() -> {
+			PsiFile file = PsiFileFactory.getInstance(fixture.getProject()).createFileFromText("Sample.java",
+					JavaFileType.INSTANCE, SOURCE);
+			file.accept(new MultiASTVisitor(validators, diagnostics));
+		});
+
+		// The recursive validator is given the top-level class only and visits each
+		// node one time
+		assertEquals(Arrays.asList("class Sample", "method a", "class null", "method run", "class Local",
+				"method local", "class Inner", "method b"), recursive.visits);
+		// The anonymous and local classes are not given to the other validators
+		assertEquals(Arrays.asList("class Sample", "method a", "class Inner", "method b", "end Inner", "end Sample"),
+				node.visits);
+		// The diagnostics are grouped by validator
+		assertEquals(Arrays.asList("recursive a", "recursive run", "recursive local", "recursive b", "node a", "node b"),
+				diagnostics.stream().map(Diagnostic::getMessage).collect(Collectors.toList()));
+	}
+}
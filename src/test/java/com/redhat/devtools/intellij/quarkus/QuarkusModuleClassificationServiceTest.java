@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.intellij.quarkus;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.redhat.devtools.intellij.MavenModuleImportingTestCase;
+import com.redhat.devtools.intellij.quarkus.QuarkusModuleClassificationService.ModuleKind;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.Set;
+
+/**
+ * Quarkus module classification test
+ */
+public class QuarkusModuleClassificationServiceTest extends MavenModuleImportingTestCase {
+
+	@Test
+	public void testQuarkusModuleKinds() throws Exception {
+		Module module = createMavenModule(new File("projects/maven/config-quickstart"));
+		Set<ModuleKind> kinds = QuarkusModuleClassificationService.getInstance(myProject).getKinds(module);
+		assertTrue(kinds.contains(ModuleKind.QUARKUS));
+		assertTrue(kinds.contains(ModuleKind.QUARKUS_FACET));
+		assertTrue(QuarkusModuleUtil.isQuarkusModule(module));
+	}
+
+	@Test
+	public void testQuarkusYAMLFile() throws Exception {
+		Module module = createMavenModule(new File("projects/maven/hibernate-orm-resteasy-yaml"));
+		VirtualFile file = LocalFileSystem.getInstance().refreshAndFindFileByIoFile(
+				new File(QuarkusModuleUtil.getModuleDirPath(module).getPath(), "src/main/resources/application.yaml"));
+		assertNotNull(file);
+		assertEquals(module, QuarkusModuleClassificationService.getInstance(myProject).getModule(file));
+		assertTrue(QuarkusModuleUtil.isQuarkusYAMLFile(file, myProject));
+	}
+}
@@ -0,0 +1,216 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.intellij.quarkus;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class QuarkusModuleSchedulerTest {
+
+    @Test
+    public void testUrgentModulesFirst() throws Exception {
+        ExecutorService executor = QuarkusModuleScheduler.createExecutor("test", 1);
+        try {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch blocker = new CountDownLatch(1);
+            List<String> processed = new CopyOnWriteArrayList<>();
+            QuarkusModuleScheduler<String> scheduler = new QuarkusModuleScheduler<>(executor, module -> {
+                if (module.equals("first")) {
+                    started.countDown();
+                    await(blocker);
+                }
+                processed.add(module);
+            }, module -> module.startsWith("open"));
+            CompletableFuture<Void> first = scheduler.schedule("first");
+            // The only worker is busy, the next modules are queued
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            CompletableFuture<?>[] futures = {
+                    scheduler.schedule("a"), scheduler.schedule("open1"), scheduler.schedule("b"), scheduler.schedule("open2")
+            };
+            assertEquals(4, scheduler.getQueueLength());
+            blocker.countDown();
+            first.get(10, TimeUnit.SECONDS);
+            CompletableFuture.allOf(futures).get(10, TimeUnit.SECONDS);
+            assertEquals(Arrays.asList("first", "open1", "open2", "a", "b"), processed);
+            assertEquals(0, scheduler.getQueueLength());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testConcurrentRequestsAreDeduplicated() throws Exception {
+        ExecutorService executor = QuarkusModuleScheduler.createExecutor("test", 2);
+        try {
+            CountDownLatch blocker = new CountDownLatch(1);
+            AtomicInteger count = new AtomicInteger();
+            QuarkusModuleScheduler<String> scheduler = new QuarkusModuleScheduler<>(executor, module -> {
+                count.incrementAndGet();
+                await(blocker);
+            }, module -> false);
+            CompletableFuture<Void> future = scheduler.schedule("module");
+            assertSame(future, scheduler.schedule("module"));
+            assertEquals(-1, scheduler.getCompletionTime("module"));
+            blocker.countDown();
+            future.get(10, TimeUnit.SECONDS);
+            assertEquals(1, count.get());
+            assertTrue(scheduler.getCompletionTime("module") >= 0);
+            scheduler.schedule("module").get(10, TimeUnit.SECONDS);
+            assertEquals(2, count.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFailureCompletesFuture() throws Exception {
+        ExecutorService executor = QuarkusModuleScheduler.createExecutor("test", 1);
+        try {
+            QuarkusModuleScheduler<String> scheduler = new QuarkusModuleScheduler<>(executor, module -> {
+                throw new IllegalStateException(module);
+            }, module -> false);
+            CompletableFuture<Void> future = scheduler.schedule("module");
+            try {
+                future.get(10, TimeUnit.SECONDS);
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof IllegalStateException);
+            }
+            assertTrue(future.isCompletedExceptionally());
+            // The worker is still available
+            AtomicInteger count = new AtomicInteger();
+            new QuarkusModuleScheduler<String>(executor, module -> count.incrementAndGet(), module -> false)
+                    .schedule("other").get(10, TimeUnit.SECONDS);
+            assertEquals(1, count.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFlushedOnceForQueuedModules() throws Exception {
+        ExecutorService executor = QuarkusModuleScheduler.createExecutor("test", 2);
+        try {
+            CountDownLatch blocker = new CountDownLatch(1);
+            List<String> processed = new CopyOnWriteArrayList<>();
+            List<List<String>> batches = new CopyOnWriteArrayList<>();
+            QuarkusModuleScheduler<String> scheduler = new QuarkusModuleScheduler<>(executor, module -> {
+                await(blocker);
+                processed.add(module);
+            }, module -> false, () -> flush(processed, batches));
+            CompletableFuture<?>[] futures = {
+                    scheduler.schedule("a"), scheduler.schedule("b"), scheduler.schedule("c")
+            };
+            blocker.countDown();
+            CompletableFuture.allOf(futures).get(10, TimeUnit.SECONDS);
+            // The futures are completed once the modules have been flushed
+            assertEquals(1, batches.size());
+            assertEquals(Arrays.asList("a", "b", "c"), batches.get(0).stream().sorted().collect(Collectors.toList()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testUrgentModuleFlushedFirst() throws Exception {
+        ExecutorService executor = QuarkusModuleScheduler.createExecutor("test", 1);
+        try {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch blocker = new CountDownLatch(1);
+            List<String> processed = new CopyOnWriteArrayList<>();
+            List<List<String>> batches = new CopyOnWriteArrayList<>();
+            QuarkusModuleScheduler<String> scheduler = new QuarkusModuleScheduler<>(executor, module -> {
+                if (module.equals("first")) {
+                    started.countDown();
+                    await(blocker);
+                }
+                processed.add(module);
+            }, module -> module.startsWith("open"), () -> flush(processed, batches));
+            CompletableFuture<Void> first = scheduler.schedule("first");
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            CompletableFuture<Void> a = scheduler.schedule("a");
+            CompletableFuture<Void> open = scheduler.schedule("open1");
+            CompletableFuture<Void> b = scheduler.schedule("b");
+            blocker.countDown();
+            CompletableFuture.allOf(first, a, open, b).get(10, TimeUnit.SECONDS);
+            // The urgent module doesn't wait for the other modules to be flushed
+            assertEquals(Arrays.asList(Arrays.asList("first", "open1"), Arrays.asList("a", "b")), batches);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFlushedByBatch() throws Exception {
+        ExecutorService executor = QuarkusModuleScheduler.createExecutor("test", 1);
+        try {
+            CountDownLatch blocker = new CountDownLatch(1);
+            List<String> processed = new CopyOnWriteArrayList<>();
+            List<List<String>> batches = new CopyOnWriteArrayList<>();
+            QuarkusModuleScheduler<String> scheduler = new QuarkusModuleScheduler<>(executor, module -> {
+                await(blocker);
+                processed.add(module);
+            }, module -> false, () -> flush(processed, batches));
+            int count = QuarkusModuleScheduler.MAX_BATCH_SIZE + 4;
+            CompletableFuture<?>[] futures = new CompletableFuture<?>[count];
+            for (int i = 0; i < count; i++) {
+                futures[i] = scheduler.schedule("module" + i);
+            }
+            blocker.countDown();
+            CompletableFuture.allOf(futures).get(10, TimeUnit.SECONDS);
+            // The modules are flushed even if the queue is never empty
+            assertEquals(2, batches.size());
+            assertEquals(QuarkusModuleScheduler.MAX_BATCH_SIZE, batches.get(0).size());
+            assertEquals(4, batches.get(1).size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testScheduleAfterShutdown() {
+        ExecutorService executor = QuarkusModuleScheduler.createExecutor("test", 1);
+        executor.shutdown();
+        QuarkusModuleScheduler<String> scheduler = new QuarkusModuleScheduler<>(executor, module -> {}, module -> false);
+        CompletableFuture<Void> future = scheduler.schedule("module");
+        assertTrue(future.isCancelled());
+        assertEquals(0, scheduler.getQueueLength());
+        assertNotSame(future, scheduler.schedule("module"));
+    }
+
+    private static void flush(List<String> processed, List<List<String>> batches) {
+        batches.add(new ArrayList<>(processed));
+        processed.clear();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -9,6 +9,7 @@
 *******************************************************************************/
 package com.redhat.devtools.intellij.quarkus.completion;
 
+import com.intellij.openapi.application.impl.NonBlockingReadActionImpl;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.module.ModuleUtilCore;
 import com.intellij.testFramework.fixtures.CodeInsightTestFixture;
@@ -37,6 +38,7 @@ public class MavenApplicationYamlCompletionTest extends MavenModuleImportingTest
 		((CodeInsightTestFixture)myTestFixture).setTestDataPath(ModuleUtilCore.getModuleDirPath(module));
 		((CodeInsightTestFixture)myTestFixture).configureByFile("src/main/resources/application.yaml");
 		QuarkusProjectService.getInstance(module.getProject()).getSchema(module);
+		NonBlockingReadActionImpl.waitForAsyncTaskCompletion();
 		UIUtil.dispatchAllInvocationEvents();
 		((CodeInsightTestFixture)myTestFixture).checkHighlighting();
 	}
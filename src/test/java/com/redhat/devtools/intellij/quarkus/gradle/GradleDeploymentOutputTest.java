@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.intellij.quarkus.gradle;
+
+import com.redhat.devtools.intellij.quarkus.tool.DeploymentResolutionCache.ResolvedArtifact;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Test the parsing of the output of the Gradle task resolving the deployment JARs of several projects.
+ */
+public class GradleDeploymentOutputTest {
+
+    @Test
+    public void testParseSeveralProjects() throws IOException {
+        String output = "#key1\n" +
+                "io.quarkus:quarkus-arc-deployment:1.0\n" +
+                "/repo/quarkus-arc-deployment-1.0.jar\n" +
+                "io.quarkus:quarkus-arc-deployment:1.0\n" +
+                "/repo/quarkus-arc-deployment-1.0-sources.jar\n" +
+                "#key2\n" +
+                "io.quarkus:quarkus-resteasy-deployment:1.0\n" +
+                "/repo/quarkus-resteasy-deployment-1.0.jar\n";
+        Map<String, List<ResolvedArtifact>> result = AbstractGradleToolDelegate.parseDependencies(new BufferedReader(new StringReader(output)));
+        assertEquals(2, result.size());
+        List<ResolvedArtifact> artifacts = result.get("key1");
+        assertEquals(2, artifacts.size());
+        assertEquals("quarkus-arc-deployment", artifacts.get(0).getArtifactId());
+        assertNull(artifacts.get(0).getClassifier());
+        assertEquals("sources", artifacts.get(1).getClassifier());
+        assertEquals("/repo/quarkus-resteasy-deployment-1.0.jar", result.get("key2").get(0).getFile());
+    }
+}
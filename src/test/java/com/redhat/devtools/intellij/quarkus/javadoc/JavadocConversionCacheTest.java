@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.intellij.quarkus.javadoc;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests of the Javadoc conversion cache.
+ */
+public class JavadocConversionCacheTest {
+
+    private static final String QUARKUS_JAVADOC = "/**\n" +
+            "     * The HTTP port.\n" +
+            "     * <p>\n" +
+            "     * If set to {@code 0}, a random port is used. See {@link #sslPort} for\n" +
+            "     * the <b>HTTPS</b> port and <a href=\"https://quarkus.io/guides/http-reference\">the guide</a>.\n" +
+            "     * <ul>\n" +
+            "     * <li>{@literal quarkus.http.port=8080}</li>\n" +
+            "     * <li>{@literal quarkus.http.test-port=8081}</li>\n" +
+            "     * </ul>\n" +
+            "     *\n" +
+            "     * @see io.quarkus.vertx.http.runtime.HttpConfiguration\n" +
+            "     */";
+
+    @Test
+    public void sameResultAsConverters() throws IOException {
+        JavadocConversionCache cache = new JavadocConversionCache(10);
+        Assert.assertEquals(markdown(QUARKUS_JAVADOC), cache.toMarkdown(QUARKUS_JAVADOC));
+        Assert.assertEquals(plainText(QUARKUS_JAVADOC), cache.toPlainText(QUARKUS_JAVADOC));
+        // Second lookups are cache hits
+        Assert.assertSame(cache.toMarkdown(QUARKUS_JAVADOC), cache.toMarkdown(QUARKUS_JAVADOC));
+        Assert.assertSame(cache.toPlainText(QUARKUS_JAVADOC), cache.toPlainText(QUARKUS_JAVADOC));
+    }
+
+    @Test
+    public void bounded() throws IOException {
+        JavadocConversionCache cache = new JavadocConversionCache(2);
+        String first = cache.toMarkdown("/** First */");
+        String second = cache.toMarkdown("/** Second */");
+        Assert.assertSame(first, cache.toMarkdown("/** First */"));
+        cache.toMarkdown("/** Third */");
+        // "Second" is the least recently used entry and has been evicted, it is converted again
+        String converted = cache.toMarkdown("/** Second */");
+        Assert.assertNotSame(second, converted);
+        Assert.assertEquals(second, converted);
+    }
+
+    @Test
+    public void repeatedConversionsHitTheCache() throws IOException {
+        AtomicInteger markdownConversions = new AtomicInteger();
+        AtomicInteger plainTextConversions = new AtomicInteger();
+        JavadocConversionCache cache = new JavadocConversionCache(1000, text -> {
+            markdownConversions.incrementAndGet();
+            return new JavaDoc2MarkdownConverter(new JavaDocCommentReader(text));
+        }, text -> {
+            plainTextConversions.incrementAndGet();
+            return new JavaDoc2PlainTextConverter(new JavaDocCommentReader(text));
+        });
+
+        // 200 distinct Javadoc, each one converted 50 times like the fields of the
+        // config roots shared by several modules
+        List<String> javadocs = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            javadocs.add(QUARKUS_JAVADOC.replace("HTTP port", "HTTP port " + i));
+        }
+        for (int i = 0; i < 50; i++) {
+            for (String javadoc : javadocs) {
+                cache.toMarkdown(javadoc);
+                cache.toPlainText(javadoc);
+            }
+        }
+
+        // Each Javadoc is converted once per format
+        Assert.assertEquals(200, markdownConversions.get());
+        Assert.assertEquals(200, plainTextConversions.get());
+        for (String javadoc : javadocs) {
+            Assert.assertEquals(markdown(javadoc), cache.toMarkdown(javadoc));
+            Assert.assertEquals(plainText(javadoc), cache.toPlainText(javadoc));
+        }
+        Assert.assertEquals(200, markdownConversions.get());
+        Assert.assertEquals(200, plainTextConversions.get());
+    }
+
+    private static String markdown(String javadoc) throws IOException {
+        return new JavaDoc2MarkdownConverter(new JavaDocCommentReader(javadoc)).getAsString();
+    }
+
+    private static String plainText(String javadoc) throws IOException {
+        return new JavaDoc2PlainTextConverter(new JavaDocCommentReader(javadoc)).getAsString();
+    }
+}
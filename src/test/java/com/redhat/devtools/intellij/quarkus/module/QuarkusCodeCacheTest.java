@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.intellij.quarkus.module;
+
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.testFramework.fixtures.CodeInsightTestFixture;
+import com.intellij.testFramework.fixtures.IdeaProjectTestFixture;
+import com.intellij.testFramework.fixtures.IdeaTestFixtureFactory;
+import com.intellij.testFramework.fixtures.TestFixtureBuilder;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test the code.quarkus.io response cache against a local HTTP server.
+ */
+public class QuarkusCodeCacheTest {
+    private static CodeInsightTestFixture myFixture;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private HttpServer server;
+
+    private volatile String body = "[\"v1\"]";
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private final AtomicInteger notModified = new AtomicInteger();
+
+    @BeforeClass
+    public static void init() throws Exception {
+        IdeaTestFixtureFactory factory = IdeaTestFixtureFactory.getFixtureFactory();
+        TestFixtureBuilder<IdeaProjectTestFixture> fixtureBuilder = factory.createLightFixtureBuilder();
+        IdeaProjectTestFixture fixture = fixtureBuilder.getFixture();
+
+        myFixture = IdeaTestFixtureFactory.getFixtureFactory().createCodeInsightFixture(fixture);
+        myFixture.setUp();
+    }
+
+    @AfterClass
+    public static void tearDown() throws Exception {
+        myFixture.tearDown();
+    }
+
+    @Before
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/streams", exchange -> {
+            requests.incrementAndGet();
+            String etag = '"' + Integer.toString(body.hashCode()) + '"';
+            exchange.getResponseHeaders().add("ETag", etag);
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModified.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+            } else {
+                byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, bytes.length);
+                try (OutputStream stream = exchange.getResponseBody()) {
+                    stream.write(bytes);
+                }
+            }
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @After
+    public void stopServer() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    private String getURL() {
+        return "http://localhost:" + server.getAddress().getPort() + "/api/streams";
+    }
+
+    @Test
+    public void testCachedResponseIsRevalidated() throws IOException {
+        // Revalidation runs in the calling thread
+        QuarkusCodeCache cache = new QuarkusCodeCache(temporaryFolder.getRoot().toPath(), Runnable::run, "test");
+        assertEquals("[\"v1\"]", cache.get(getURL(), new EmptyProgressIndicator()));
+        assertEquals(1, requests.get());
+
+        assertEquals("[\"v1\"]", cache.get(getURL(), new EmptyProgressIndicator()));
+        assertEquals(2, requests.get());
+        assertEquals(1, notModified.get());
+
+        // The new response is returned once revalidated
+        body = "[\"v2\"]";
+        assertEquals("[\"v1\"]", cache.get(getURL(), new EmptyProgressIndicator()));
+        assertEquals("[\"v2\"]", cache.get(getURL(), new EmptyProgressIndicator()));
+    }
+
+    @Test
+    public void testCachedResponseIsAvailableOffline() throws IOException {
+        String url = getURL();
+        QuarkusCodeCache cache = new QuarkusCodeCache(temporaryFolder.getRoot().toPath(), Runnable::run, "test");
+        assertEquals("[\"v1\"]", cache.get(url, new EmptyProgressIndicator()));
+        server.stop(0);
+        server = null;
+
+        assertEquals("[\"v1\"]", new QuarkusCodeCache(temporaryFolder.getRoot().toPath(), Runnable::run, "test").get(url, new EmptyProgressIndicator()));
+    }
+
+    @Test(expected = IOException.class)
+    public void testNotCachedResponseIsNotAvailableOffline() throws IOException {
+        String url = getURL();
+        server.stop(0);
+        server = null;
+        new QuarkusCodeCache(temporaryFolder.getRoot().toPath(), Runnable::run, "test").get(url, new EmptyProgressIndicator());
+    }
+}
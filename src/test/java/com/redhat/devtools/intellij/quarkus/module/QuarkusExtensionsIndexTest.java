@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.intellij.quarkus.module;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class QuarkusExtensionsIndexTest {
+
+    private final QuarkusExtension resteasy = createExtension("io.quarkus:quarkus-resteasy", "RESTEasy JAX-RS", "Web",
+            "REST endpoint framework implementing JAX-RS and more", "rest", "jaxrs");
+    private final QuarkusExtension postgresql = createExtension("io.quarkus:quarkus-jdbc-postgresql", "JDBC Driver - PostgreSQL", "Data",
+            "Connect to the PostgreSQL database via JDBC", "jdbc", "database");
+    private final QuarkusExtension kafka = createExtension("io.quarkus:quarkus-smallrye-reactive-messaging-kafka", "SmallRye Reactive Messaging - Kafka Connector", "Messaging",
+            "Connect to Kafka with Reactive Messaging", "kafka", "reactive");
+
+    private final QuarkusExtensionsIndex index = new QuarkusExtensionsIndex(Arrays.asList(
+            createCategory("Web", resteasy), createCategory("Data", postgresql), createCategory("Messaging", kafka)));
+
+    @Test
+    public void testEmptyQueryMatchesAll() {
+        assertEquals(3, index.search(" ").size());
+    }
+
+    @Test
+    public void testPrefixAndSubstring() {
+        assertEquals(Collections.singleton(resteasy), index.search("resteas").keySet());
+        // "sql" is not a word of the name, but a part of it
+        assertEquals(Collections.singleton(postgresql), index.search("sql").keySet());
+    }
+
+    @Test
+    public void testTypos() {
+        assertEquals(Collections.singleton(kafka), index.search("kafak").keySet());
+        assertEquals(Collections.singleton(postgresql), index.search("postgersql").keySet());
+    }
+
+    @Test
+    public void testAllTermsMustMatch() {
+        assertEquals(Collections.singleton(kafka), index.search("reactive kafka").keySet());
+        assertTrue(index.search("reactive postgresql").isEmpty());
+    }
+
+    @Test
+    public void testNameMatchesRankFirst() {
+        // "connect" is in the name of the Kafka extension and in the description of the PostgreSQL one
+        Map<QuarkusExtension, Integer> scores = index.search("connect");
+        assertTrue(scores.get(kafka) > scores.get(postgresql));
+        assertFalse(scores.containsKey(resteasy));
+    }
+
+    private static QuarkusCategory createCategory(String name, QuarkusExtension... extensions) {
+        QuarkusCategory category = new QuarkusCategory(name);
+        category.setExtensions(new ArrayList<>(Arrays.asList(extensions)));
+        return category;
+    }
+
+    private static QuarkusExtension createExtension(String id, String name, String category, String description, String... labels) {
+        QuarkusExtension extension = new QuarkusExtension();
+        extension.setId(id);
+        extension.setName(name);
+        extension.setCategory(category);
+        extension.setDescription(description);
+        List<String> list = new ArrayList<>(Arrays.asList(labels));
+        extension.setLabels(list);
+        return extension;
+    }
+}
@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.intellij.quarkus.module;
+
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.testFramework.fixtures.CodeInsightTestFixture;
+import com.intellij.testFramework.fixtures.IdeaProjectTestFixture;
+import com.intellij.testFramework.fixtures.IdeaTestFixtureFactory;
+import com.intellij.testFramework.fixtures.TestFixtureBuilder;
+import com.intellij.util.io.HttpRequests;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.zeroturnaround.zip.ZipUtil;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the extraction of the generated projects against a local endpoint serving a large project.
+ */
+public class QuarkusProjectUnpackerTest {
+    private static final int FILE_COUNT = 3000;
+
+    private static final int LARGE_FILE_SIZE = 3 * 1024 * 1024;
+
+    private static CodeInsightTestFixture myFixture;
+
+    private static byte[] project;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private HttpServer server;
+
+    @BeforeClass
+    public static void init() throws Exception {
+        IdeaTestFixtureFactory factory = IdeaTestFixtureFactory.getFixtureFactory();
+        TestFixtureBuilder<IdeaProjectTestFixture> fixtureBuilder = factory.createLightFixtureBuilder();
+        IdeaProjectTestFixture fixture = fixtureBuilder.getFixture();
+
+        myFixture = IdeaTestFixtureFactory.getFixtureFactory().createCodeInsightFixture(fixture);
+        myFixture.setUp();
+        project = createProject();
+    }
+
+    @AfterClass
+    public static void tearDown() throws Exception {
+        myFixture.tearDown();
+    }
+
+    private static byte[] createProject() throws IOException {
+        Random random = new Random(0);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            zip.putNextEntry(new ZipEntry("code-with-quarkus/"));
+            zip.putNextEntry(new ZipEntry("code-with-quarkus/pom.xml"));
+            zip.write("<project/>".getBytes());
+            for (int i = 0; i < FILE_COUNT; i++) {
+                zip.putNextEntry(new ZipEntry("code-with-quarkus/src/main/java/org/acme/p" + (i % 50) + "/Resource" + i + ".java"));
+                byte[] content = new byte[1024 + random.nextInt(8 * 1024)];
+                random.nextBytes(content);
+                zip.write(content);
+            }
+            zip.putNextEntry(new ZipEntry("code-with-quarkus/.mvn/wrapper/maven-wrapper.jar"));
+            byte[] content = new byte[LARGE_FILE_SIZE];
+            random.nextBytes(content);
+            zip.write(content);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Before
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/download", exchange -> {
+            try (InputStream request = exchange.getRequestBody()) {
+                request.readAllBytes();
+            }
+            exchange.sendResponseHeaders(200, project.length);
+            try (OutputStream stream = exchange.getResponseBody()) {
+                stream.write(project);
+            }
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @After
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    private String getEndpoint() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    private void checkProject(File folder) throws IOException {
+        assertTrue(new File(folder, "pom.xml").exists());
+        assertTrue(new File(folder, "src/main/java/org/acme/p0/Resource0.java").exists());
+        assertTrue(new File(folder, "src/main/java/org/acme/p49/Resource" + (FILE_COUNT - 1) + ".java").exists());
+        assertEquals(LARGE_FILE_SIZE, Files.size(new File(folder, ".mvn/wrapper/maven-wrapper.jar").toPath()));
+        assertFalse(new File(folder, "code-with-quarkus").exists());
+    }
+
+    @Test
+    public void testStreamingUnpack() throws IOException {
+        File folder = temporaryFolder.newFolder();
+        List<Path> paths = QuarkusModelRegistry.zip(getEndpoint(), "MAVEN", "org.acme", "code-with-quarkus",
+                "1.0.0-SNAPSHOT", "org.acme.ExampleResource", "/example",
+                new QuarkusExtensionsModel("io.quarkus.platform:3.0", new ArrayList<>()), folder, true);
+        checkProject(folder);
+        assertTrue(paths.contains(folder.toPath().resolve("pom.xml").toAbsolutePath()));
+        assertEquals(FILE_COUNT + 2, paths.stream().filter(Files::isRegularFile).count());
+    }
+
+    @Test
+    public void testSameContentAsZipUtil() throws IOException {
+        File expected = temporaryFolder.newFolder();
+        HttpRequests.post(getEndpoint() + "/api/download", HttpRequests.JSON_CONTENT_TYPE).connect(request -> {
+            request.write("{}");
+            ZipUtil.unpack(request.getInputStream(), expected, name -> name.substring(name.indexOf('/')));
+            return true;
+        });
+
+        File actual = temporaryFolder.newFolder();
+        QuarkusModelRegistry.zip(getEndpoint(), "MAVEN", "org.acme", "code-with-quarkus",
+                "1.0.0-SNAPSHOT", "org.acme.ExampleResource", "/example",
+                new QuarkusExtensionsModel("io.quarkus.platform:3.0", new ArrayList<>()), actual, true);
+
+        checkProject(actual);
+        for (String name : new String[] {"pom.xml", "src/main/java/org/acme/p7/Resource1007.java", ".mvn/wrapper/maven-wrapper.jar"}) {
+            assertArrayEquals(Files.readAllBytes(new File(expected, name).toPath()), Files.readAllBytes(new File(actual, name).toPath()));
+        }
+    }
+
+    @Test(expected = ProcessCanceledException.class)
+    public void testCancel() throws IOException {
+        ProgressIndicator indicator = new EmptyProgressIndicator();
+        indicator.cancel();
+        new QuarkusProjectUnpacker(Runnable::run).unpack(new ByteArrayInputStream(project), project.length,
+                temporaryFolder.getRoot().toPath(), indicator);
+    }
+
+    @Test(expected = IOException.class)
+    public void testEntryOutsideOfProject() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            zip.putNextEntry(new ZipEntry("code-with-quarkus/../../evil.txt"));
+            zip.write(1);
+        }
+        new QuarkusProjectUnpacker(Runnable::run).unpack(new ByteArrayInputStream(bytes.toByteArray()), -1,
+                temporaryFolder.newFolder().toPath(), new EmptyProgressIndicator());
+    }
+}
@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.intellij.quarkus.run;
+
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class QuarkusDevModeMonitorTest {
+
+    @Test
+    public void testDebugPortOpenFromOutput() throws IOException {
+        QuarkusDevModeMonitor monitor = new QuarkusDevModeMonitor(5005);
+        monitor.setWatched();
+        monitor.onText("[INFO] --- quarkus-maven-plugin:2.16.0.Final:dev (default-cli) @ code-with-quarkus ---\n");
+        monitor.onText("Listening for transport dt_socket at address: 50");
+        assertFalse(monitor.isDebugPortOpen());
+        monitor.onText("05\n");
+        assertTrue(monitor.isDebugPortOpen());
+        long start = System.currentTimeMillis();
+        monitor.waitForDebugPort(new EmptyProgressIndicator());
+        assertTrue(System.currentTimeMillis() - start < 100);
+    }
+
+    @Test
+    public void testOtherDebugPortIsIgnored() {
+        QuarkusDevModeMonitor monitor = new QuarkusDevModeMonitor(5005);
+        monitor.onText("Listening for transport dt_socket at address: 5006\n");
+        assertFalse(monitor.isDebugPortOpen());
+    }
+
+    @Test
+    public void testDebugPortPrefixIsIgnored() {
+        QuarkusDevModeMonitor monitor = new QuarkusDevModeMonitor(5005);
+        monitor.onText("Listening for transport dt_socket at address: 5005");
+        assertFalse(monitor.isDebugPortOpen());
+        monitor.onText("1\n");
+        assertFalse(monitor.isDebugPortOpen());
+    }
+
+    @Test
+    public void testDebugPortOpenFromPartialLine() {
+        QuarkusDevModeMonitor monitor = new QuarkusDevModeMonitor(5005);
+        monitor.onText("Listening for transport dt_socket at address: 5005 ");
+        assertTrue(monitor.isDebugPortOpen());
+    }
+
+    @Test(expected = IOException.class)
+    public void testWatchedTimeout() throws IOException {
+        int port;
+        try (ServerSocket server = new ServerSocket(0)) {
+            port = server.getLocalPort();
+        }
+        QuarkusDevModeMonitor monitor = new QuarkusDevModeMonitor(port, 60_000, 200);
+        monitor.setWatched();
+        monitor.waitForDebugPort(new EmptyProgressIndicator());
+    }
+
+    @Test
+    public void testDebugPortOpenFromProbe() throws IOException {
+        try (ServerSocket server = new ServerSocket(0)) {
+            QuarkusDevModeMonitor monitor = new QuarkusDevModeMonitor(server.getLocalPort());
+            monitor.waitForDebugPort(new EmptyProgressIndicator());
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testCanceled() throws IOException {
+        int port;
+        try (ServerSocket server = new ServerSocket(0)) {
+            port = server.getLocalPort();
+        }
+        EmptyProgressIndicator indicator = new EmptyProgressIndicator();
+        indicator.cancel();
+        new QuarkusDevModeMonitor(port).waitForDebugPort(indicator);
+    }
+}
@@ -66,4 +66,26 @@ public class QuarkusRunContextTest extends MavenModuleImportingTestCase {
 		saveFile(QuarkusConfigSourceProvider.APPLICATION_PROPERTIES_FILE, "quarkus.http.port=8081", javaProject);
 		assertEquals("http://localhost:8081/", context.getApplicationURL());
 	}
+
+	@Test
+	public void testEndpoint() throws Exception {
+		Module javaProject = createMavenModule(new File("projects/quarkus/projects/maven/microprofile-applicationpath"));
+
+		QuarkusRunContext context = new QuarkusRunContext(javaProject);
+
+		saveFile(QuarkusConfigSourceProvider.APPLICATION_PROPERTIES_FILE, "quarkus.http.host=0.0.0.0\nquarkus.http.root-path=root", javaProject);
+		QuarkusEndpoint endpoint = context.getEndpoint();
+		assertEquals("localhost", endpoint.getHost());
+		assertEquals(8080, endpoint.getPort());
+		assertEquals("/root/", endpoint.getRootPath());
+		assertEquals("/root/q/", endpoint.getNonApplicationRootPath());
+		assertSame(endpoint, context.getEndpoint());
+
+		saveFile(QuarkusConfigSourceProvider.APPLICATION_PROPERTIES_FILE, "quarkus.http.host=127.0.0.1\n%dev.quarkus.http.port=8081", javaProject);
+		endpoint = context.getEndpoint();
+		assertEquals("127.0.0.1", endpoint.getHost());
+		assertEquals(8081, endpoint.getPort());
+		assertEquals("http://127.0.0.1:8081/", endpoint.getApplicationURL());
+		assertEquals("http://127.0.0.1:8081/q/dev", endpoint.getDevUIURL());
+	}
 }
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.intellij.quarkus.tool;
+
+import com.redhat.devtools.intellij.quarkus.tool.DeploymentResolutionCache.ResolvedArtifact;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class DeploymentResolutionCacheTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testKeyIsIndependentOfOrder() {
+        assertEquals(DeploymentResolutionCache.getKey(Arrays.asList("io.quarkus:b:1.0", "io.quarkus:a:1.0"), Collections.singletonList("https://repo"), null),
+                DeploymentResolutionCache.getKey(Arrays.asList("io.quarkus:a:1.0", "io.quarkus:b:1.0"), Collections.singletonList("https://repo"), null));
+        assertNull(DeploymentResolutionCache.getKey(Collections.singletonList("io.quarkus:a:1.0-SNAPSHOT"), Collections.emptyList(), null));
+    }
+
+    @Test
+    public void testPersistedAcrossInstances() throws Exception {
+        File jar = folder.newFile("quarkus-arc-deployment-1.0.jar");
+        Path cacheFile = folder.getRoot().toPath().resolve("cache/deployment.json");
+        String key = DeploymentResolutionCache.getKey(Collections.singletonList("io.quarkus:quarkus-arc-deployment:1.0"),
+                Collections.singletonList("https://repo"), null);
+        List<ResolvedArtifact> artifacts = Collections.singletonList(new ResolvedArtifact("io.quarkus",
+                "quarkus-arc-deployment", "1.0", null, "compile", jar.getPath()));
+
+        DeploymentResolutionCache written = new DeploymentResolutionCache(cacheFile);
+        written.put(key, artifacts);
+        // Nothing is written before save
+        assertNull(new DeploymentResolutionCache(cacheFile).get(key));
+        written.save();
+
+        DeploymentResolutionCache cache = new DeploymentResolutionCache(cacheFile);
+        assertEquals(artifacts, cache.get(key));
+
+        // The entry is dropped when a file has been removed from the local repository
+        jar.delete();
+        assertNull(new DeploymentResolutionCache(cacheFile).get(key));
+        assertNull(cache.get(key));
+    }
+
+    @Test
+    public void testSnapshotArtifactsAreNotCached() throws Exception {
+        File jar = folder.newFile("quarkus-arc-deployment-1.0.jar");
+        File snapshotJar = folder.newFile("arc-processor-1.0-SNAPSHOT.jar");
+        DeploymentResolutionCache cache = new DeploymentResolutionCache(folder.getRoot().toPath().resolve("deployment.json"));
+        String key = DeploymentResolutionCache.getKey(Collections.singletonList("io.quarkus:quarkus-arc-deployment:1.0"),
+                Collections.singletonList("https://repo"), null);
+        // A release depending on a snapshot
+        cache.put(key, Arrays.asList(
+                new ResolvedArtifact("io.quarkus", "quarkus-arc-deployment", "1.0", null, "compile", jar.getPath()),
+                new ResolvedArtifact("io.quarkus.arc", "arc-processor", "1.0-SNAPSHOT", null, "compile", snapshotJar.getPath())));
+        assertNull(cache.get(key));
+    }
+}
@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2023 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.intellij.quarkus.tool;
+
+import com.redhat.devtools.intellij.quarkus.tool.QuarkusExtensionIndex.QuarkusExtensionDescriptor;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class QuarkusExtensionIndexTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testExtensionDescriptor() throws IOException {
+        File extension = createJar("quarkus-arc-1.0.jar", "deployment-artifact=io.quarkus:quarkus-arc-deployment:1.0\n" +
+                "provides-capabilities=io.quarkus.cdi, io.quarkus.arc\n");
+        File library = createJar("commons-io-2.11.jar", null);
+        Path indexFile = folder.getRoot().toPath().resolve("index/extensions.json");
+
+        QuarkusExtensionIndex index = new QuarkusExtensionIndex(indexFile, null);
+        QuarkusExtensionDescriptor descriptor = index.getDescriptor(extension);
+        assertNotNull(descriptor);
+        assertEquals("io.quarkus:quarkus-arc-deployment:1.0", descriptor.getDeploymentArtifact());
+        assertEquals(Arrays.asList("io.quarkus.cdi", "io.quarkus.arc"), descriptor.getCapabilities());
+        assertNull(index.getDescriptor(library));
+
+        // Reloaded from the disk
+        assertEquals("io.quarkus:quarkus-arc-deployment:1.0",
+                new QuarkusExtensionIndex(indexFile, null).getDescriptor(extension).getDeploymentArtifact());
+    }
+
+    @Test
+    public void testModifiedJarIsReindexed() throws IOException {
+        File jar = createJar("quarkus-arc-1.0.jar", "deployment-artifact=io.quarkus:quarkus-arc-deployment:1.0\n");
+        QuarkusExtensionIndex index = new QuarkusExtensionIndex(folder.getRoot().toPath().resolve("extensions.json"), null);
+        assertNotNull(index.getDescriptor(jar));
+
+        createJar("quarkus-arc-1.0.jar", null);
+        jar.setLastModified(jar.lastModified() + 10000);
+        assertNull(index.getDescriptor(jar));
+    }
+
+    @Test
+    public void testPendingChangesSavedOnDispose() throws IOException {
+        File extension = createJar("quarkus-arc-1.0.jar", "deployment-artifact=io.quarkus:quarkus-arc-deployment:1.0\n");
+        Path indexFile = folder.getRoot().toPath().resolve("extensions.json");
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            QuarkusExtensionIndex index = new QuarkusExtensionIndex(indexFile, executor);
+            assertNotNull(index.getDescriptor(extension));
+            // The save is delayed
+            assertFalse(indexFile.toFile().exists());
+
+            index.dispose();
+            assertTrue(indexFile.toFile().exists());
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals("io.quarkus:quarkus-arc-deployment:1.0",
+                new QuarkusExtensionIndex(indexFile, null).getDescriptor(extension).getDeploymentArtifact());
+    }
+
+    private File createJar(String name, String descriptor) throws IOException {
+        File jar = new File(folder.getRoot(), name);
+        try (JarOutputStream stream = new JarOutputStream(new FileOutputStream(jar))) {
+            stream.putNextEntry(new JarEntry(descriptor != null ? "META-INF/quarkus-extension.properties" : "META-INF/README"));
+            stream.write((descriptor != null ? descriptor : "readme").getBytes(StandardCharsets.UTF_8));
+        }
+        return jar;
+    }
+}
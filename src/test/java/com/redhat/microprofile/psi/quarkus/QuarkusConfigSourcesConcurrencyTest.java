@@ -0,0 +1,118 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* https://www.eclipse.org/legal/epl-v20.html
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.microprofile.psi.quarkus;
+
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.roots.ModuleRootManager;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.redhat.devtools.intellij.MavenModuleImportingTestCase;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project.MicroProfileConfigPropertyInformation;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProject;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager;
+import com.redhat.devtools.intellij.quarkus.psi.internal.providers.QuarkusConfigSourceProvider;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Concurrent reads of the properties and yaml config sources of a Quarkus
+ * project while their documents are changed.
+ */
+public class QuarkusConfigSourcesConcurrencyTest extends MavenModuleImportingTestCase {
+
+	private static final int READERS = 4;
+
+	private static final int CHANGES = 200;
+
+	@Test
+	public void testConcurrentReadsWhileDocumentsChange() throws Exception {
+		Module javaProject = createMavenModule(new File("projects/quarkus/projects/maven/hibernate-orm-resteasy-yaml"));
+		Document properties = getDocument(javaProject, QuarkusConfigSourceProvider.APPLICATION_PROPERTIES_FILE);
+		Document yaml = getDocument(javaProject, QuarkusConfigSourceProvider.APPLICATION_YAML_FILE);
+		setGeneration(properties, yaml, 0);
+		PsiMicroProfileProject project = PsiMicroProfileProjectManager.getInstance(myProject)
+				.getJDTMicroProfileProject(javaProject);
+
+		AtomicBoolean done = new AtomicBoolean();
+		ExecutorService executor = Executors.newFixedThreadPool(READERS);
+		try {
+			List<Future<String>> readers = new ArrayList<>();
+			for (int i = 0; i < READERS; i++) {
+				readers.add(executor.submit(() -> {
+					int lastGeneration = 0;
+					while (!done.get()) {
+						String[] values = ReadAction.compute(() -> new String[] {
+								project.getProperty("greeting.generation"),
+								project.getProperty("greeting.yaml-generation") });
+						if (values[0] == null || values[1] == null) {
+							return "Missing value: " + values[0] + ", " + values[1];
+						}
+						List<MicroProfileConfigPropertyInformation> infos = ReadAction
+								.compute(() -> project.getPropertyInformations("greeting.generation"));
+						if (infos.size() != 1 || infos.get(0).getValue() == null) {
+							return "Unexpected property informations: " + infos;
+						}
+						// A reader never goes back to a previous content of the documents
+						int generation = Math.min(Integer.parseInt(values[0]), Integer.parseInt(values[1]));
+						if (generation < lastGeneration) {
+							return "Stale value: " + generation + " < " + lastGeneration;
+						}
+						lastGeneration = generation;
+					}
+					return null;
+				}));
+			}
+			for (int generation = 1; generation <= CHANGES; generation++) {
+				setGeneration(properties, yaml, generation);
+			}
+			done.set(true);
+			for (Future<String> reader : readers) {
+				assertNull(reader.get(30, TimeUnit.SECONDS));
+			}
+		} finally {
+			done.set(true);
+			executor.shutdownNow();
+		}
+		assertEquals(String.valueOf(CHANGES), project.getProperty("greeting.generation"));
+		assertEquals(String.valueOf(CHANGES), project.getProperty("greeting.yaml-generation"));
+		assertEquals("quarkus_test", project.getProperty("quarkus.datasource.username"));
+	}
+
+	private static Document getDocument(Module javaProject, String name) {
+		return ReadAction.compute(() -> {
+			for (VirtualFile sourceRoot : ModuleRootManager.getInstance(javaProject).getSourceRoots(false)) {
+				VirtualFile file = sourceRoot.findFileByRelativePath(name);
+				if (file != null) {
+					return FileDocumentManager.getInstance().getDocument(file);
+				}
+			}
+			return null;
+		});
+	}
+
+	private void setGeneration(Document properties, Document yaml, int generation) {
+		ApplicationManager.getApplication().invokeAndWait(() -> WriteCommandAction.runWriteCommandAction(myProject, () -> {
+			properties.setText("quarkus.datasource.username=quarkus_test\ngreeting.generation=" + generation);
+			yaml.setText("greeting:\n  yaml-generation: " + generation);
+		}));
+	}
+}
@@ -19,7 +19,15 @@ import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.io.StringReader;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 import com.redhat.devtools.intellij.quarkus.psi.internal.utils.YamlUtils;
@@ -75,7 +83,136 @@ public class YamlUtilsTest {
 		assertEquals("123", properties.getProperty("quarkus.http.port.unknown_property"));
 	}
 
+	@Test
+	public void sequencesAndScalars() {
+		Properties properties = loadYamlAsProperties("a: [1, 2, 3]\n" + //
+				"b:\n" + //
+				" - x\n" + //
+				" - {c: 1, d: 2}\n" + //
+				" - [y, z]\n" + //
+				"c: []\n" + //
+				"d:\n" + //
+				"e: 0x1F\n" + //
+				"f: yes\n" + //
+				"g: \"0x1F\"\n" + //
+				"h: 1_000");
+		assertEquals("1,2,3", properties.getProperty("a"));
+		assertEquals("x,1,y,z", properties.getProperty("b"));
+		assertEquals("", properties.getProperty("c"));
+		assertEquals("", properties.getProperty("d"));
+		assertEquals("31", properties.getProperty("e"));
+		assertEquals("true", properties.getProperty("f"));
+		assertEquals("0x1F", properties.getProperty("g"));
+		assertEquals("1000", properties.getProperty("h"));
+	}
+
+	@Test
+	public void anchorsAndMergeKeys() {
+		Properties properties = loadYamlAsProperties("base: &base\n" + //
+				"  x: 1\n" + //
+				"  y: 2\n" + //
+				"dev:\n" + //
+				"  <<: *base\n" + //
+				"  y: 3\n" + //
+				"prod:\n" + //
+				"  y: 4\n" + //
+				"  <<: *base\n" + //
+				"other: *base");
+		assertEquals("1", properties.getProperty("dev.x"));
+		assertEquals("3", properties.getProperty("dev.y"));
+		assertEquals("1", properties.getProperty("prod.x"));
+		assertEquals("4", properties.getProperty("prod.y"));
+		assertEquals("2", properties.getProperty("other.y"));
+		assertEquals(8, properties.size());
+	}
+
+	@Test
+	public void positions() {
+		List<String> positions = new ArrayList<>();
+		YamlUtils.flatten(new StringReader("quarkus:\n" + //
+				"  http:\n" + //
+				"    port: 8080\n" + //
+				"  application:\n" + //
+				"    name: name"), (key, value, line, column) -> positions.add(key + "@" + line + ":" + column));
+		assertEquals(Arrays.asList("quarkus.http.port@2:4", "quarkus.application.name@4:4"), positions);
+	}
 
+	@Test
+	public void largeDocument() {
+		// 10k lines with 3 profiles
+		StringBuilder yaml = new StringBuilder();
+		for (String profile : Arrays.asList("\"%dev\"", "\"%test\"", "\"%prod\"")) {
+			yaml.append(profile).append(":\n");
+			for (int i = 0; i < 555; i++) {
+				yaml.append("  ext").append(i).append(":\n");
+				yaml.append("    enabled: true\n");
+				yaml.append("    port: ").append(8000 + i).append('\n');
+				yaml.append("    hosts: [a").append(i).append(", b").append(i).append("]\n");
+				yaml.append("    name: \"extension ").append(i).append("\"\n");
+				yaml.append("    ~: ").append(i).append('\n');
+			}
+		}
+		String content = yaml.toString();
+
+		// Same properties as the object graph + flattenMap path
+		Properties expected = loadYamlAsGraphProperties(content);
+		assertEquals(3 * 555 * 5, expected.size());
+		assertEquals(expected, loadYamlAsProperties(content));
+
+		// Every key is reported once with the position of its last segment
+		Map<String, String> positions = new HashMap<>();
+		YamlUtils.flatten(new StringReader(content),
+				(key, value, line, column) -> assertNull(key, positions.put(key, line + ":" + column)));
+		assertEquals(expected.keySet(), positions.keySet());
+		assertEquals("2:4", positions.get("%dev.ext0.enabled"));
+		assertEquals("5:4", positions.get("%dev.ext0.name"));
+		// The key of the null segment '~'
+		assertEquals("6:4", positions.get("%dev.ext0"));
+		assertEquals("3333:4", positions.get("%test.ext0.enabled"));
+	}
+
+	/**
+	 * Flatten the Yaml content by loading the object graph of the document and
+	 * flattening it with the flattenMap algorithm YamlUtils used before streaming
+	 * the SnakeYAML events.
+	 */
+	@SuppressWarnings("unchecked")
+	private static Properties loadYamlAsGraphProperties(String yamlContent) {
+		Properties properties = new Properties();
+		Object yamlDocument = new Yaml().load(yamlContent);
+		if (yamlDocument instanceof Map) {
+			properties.putAll(flattenMap((Map<String, Object>) yamlDocument));
+		}
+		return properties;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, String> flattenMap(Map<String, Object> sourceMap) {
+		Map<String, String> resultMap = new LinkedHashMap<>();
+		for (Map.Entry<String, Object> sourceMapEntry : sourceMap.entrySet()) {
+			String key = sourceMapEntry.getKey();
+			Object value = sourceMapEntry.getValue();
+			if (value instanceof Map) {
+				Map<String, String> valueMap = flattenMap((Map<String, Object>) value);
+				for (Map.Entry<String, String> valueMapEntry : valueMap.entrySet()) {
+					String subKey = valueMapEntry.getKey();
+					resultMap.put(subKey != null ? key + "." + subKey : key, valueMapEntry.getValue());
+				}
+			} else if (value instanceof Collection) {
+				StringBuilder joiner = new StringBuilder();
+				String separator = "";
+				for (Object element : ((Collection<?>) value)) {
+					Map<String, String> subMap = flattenMap(Collections.singletonMap(key, element));
+					joiner.append(separator).append(subMap.entrySet().iterator().next().getValue());
+					separator = ",";
+				}
+				resultMap.put(key, joiner.toString());
+			} else {
+				resultMap.put(key, value != null ? value.toString() : "");
+			}
+		}
+		return resultMap;
+	}
 
 	private static Properties loadYamlAsProperties(String yamlContent) {
 		InputStream input = new ByteArrayInputStream(yamlContent.getBytes());